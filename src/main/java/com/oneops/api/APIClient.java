@@ -1,11 +1,13 @@
 package com.oneops.api;
 
-import org.apache.commons.codec.binary.Base64;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
-import com.jayway.restassured.RestAssured;
-import com.jayway.restassured.config.SSLConfig;
-import com.jayway.restassured.specification.RequestSpecification;
+import com.oneops.api.async.Executions;
+import com.oneops.api.async.Poller;
 import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.Transports;
 
 public abstract class APIClient {
 	
@@ -24,21 +26,31 @@ public abstract class APIClient {
 		}
 	}
 	
-	protected RequestSpecification createRequest() {
-		RequestSpecification rs = RestAssured.given();
-		String basicAuth = "Basic " + new String(Base64.encodeBase64(instance.getAuthtoken().getBytes()));
-		rs.header("Authorization", basicAuth);
-		rs.header("User-Agent", "OneOpsAPIClient");
-		rs.header("Accept", "application/json");
-		rs.header("Content-Type", "application/json");
-		String baseUri = instance.getEndpoint();
-		if(instance.getOrgname() != null) {
-			baseUri += instance.getOrgname();
-		}
-		rs.baseUri(baseUri);
-		rs.config(RestAssured.config().sslConfig(
-				new SSLConfig().relaxedHTTPSValidation()));
-		return rs;
+	/**
+	 * Request bound to the transport of the instance. Subclasses written against earlier versions, where this
+	 * returned a RestAssured RequestSpecification, need to move to {@link OneOpsRequest}, which has the same
+	 * header, query parameter, body and get/post/put/delete calls
+	 */
+	protected OneOpsRequest createRequest() {
+		return Transports.createRequest(instance);
+	}
+	
+	/**
+	 * Runs bulk calls concurrently on the executor of the instance and waits for all of them
+	 * 
+	 * @param calls
+	 * @return results keyed like the calls
+	 * @throws OneOpsClientAPIException first failure of the calls
+	 */
+	protected <K, V> Map<K, V> invokeAll(Map<K, ? extends Callable<V>> calls) throws OneOpsClientAPIException {
+		return Executions.invokeAll(instance, calls);
+	}
+	
+	/**
+	 * Poller of the long running operations of this client, checks run on the executor of the instance
+	 */
+	protected Poller poller() {
+		return Poller.forInstance(instance);
 	}
 	
 	
@@ -0,0 +1,17 @@
+package com.oneops.api;
+
+/**
+ * Threads running the bulk and asynchronous calls of an {@link OOInstance}
+ */
+public enum ExecutionMode {
+
+	/**
+	 * Shared bounded pool of platform threads, each call holding one while in flight
+	 */
+	PLATFORM_THREADS,
+
+	/**
+	 * One virtual thread per call, on JVMs supporting them; platform threads otherwise
+	 */
+	VIRTUAL_THREADS
+}
@@ -1,6 +1,17 @@
 package com.oneops.api;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.oneops.api.async.PollPolicy;
+import com.oneops.api.transport.ConditionalTransport;
+import com.oneops.api.transport.OneOpsTransport;
+import com.oneops.api.transport.RetryPolicy;
 
 @JsonIgnoreProperties(ignoreUnknown=true)
 public class OOInstance {
@@ -15,6 +26,43 @@ public class OOInstance {
 	private String component;
 	private String comment;
 	private boolean gzipEnabled = true;
+	private int maxConnectionsPerRoute = 20;
+	private int maxConnectionsTotal = 200;
+	private int idleConnectionTimeout = 60;
+	private int requestCompressionThreshold = -1;
+	private boolean requestCoalescingEnabled = true;
+	private boolean concurrencyLimitEnabled = false;
+	private int initialConcurrencyLimit = 8;
+	private int maxConcurrencyLimit = 64;
+	private RetryPolicy retryPolicy;
+	private PollPolicy pollPolicy = new PollPolicy();
+	private PollPolicy deploymentPollPolicy = new PollPolicy(2000, 30000, 0);
+	private PollPolicy procedurePollPolicy = new PollPolicy(1000, 15000, 0);
+	private String timingStoreFile;
+	private boolean hedgingEnabled = false;
+	private int hedgingBudgetPercent = 5;
+	private long hedgingMinDelayMillis = 20;
+	private boolean metricsEnabled = true;
+	private boolean jmxEnabled = false;
+	private boolean flightRecorderEventsEnabled = false;
+	private boolean lazyAttributesEnabled = false;
+	private boolean stringInterningEnabled = false;
+	private boolean attributeSharingEnabled = true;
+	private boolean parallelDecodingEnabled = false;
+	private long parallelDecodingThresholdBytes = 1024 * 1024;
+	private boolean responseCacheEnabled = false;
+	private long responseCacheTtlMillis = 30000;
+	private Map<String, Long> responseCacheRouteTtlMillis = new HashMap<String, Long>();
+	private long responseCacheMaxBytes = 32 * 1024 * 1024;
+	private boolean conditionalGetEnabled = false;
+	private Set<String> conditionalGetRoutes = new HashSet<String>(ConditionalTransport.DEFAULT_ROUTES);
+	private long conditionalGetMaxBytes = 16 * 1024 * 1024;
+	private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+	private int bulkParallelism = 0;
+	@JsonIgnore
+	private OneOpsTransport transport;
+	@JsonIgnore
+	private ExecutorService executor;
 	
 	public String getName() {
 		return name;
@@ -76,4 +124,322 @@ public class OOInstance {
 	public void setGzipEnabled(boolean gzipEnabled) {
 		this.gzipEnabled = gzipEnabled;
 	}
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+	}
+	public int getMaxConnectionsTotal() {
+		return maxConnectionsTotal;
+	}
+	public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+		this.maxConnectionsTotal = maxConnectionsTotal;
+	}
+	/**
+	 * Seconds a pooled connection may stay idle before it is evicted
+	 */
+	public int getIdleConnectionTimeout() {
+		return idleConnectionTimeout;
+	}
+	public void setIdleConnectionTimeout(int idleConnectionTimeout) {
+		this.idleConnectionTimeout = idleConnectionTimeout;
+	}
+	/**
+	 * Request bodies of at least this many bytes are sent gzip encoded, -1 (default) to never compress
+	 */
+	public int getRequestCompressionThreshold() {
+		return requestCompressionThreshold;
+	}
+	public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+		this.requestCompressionThreshold = requestCompressionThreshold;
+	}
+	/**
+	 * Whether identical concurrent GET calls share a single call to the server
+	 */
+	public boolean isRequestCoalescingEnabled() {
+		return requestCoalescingEnabled;
+	}
+	public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+		this.requestCoalescingEnabled = requestCoalescingEnabled;
+	}
+	/**
+	 * Whether calls in flight are bounded by adaptive (AIMD) limits per endpoint and per org
+	 */
+	public boolean isConcurrencyLimitEnabled() {
+		return concurrencyLimitEnabled;
+	}
+	public void setConcurrencyLimitEnabled(boolean concurrencyLimitEnabled) {
+		this.concurrencyLimitEnabled = concurrencyLimitEnabled;
+	}
+	/**
+	 * Initial limit of the endpoint and org limiters; the limiters being shared, only the settings of the
+	 * first instance of an endpoint, or of an org, apply
+	 */
+	public int getInitialConcurrencyLimit() {
+		return initialConcurrencyLimit;
+	}
+	public void setInitialConcurrencyLimit(int initialConcurrencyLimit) {
+		this.initialConcurrencyLimit = initialConcurrencyLimit;
+	}
+	/**
+	 * Max limit of the endpoint and org limiters, from the first instance creating them as well
+	 */
+	public int getMaxConcurrencyLimit() {
+		return maxConcurrencyLimit;
+	}
+	public void setMaxConcurrencyLimit(int maxConcurrencyLimit) {
+		this.maxConcurrencyLimit = maxConcurrencyLimit;
+	}
+	/**
+	 * Retries and circuit breaker applied to the calls, none when not set
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+	/**
+	 * Delays and timeout of the polling of long running operations, e.g. the plan generation of commitEnvironment
+	 */
+	public PollPolicy getPollPolicy() {
+		return pollPolicy;
+	}
+	public void setPollPolicy(PollPolicy pollPolicy) {
+		this.pollPolicy = pollPolicy;
+	}
+	/**
+	 * Delays between the status polls of the deployments watched by a DeploymentWatcher, from 2 s while the
+	 * deployment progresses up to 30 s, with no timeout by default
+	 */
+	public PollPolicy getDeploymentPollPolicy() {
+		return deploymentPollPolicy;
+	}
+	public void setDeploymentPollPolicy(PollPolicy deploymentPollPolicy) {
+		this.deploymentPollPolicy = deploymentPollPolicy;
+	}
+	/**
+	 * Delays between the status polls of the procedures watched by a ProcedureWatcher, from 1 s while the
+	 * procedure or one of its actions progresses up to 15 s, with no timeout by default
+	 */
+	public PollPolicy getProcedurePollPolicy() {
+		return procedurePollPolicy;
+	}
+	public void setProcedurePollPolicy(PollPolicy procedurePollPolicy) {
+		this.procedurePollPolicy = procedurePollPolicy;
+	}
+	/**
+	 * File recording the durations of the deployments and procedures watched, used to predict the next ones
+	 * and to poll them less; null, the default, to neither record nor predict
+	 */
+	public String getTimingStoreFile() {
+		return timingStoreFile;
+	}
+	public void setTimingStoreFile(String timingStoreFile) {
+		this.timingStoreFile = timingStoreFile;
+	}
+	/**
+	 * Whether a GET call still waiting after the 95th percentile of the recent latencies is duplicated,
+	 * the first response winning
+	 */
+	public boolean isHedgingEnabled() {
+		return hedgingEnabled;
+	}
+	public void setHedgingEnabled(boolean hedgingEnabled) {
+		this.hedgingEnabled = hedgingEnabled;
+	}
+	/**
+	 * Maximum share of the GET calls that may be duplicated
+	 */
+	public int getHedgingBudgetPercent() {
+		return hedgingBudgetPercent;
+	}
+	public void setHedgingBudgetPercent(int hedgingBudgetPercent) {
+		this.hedgingBudgetPercent = hedgingBudgetPercent;
+	}
+	public long getHedgingMinDelayMillis() {
+		return hedgingMinDelayMillis;
+	}
+	public void setHedgingMinDelayMillis(long hedgingMinDelayMillis) {
+		this.hedgingMinDelayMillis = hedgingMinDelayMillis;
+	}
+	/**
+	 * Whether latency, payload sizes and statuses of the calls are recorded per route, see
+	 * {@link com.oneops.api.transport.Transports#getMetrics(OOInstance)}
+	 */
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+	public void setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+	}
+	/**
+	 * Whether the call metrics are exposed as an MBean of the platform MBean server
+	 */
+	public boolean isJmxEnabled() {
+		return jmxEnabled;
+	}
+	public void setJmxEnabled(boolean jmxEnabled) {
+		this.jmxEnabled = jmxEnabled;
+	}
+	/**
+	 * Whether calls and polling waits emit Java Flight Recorder events, when the JVM supports them
+	 */
+	public boolean isFlightRecorderEventsEnabled() {
+		return flightRecorderEventsEnabled;
+	}
+	public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+		this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+	}
+	/**
+	 * Whether the ciAttributes and attrProps of the decoded CIs are kept as raw JSON until first accessed
+	 */
+	public boolean isLazyAttributesEnabled() {
+		return lazyAttributesEnabled;
+	}
+	public void setLazyAttributesEnabled(boolean lazyAttributesEnabled) {
+		this.lazyAttributesEnabled = lazyAttributesEnabled;
+	}
+	/**
+	 * Whether repeated class names, namespaces, implementations and users of the decoded models share a single
+	 * string per value within this instance
+	 */
+	public boolean isStringInterningEnabled() {
+		return stringInterningEnabled;
+	}
+	public void setStringInterningEnabled(boolean stringInterningEnabled) {
+		this.stringInterningEnabled = stringInterningEnabled;
+	}
+	/**
+	 * Whether decoded CI attribute maps share their common values with the maps of the same keys within this
+	 * instance, keeping only their differing values; maps are copied on their first write
+	 */
+	public boolean isAttributeSharingEnabled() {
+		return attributeSharingEnabled;
+	}
+	public void setAttributeSharingEnabled(boolean attributeSharingEnabled) {
+		this.attributeSharingEnabled = attributeSharingEnabled;
+	}
+	/**
+	 * Whether the elements of large list responses are decoded in parallel on a shared fork-join pool
+	 */
+	public boolean isParallelDecodingEnabled() {
+		return parallelDecodingEnabled;
+	}
+	public void setParallelDecodingEnabled(boolean parallelDecodingEnabled) {
+		this.parallelDecodingEnabled = parallelDecodingEnabled;
+	}
+	/**
+	 * Minimum decoded size of the list responses decoded in parallel; smaller ones are decoded on the calling thread
+	 */
+	public long getParallelDecodingThresholdBytes() {
+		return parallelDecodingThresholdBytes;
+	}
+	public void setParallelDecodingThresholdBytes(long parallelDecodingThresholdBytes) {
+		this.parallelDecodingThresholdBytes = parallelDecodingThresholdBytes;
+	}
+	/**
+	 * Whether successful GET responses are cached by this instance; writes invalidate the cached responses
+	 * of their namespace
+	 */
+	public boolean isResponseCacheEnabled() {
+		return responseCacheEnabled;
+	}
+	public void setResponseCacheEnabled(boolean responseCacheEnabled) {
+		this.responseCacheEnabled = responseCacheEnabled;
+	}
+	/**
+	 * Time to live of the cached responses of the routes without their own, 0 to only cache those routes
+	 */
+	public long getResponseCacheTtlMillis() {
+		return responseCacheTtlMillis;
+	}
+	public void setResponseCacheTtlMillis(long responseCacheTtlMillis) {
+		this.responseCacheTtlMillis = responseCacheTtlMillis;
+	}
+	/**
+	 * Time to live of the cached responses per route template, e.g. /clouds/{cloud}/zones; 0 never caches the route
+	 */
+	public Map<String, Long> getResponseCacheRouteTtlMillis() {
+		return responseCacheRouteTtlMillis;
+	}
+	public void setResponseCacheRouteTtlMillis(Map<String, Long> responseCacheRouteTtlMillis) {
+		this.responseCacheRouteTtlMillis = responseCacheRouteTtlMillis;
+	}
+	/**
+	 * Bound on the total size of the cached response bodies
+	 */
+	public long getResponseCacheMaxBytes() {
+		return responseCacheMaxBytes;
+	}
+	public void setResponseCacheMaxBytes(long responseCacheMaxBytes) {
+		this.responseCacheMaxBytes = responseCacheMaxBytes;
+	}
+	/**
+	 * Whether GET calls of rarely changing resources send the validators of their last response and reuse it,
+	 * decoded objects included, when answered 304; those objects are shared and must not be modified
+	 */
+	public boolean isConditionalGetEnabled() {
+		return conditionalGetEnabled;
+	}
+	public void setConditionalGetEnabled(boolean conditionalGetEnabled) {
+		this.conditionalGetEnabled = conditionalGetEnabled;
+	}
+	/**
+	 * Route templates revalidated with conditional GET calls, clouds, zones, cloud services, teams, organizations
+	 * and design platforms by default
+	 */
+	public Set<String> getConditionalGetRoutes() {
+		return conditionalGetRoutes;
+	}
+	public void setConditionalGetRoutes(Set<String> conditionalGetRoutes) {
+		this.conditionalGetRoutes = conditionalGetRoutes;
+	}
+	/**
+	 * Bound on the total size of the response bodies stored for revalidation
+	 */
+	public long getConditionalGetMaxBytes() {
+		return conditionalGetMaxBytes;
+	}
+	public void setConditionalGetMaxBytes(long conditionalGetMaxBytes) {
+		this.conditionalGetMaxBytes = conditionalGetMaxBytes;
+	}
+	/**
+	 * Transport used by all resource clients of this instance; the pooled RestAssured transport when not set
+	 */
+	public OneOpsTransport getTransport() {
+		return transport;
+	}
+	public void setTransport(OneOpsTransport transport) {
+		this.transport = transport;
+	}
+	/**
+	 * Threads running bulk and asynchronous calls when no executor is set
+	 */
+	public ExecutionMode getExecutionMode() {
+		return executionMode;
+	}
+	public void setExecutionMode(ExecutionMode executionMode) {
+		this.executionMode = executionMode;
+	}
+	/**
+	 * Maximum number of calls of a bulk method running at once, the calling thread included; 0 (default) for no
+	 * limit on virtual threads and 8 on platform threads
+	 */
+	public int getBulkParallelism() {
+		return bulkParallelism;
+	}
+	public void setBulkParallelism(int bulkParallelism) {
+		this.bulkParallelism = bulkParallelism;
+	}
+	/**
+	 * Executor running bulk and asynchronous calls, overriding the execution mode
+	 */
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+	public void setExecutor(ExecutorService executor) {
+		this.executor = executor;
+	}
 }
@@ -0,0 +1,110 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.jayway.restassured.path.json.JsonPath;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Account;
+import com.oneops.api.resource.model.Organization;
+import com.oneops.api.resource.model.User;
+
+/**
+ * Asynchronous counterpart of {@link Account}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncAccount extends AsyncClient {
+
+	private final Account account;
+
+	public AsyncAccount(OOInstance instance) throws OneOpsClientAPIException {
+		this(instance, Executions.forInstance(instance));
+	}
+
+	public AsyncAccount(OOInstance instance, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.account = new Account(instance);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Account getClient() {
+		return account;
+	}
+
+	/**
+	 * Asynchronous {@link Account#listOrganizations()}
+	 */
+	public ListenableFuture<List<Organization>> listOrganizations() {
+		return submit(new Callable<List<Organization>>() {
+			@Override
+			public List<Organization> call() throws OneOpsClientAPIException {
+				return account.listOrganizations();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Account#getOrganization(String)}
+	 */
+	public ListenableFuture<Organization> getOrganization(final String organizationName) {
+		return submit(new Callable<Organization>() {
+			@Override
+			public Organization call() throws OneOpsClientAPIException {
+				return account.getOrganization(organizationName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Account#createOrganization(String)}
+	 */
+	public ListenableFuture<Organization> createOrganization(final String organizationName) {
+		return submit(new Callable<Organization>() {
+			@Override
+			public Organization call() throws OneOpsClientAPIException {
+				return account.createOrganization(organizationName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Account#deleteOrganization(String)}
+	 */
+	public ListenableFuture<Organization> deleteOrganization(final String organizationName) {
+		return submit(new Callable<Organization>() {
+			@Override
+			public Organization call() throws OneOpsClientAPIException {
+				return account.deleteOrganization(organizationName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Account#listEnvironmentProfiles()}
+	 */
+	public ListenableFuture<JsonPath> listEnvironmentProfiles() {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return account.listEnvironmentProfiles();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Account#getAccount()}
+	 */
+	public ListenableFuture<User> getAccount() {
+		return submit(new Callable<User>() {
+			@Override
+			public User call() throws OneOpsClientAPIException {
+				return account.getAccount();
+			}
+		});
+	}
+}
@@ -0,0 +1,158 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Assembly;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.Team;
+
+/**
+ * Asynchronous counterpart of {@link Assembly}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncAssembly extends AsyncClient {
+
+	private final Assembly assembly;
+
+	public AsyncAssembly(OOInstance instance) throws OneOpsClientAPIException {
+		this(instance, Executions.forInstance(instance));
+	}
+
+	public AsyncAssembly(OOInstance instance, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.assembly = new Assembly(instance);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Assembly getClient() {
+		return assembly;
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#getAssembly(String)}
+	 */
+	public ListenableFuture<CiResource> getAssembly(final String assemblyName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.getAssembly(assemblyName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#listAssemblies()}
+	 */
+	public ListenableFuture<List<CiResource>> listAssemblies() {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return assembly.listAssemblies();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#createAssembly(String, String, String, String)}
+	 */
+	public ListenableFuture<CiResource> createAssembly(final String assemblyName, final String ownerEmail, final String comments, final String description) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.createAssembly(assemblyName, ownerEmail, comments, description);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#createAssembly(String, String, String, String, Map, List)}
+	 */
+	public ListenableFuture<CiResource> createAssembly(final String assemblyName, final String ownerEmail, final String comments, final String description, final Map<String, String> tags, final List<String> marketSite) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.createAssembly(assemblyName, ownerEmail, comments, description, tags, marketSite);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#cloneAssembly(String, String, String, String, String)}
+	 */
+	public ListenableFuture<CiResource> cloneAssembly(final String fromOrg, final String toOrg, final String fromAssembly, final String toAssembly, final String description) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.cloneAssembly(fromOrg, toOrg, fromAssembly, toAssembly, description);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#updateAssembly(String, String, String, Map, List)}
+	 */
+	public ListenableFuture<CiResource> updateAssembly(final String assemblyName, final String ownerEmail, final String description, final Map<String, String> tags, final List<String> marketSite) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.updateAssembly(assemblyName, ownerEmail, description, tags, marketSite);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#deleteAssembly(String)}
+	 */
+	public ListenableFuture<CiResource> deleteAssembly(final String assemblyName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return assembly.deleteAssembly(assemblyName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#addTeamsByAssembly(String, String, List)}
+	 */
+	public ListenableFuture<List<CiResource>> addTeamsByAssembly(final String orgName, final String assemblyName, final List<String> teams) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return assembly.addTeamsByAssembly(orgName, assemblyName, teams);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#listOrganizationTeams(String)}
+	 */
+	public ListenableFuture<List<Team>> listOrganizationTeams(final String orgName) {
+		return submit(new Callable<List<Team>>() {
+			@Override
+			public List<Team> call() throws OneOpsClientAPIException {
+				return assembly.listOrganizationTeams(orgName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Assembly#listAssemblyTeams(String)}
+	 */
+	public ListenableFuture<List<Team>> listAssemblyTeams(final String assemblyName) {
+		return submit(new Callable<List<Team>>() {
+			@Override
+			public List<Team> call() throws OneOpsClientAPIException {
+				return assembly.listAssemblyTeams(assemblyName);
+			}
+		});
+	}
+}
@@ -0,0 +1,61 @@
+package com.oneops.api.async;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Base of the asynchronous resource clients. Calls are submitted to the executor of the client and
+ * complete the returned future with the result of the blocking call, or with its exception.
+ *
+ * Each call holds a thread of the executor while its request is in flight, so the executor bounds the number
+ * of calls in flight: {@link #SHARED_THREADS} on the shared pool, one per call on virtual threads
+ * ({@link com.oneops.api.ExecutionMode#VIRTUAL_THREADS}). Long waits, e.g. for a deployment plan or a
+ * deployment, hold no thread between their polls.
+ */
+public abstract class AsyncClient {
+
+	/**
+	 * Number of threads of the shared pool, calls beyond it are queued
+	 */
+	public static final int SHARED_THREADS = 64;
+
+	private static final ExecutorService SHARED_EXECUTOR = createSharedExecutor();
+
+	private final ListeningExecutorService executor;
+
+	protected AsyncClient(ExecutorService executor) {
+		if(executor == null) {
+			throw new IllegalArgumentException("Missing executor to run OneOps API calls");
+		}
+		this.executor = MoreExecutors.listeningDecorator(executor);
+	}
+
+	/**
+	 * Pool of {@link #SHARED_THREADS} daemon platform threads, the executor of {@link com.oneops.api.ExecutionMode#PLATFORM_THREADS}
+	 *
+	 * @return
+	 */
+	public static ExecutorService sharedExecutor() {
+		return SHARED_EXECUTOR;
+	}
+
+	protected <T> ListenableFuture<T> submit(Callable<T> call) {
+		return executor.submit(call);
+	}
+
+	private static ExecutorService createSharedExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(SHARED_THREADS, SHARED_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactoryBuilder().setNameFormat("oneops-async-%d").setDaemon(true).build());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -0,0 +1,182 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Cloud;
+import com.oneops.api.resource.model.CiResource;
+
+/**
+ * Asynchronous counterpart of {@link Cloud}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncCloud extends AsyncClient {
+
+	private final Cloud cloud;
+
+	public AsyncCloud(OOInstance instance) throws OneOpsClientAPIException {
+		this(instance, Executions.forInstance(instance));
+	}
+
+	public AsyncCloud(OOInstance instance, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.cloud = new Cloud(instance);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Cloud getClient() {
+		return cloud;
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#getCloud(String)}
+	 */
+	public ListenableFuture<CiResource> getCloud(final String cloudName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return cloud.getCloud(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listZones(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listZones(final String cloudName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return cloud.listZones(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listClouds()}
+	 */
+	public ListenableFuture<List<CiResource>> listClouds() {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return cloud.listClouds();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listCloudServices(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listCloudServices(final String cloudName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return cloud.listCloudServices(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#getCloudService(String, String)}
+	 */
+	public ListenableFuture<CiResource> getCloudService(final String cloudName, final String serviceName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return cloud.getCloudService(cloudName, serviceName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#updateCloudService(String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updateCloudService(final String cloudName, final String serviceName, final Map<String, String> attr) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return cloud.updateCloudService(cloudName, serviceName, attr);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#addCloudService(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> addCloudService(final String cloudName, final String serviceType, final String serviceName, final Map<String, String> attr) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return cloud.addCloudService(cloudName, serviceType, serviceName, attr);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listCloudDifferences(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listCloudDifferences(final String cloudName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return cloud.listCloudDifferences(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listAvailableCloudServices(String)}
+	 */
+	public ListenableFuture<Map<String, List<CiResource>>> listAvailableCloudServices(final String cloudName) {
+		return submit(new Callable<Map<String, List<CiResource>>>() {
+			@Override
+			public Map<String, List<CiResource>> call() throws OneOpsClientAPIException {
+				return cloud.listAvailableCloudServices(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#getCloudComputeServices(String)}
+	 */
+	public ListenableFuture<CiResource> getCloudComputeServices(final String cloudName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return cloud.getCloudComputeServices(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#listCloudVariables(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listCloudVariables(final String cloudName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return cloud.listCloudVariables(cloudName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Cloud#addMissingOffering(String, String)}
+	 */
+	public ListenableFuture<Void> addMissingOffering(final String cloudName, final String serviceName) {
+		return submit(new Callable<Void>() {
+			@Override
+			public Void call() throws OneOpsClientAPIException {
+				cloud.addMissingOffering(cloudName, serviceName);
+				return null;
+			}
+		});
+	}
+}
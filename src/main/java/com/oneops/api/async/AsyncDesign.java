@@ -0,0 +1,435 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.jayway.restassured.path.json.JsonPath;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Design;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.Release;
+
+/**
+ * Asynchronous counterpart of {@link Design}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncDesign extends AsyncClient {
+
+	private final Design design;
+
+	public AsyncDesign(OOInstance instance, String assemblyName) throws OneOpsClientAPIException {
+		this(instance, assemblyName, Executions.forInstance(instance));
+	}
+
+	public AsyncDesign(OOInstance instance, String assemblyName, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.design = new Design(instance, assemblyName);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Design getClient() {
+		return design;
+	}
+
+	/**
+	 * Asynchronous {@link Design#getPlatform(String)}
+	 */
+	public ListenableFuture<CiResource> getPlatform(final String platformName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.getPlatform(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listPlatforms()}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatforms() {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return design.listPlatforms();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#createPlatform(String, String, String, String, String, String)}
+	 */
+	public ListenableFuture<CiResource> createPlatform(final String platformName, final String packname, final String packversion, final String packsource, final String comments, final String description) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.createPlatform(platformName, packname, packversion, packsource, comments, description);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#commitDesign()}
+	 */
+	public ListenableFuture<Release> commitDesign() {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return design.commitDesign();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#getLatestRelease()}
+	 */
+	public ListenableFuture<Release> getLatestRelease() {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return design.getLatestRelease();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#commitPlatform(String)}
+	 */
+	public ListenableFuture<JsonPath> commitPlatform(final String platformName) {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return design.commitPlatform(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updatePlatformLinks(String, List)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformLinks(final String fromPlatformName, final List<String> toPlatformNames) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.updatePlatformLinks(fromPlatformName, toPlatformNames);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#deletePlatform(String)}
+	 */
+	public ListenableFuture<CiResource> deletePlatform(final String platformName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.deletePlatform(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listPlatformComponents(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatformComponents(final String platformName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return design.listPlatformComponents(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listAllPlatformComponents()}
+	 */
+	public ListenableFuture<Map<String, List<CiResource>>> listAllPlatformComponents() {
+		return submit(new Callable<Map<String, List<CiResource>>>() {
+			@Override
+			public Map<String, List<CiResource>> call() throws OneOpsClientAPIException {
+				return design.listAllPlatformComponents();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#getPlatformComponent(String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformComponent(final String platformName, final String componentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.getPlatformComponent(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#addPlatformComponent(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> addPlatformComponent(final String platformName, final String componentName, final String uniqueName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.addPlatformComponent(platformName, componentName, uniqueName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updatePlatformComponent(String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformComponent(final String platformName, final String componentName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.updatePlatformComponent(platformName, componentName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updatePlatformComponentDependency(String, String, List)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformComponentDependency(final String platformName, final String componentName, final List<String> dependsOnComponentNames) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.updatePlatformComponentDependency(platformName, componentName, dependsOnComponentNames);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#deletePlatformComponent(String, String)}
+	 */
+	public ListenableFuture<CiResource> deletePlatformComponent(final String platformName, final String componentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.deletePlatformComponent(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listPlatformComponentAttachments(String, String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatformComponentAttachments(final String platformName, final String componentName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return design.listPlatformComponentAttachments(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#getPlatformComponentAttachment(String, String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformComponentAttachment(final String platformName, final String componentName, final String attachmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.getPlatformComponentAttachment(platformName, componentName, attachmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updatePlatformComponentAttachment(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformComponentAttachment(final String platformName, final String componentName, final String attachmentName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.updatePlatformComponentAttachment(platformName, componentName, attachmentName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#addNewAttachment(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> addNewAttachment(final String platformName, final String componentName, final String uniqueName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.addNewAttachment(platformName, componentName, uniqueName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#deleteAttachment(String, String, String)}
+	 */
+	public ListenableFuture<CiResource> deleteAttachment(final String platformName, final String componentName, final String attachmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.deleteAttachment(platformName, componentName, attachmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listPlatformVariables(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatformVariables(final String platformName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return design.listPlatformVariables(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#getPlatformVariable(String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformVariable(final String platformName, final String variableName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.getPlatformVariable(platformName, variableName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#addPlatformVariable(String, String, String, boolean)}
+	 */
+	public ListenableFuture<CiResource> addPlatformVariable(final String platformName, final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.addPlatformVariable(platformName, variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updatePlatformVariable(String, String, String, boolean)}
+	 */
+	public ListenableFuture<Boolean> updatePlatformVariable(final String platformName, final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return design.updatePlatformVariable(platformName, variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updateOrAddPlatformVariables(String, String, String, boolean)}
+	 */
+	public ListenableFuture<Boolean> updateOrAddPlatformVariables(final String platformName, final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return design.updateOrAddPlatformVariables(platformName, variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#deletePlatformVariable(String, String)}
+	 */
+	public ListenableFuture<CiResource> deletePlatformVariable(final String platformName, final String variableName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.deletePlatformVariable(platformName, variableName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#deleteGlobalVariable(String)}
+	 */
+	public ListenableFuture<CiResource> deleteGlobalVariable(final String variableName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.deleteGlobalVariable(variableName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#listGlobalVariables()}
+	 */
+	public ListenableFuture<List<CiResource>> listGlobalVariables() {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return design.listGlobalVariables();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#getGlobalVariable(String)}
+	 */
+	public ListenableFuture<CiResource> getGlobalVariable(final String variableName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.getGlobalVariable(variableName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#addGlobalVariable(String, String, boolean)}
+	 */
+	public ListenableFuture<CiResource> addGlobalVariable(final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return design.addGlobalVariable(variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#updateGlobalVariable(String, String, boolean)}
+	 */
+	public ListenableFuture<Boolean> updateGlobalVariable(final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return design.updateGlobalVariable(variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#extractYaml()}
+	 */
+	public ListenableFuture<JsonPath> extractYaml() {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return design.extractYaml();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Design#loadFile(String)}
+	 */
+	public ListenableFuture<JsonPath> loadFile(final String filecontent) {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return design.loadFile(filecontent);
+			}
+		});
+	}
+}
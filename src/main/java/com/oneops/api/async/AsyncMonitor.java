@@ -0,0 +1,61 @@
+package com.oneops.api.async;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.json.JSONObject;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Monitor;
+import com.oneops.api.resource.model.CiResource;
+
+/**
+ * Asynchronous counterpart of {@link Monitor}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncMonitor extends AsyncClient {
+
+	private final Monitor monitor;
+
+	public AsyncMonitor(OOInstance instance, String assemblyName, String environment, String platform, String component) throws OneOpsClientAPIException {
+		this(instance, assemblyName, environment, platform, component, Executions.forInstance(instance));
+	}
+
+	public AsyncMonitor(OOInstance instance, String assemblyName, String environment, String platform, String component, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.monitor = new Monitor(instance, assemblyName, environment, platform, component);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Monitor getClient() {
+		return monitor;
+	}
+
+	/**
+	 * Asynchronous {@link Monitor#getMonitor(String)}
+	 */
+	public ListenableFuture<CiResource> getMonitor(final String monitorName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return monitor.getMonitor(monitorName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Monitor#updateMonitor(String, String, Integer, Integer, JSONObject, boolean, boolean)}
+	 */
+	public ListenableFuture<CiResource> updateMonitor(final String monitorName, final String cmdOptions, final Integer duration, final Integer sampleInterval, final JSONObject thresholds, final boolean heartbeat, final boolean enable) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return monitor.updateMonitor(monitorName, cmdOptions, duration, sampleInterval, thresholds, heartbeat, enable);
+			}
+		});
+	}
+}
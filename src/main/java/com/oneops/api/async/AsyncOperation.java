@@ -0,0 +1,219 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.jayway.restassured.path.json.JsonPath;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Operation;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.Procedure;
+
+/**
+ * Asynchronous counterpart of {@link Operation}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncOperation extends AsyncClient {
+
+	private final Operation operation;
+
+	public AsyncOperation(OOInstance instance, String assemblyName, String environmentName) throws OneOpsClientAPIException {
+		this(instance, assemblyName, environmentName, Executions.forInstance(instance));
+	}
+
+	public AsyncOperation(OOInstance instance, String assemblyName, String environmentName, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.operation = new Operation(instance, assemblyName, environmentName);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Operation getClient() {
+		return operation;
+	}
+
+	/**
+	 * Asynchronous {@link Operation#listInstances(String, String)}
+	 */
+	public ListenableFuture<List<CiResource>> listInstances(final String platformName, final String componentName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return operation.listInstances(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#listInstances(String, List)}
+	 */
+	public ListenableFuture<Map<String, List<CiResource>>> listInstances(final String platformName, final List<String> componentNames) {
+		return submit(new Callable<Map<String, List<CiResource>>>() {
+			@Override
+			public Map<String, List<CiResource>> call() throws OneOpsClientAPIException {
+				return operation.listInstances(platformName, componentNames);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#markInstancesForReplacement(String, String)}
+	 */
+	public ListenableFuture<Boolean> markInstancesForReplacement(final String platformName, final String componentName) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return operation.markInstancesForReplacement(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#markInstanceForReplacement(String, String, Long)}
+	 */
+	public ListenableFuture<Boolean> markInstanceForReplacement(final String platformName, final String componentName, final Long instanceId) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return operation.markInstanceForReplacement(platformName, componentName, instanceId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#getLogData(String, List)}
+	 */
+	public ListenableFuture<JsonPath> getLogData(final String procedureId, final List<String> actionIds) {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return operation.getLogData(procedureId, actionIds);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#listProcedures(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listProcedures(final String platformName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return operation.listProcedures(platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#getProcedureId(String, String)}
+	 */
+	public ListenableFuture<Long> getProcedureId(final String platformName, final String procedureName) {
+		return submit(new Callable<Long>() {
+			@Override
+			public Long call() throws OneOpsClientAPIException {
+				return operation.getProcedureId(platformName, procedureName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#listActions(String, String)}
+	 */
+	public ListenableFuture<JsonPath> listActions(final String platformName, final String componentName) {
+		return submit(new Callable<JsonPath>() {
+			@Override
+			public JsonPath call() throws OneOpsClientAPIException {
+				return operation.listActions(platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#executeProcedure(String, String, String)}
+	 */
+	public ListenableFuture<Procedure> executeProcedure(final String platformName, final String procedureName, final String arglist) {
+		return submit(new Callable<Procedure>() {
+			@Override
+			public Procedure call() throws OneOpsClientAPIException {
+				return operation.executeProcedure(platformName, procedureName, arglist);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#getProcedureStatus(Long)}
+	 */
+	public ListenableFuture<Procedure> getProcedureStatus(final Long procedureId) {
+		return submit(new Callable<Procedure>() {
+			@Override
+			public Procedure call() throws OneOpsClientAPIException {
+				return operation.getProcedureStatus(procedureId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#cancelProcedure(Long)}
+	 */
+	public ListenableFuture<Procedure> cancelProcedure(final Long procedureId) {
+		return submit(new Callable<Procedure>() {
+			@Override
+			public Procedure call() throws OneOpsClientAPIException {
+				return operation.cancelProcedure(procedureId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#executeAction(String, String, String, List, String, int)}
+	 */
+	public ListenableFuture<Procedure> executeAction(final String platformName, final String componentName, final String actionName, final List<Long> instanceList, final String argList, final int rollingPercent) {
+		return submit(new Callable<Procedure>() {
+			@Override
+			public Procedure call() throws OneOpsClientAPIException {
+				return operation.executeAction(platformName, componentName, actionName, instanceList, argList, rollingPercent);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#executeAction(String, String, String, String, List, String, int)}
+	 */
+	public ListenableFuture<Procedure> executeAction(final String platformName, final String componentName, final String actionName, final String userDefinedActionName, final List<Long> instanceList, final String arglist, final int rollingPercent) {
+		return submit(new Callable<Procedure>() {
+			@Override
+			public Procedure call() throws OneOpsClientAPIException {
+				return operation.executeAction(platformName, componentName, actionName, userDefinedActionName, instanceList, arglist, rollingPercent);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#updatePlatformAutoHealingStatus(String, String, String, boolean)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformAutoHealingStatus(final String environmentName, final String platformName, final String healingOption, final boolean isEnabled) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return operation.updatePlatformAutoHealingStatus(environmentName, platformName, healingOption, isEnabled);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Operation#updatePlatformAutoReplaceConfig(String, String, int, int)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformAutoReplaceConfig(final String environmentName, final String platformName, final int repairCount, final int repairTime) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return operation.updatePlatformAutoReplaceConfig(environmentName, platformName, repairCount, repairTime);
+			}
+		});
+	}
+}
@@ -0,0 +1,61 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.OrganizationSetting;
+import com.oneops.api.resource.model.Member;
+import com.oneops.api.resource.model.Team;
+
+/**
+ * Asynchronous counterpart of {@link OrganizationSetting}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncOrganizationSetting extends AsyncClient {
+
+	private final OrganizationSetting organizationSetting;
+
+	public AsyncOrganizationSetting(OOInstance instance) throws OneOpsClientAPIException {
+		this(instance, Executions.forInstance(instance));
+	}
+
+	public AsyncOrganizationSetting(OOInstance instance, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.organizationSetting = new OrganizationSetting(instance);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public OrganizationSetting getClient() {
+		return organizationSetting;
+	}
+
+	/**
+	 * Asynchronous {@link OrganizationSetting#listTeams()}
+	 */
+	public ListenableFuture<List<Team>> listTeams() {
+		return submit(new Callable<List<Team>>() {
+			@Override
+			public List<Team> call() throws OneOpsClientAPIException {
+				return organizationSetting.listTeams();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link OrganizationSetting#getTeamMembers(String)}
+	 */
+	public ListenableFuture<Member> getTeamMembers(final String teamName) {
+		return submit(new Callable<Member>() {
+			@Override
+			public Member call() throws OneOpsClientAPIException {
+				return organizationSetting.getTeamMembers(teamName);
+			}
+		});
+	}
+}
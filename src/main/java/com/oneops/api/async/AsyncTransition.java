@@ -0,0 +1,617 @@
+package com.oneops.api.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Transition;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.Deployment;
+import com.oneops.api.resource.model.DeploymentRFC;
+import com.oneops.api.resource.model.Log;
+import com.oneops.api.resource.model.RedundancyConfig;
+import com.oneops.api.resource.model.Release;
+
+/**
+ * Asynchronous counterpart of {@link Transition}. Every call runs on the executor of this client and returns a
+ * future completed with the result of the blocking call.
+ */
+public class AsyncTransition extends AsyncClient {
+
+	private final Transition transition;
+
+	public AsyncTransition(OOInstance instance, String assemblyName) throws OneOpsClientAPIException {
+		this(instance, assemblyName, Executions.forInstance(instance));
+	}
+
+	public AsyncTransition(OOInstance instance, String assemblyName, ExecutorService executor) throws OneOpsClientAPIException {
+		super(executor);
+		this.transition = new Transition(instance, assemblyName);
+	}
+
+	/**
+	 * Underlying blocking client
+	 */
+	public Transition getClient() {
+		return transition;
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getEnvironment(String)}
+	 */
+	public ListenableFuture<CiResource> getEnvironment(final String environmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getEnvironment(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listEnvironments()}
+	 */
+	public ListenableFuture<List<CiResource>> listEnvironments() {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listEnvironments();
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#createEnvironment(String, String, Map, Map, Map, String)}
+	 */
+	public ListenableFuture<CiResource> createEnvironment(final String environmentName, final String envprofile, final Map<String, String> attributes, final Map<String, String> platformAvailability, final Map<String, Map<String, String>> cloudMap, final String description) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.createEnvironment(environmentName, envprofile, attributes, platformAvailability, cloudMap, description);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#commitEnvironment(String, List, String)}; no thread is held while the
+	 * deployment plan is generated
+	 */
+	public ListenableFuture<Release> commitEnvironment(final String environmentName, final List<Long> excludePlatforms, final String comment) {
+		ListenableFuture<Void> commit = submit(new Callable<Void>() {
+			@Override
+			public Void call() throws OneOpsClientAPIException {
+				transition.startCommit(environmentName, excludePlatforms, comment);
+				return null;
+			}
+		});
+		return Futures.transformAsync(commit, new AsyncFunction<Void, Release>() {
+			@Override
+			public ListenableFuture<Release> apply(Void committed) {
+				return transition.pollCommit(environmentName);
+			}
+		}, MoreExecutors.directExecutor());
+	}
+
+	/**
+	 * Asynchronous {@link Transition#deploy(String, String)}
+	 */
+	public ListenableFuture<Deployment> deploy(final String environmentName, final String comments) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.deploy(environmentName, comments);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getDeploymentStatus(String, Long)}
+	 */
+	public ListenableFuture<Deployment> getDeploymentStatus(final String environmentName, final Long deploymentId) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.getDeploymentStatus(environmentName, deploymentId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getDeploymentStatuses(String, List)}
+	 */
+	public ListenableFuture<Map<Long, Deployment>> getDeploymentStatuses(final String environmentName, final List<Long> deploymentIds) {
+		return submit(new Callable<Map<Long, Deployment>>() {
+			@Override
+			public Map<Long, Deployment> call() throws OneOpsClientAPIException {
+				return transition.getDeploymentStatuses(environmentName, deploymentIds);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getLatestDeployment(String)}
+	 */
+	public ListenableFuture<Deployment> getLatestDeployment(final String environmentName) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.getLatestDeployment(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#discardDeploymentPlan(String)}
+	 */
+	public ListenableFuture<Release> discardDeploymentPlan(final String environmentName) {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return transition.discardDeploymentPlan(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#discardOpenRelease(String)}
+	 */
+	public ListenableFuture<Release> discardOpenRelease(final String environmentName) {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return transition.discardOpenRelease(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#disableAllPlatforms(String)}
+	 */
+	public ListenableFuture<CiResource> disableAllPlatforms(final String environmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.disableAllPlatforms(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformStatus(String, List, String)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformStatus(final String environmentName, final List<String> platformNames, final String status) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updatePlatformStatus(environmentName, platformNames, status);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getLatestRelease(String)}
+	 */
+	public ListenableFuture<Release> getLatestRelease(final String environmentName) {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return transition.getLatestRelease(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getBomRelease(String)}
+	 */
+	public ListenableFuture<Release> getBomRelease(final String environmentName) {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return transition.getBomRelease(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#restoreRelease(String, Long)}
+	 */
+	public ListenableFuture<Release> restoreRelease(final String environmentName, final Long releaseId) {
+		return submit(new Callable<Release>() {
+			@Override
+			public Release call() throws OneOpsClientAPIException {
+				return transition.restoreRelease(environmentName, releaseId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listReleases(String)}
+	 */
+	public ListenableFuture<List<Release>> listReleases(final String environmentName) {
+		return submit(new Callable<List<Release>>() {
+			@Override
+			public List<Release> call() throws OneOpsClientAPIException {
+				return transition.listReleases(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#cancelDeployment(String, Long, Long)}
+	 */
+	public ListenableFuture<Deployment> cancelDeployment(final String environmentName, final Long deploymentId, final Long releaseId) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.cancelDeployment(environmentName, deploymentId, releaseId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#pauseDeployment(String, Long, Long)}
+	 */
+	public ListenableFuture<Deployment> pauseDeployment(final String environmentName, final Long deploymentId, final Long releaseId) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.pauseDeployment(environmentName, deploymentId, releaseId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getDeployment(String, Long)}
+	 */
+	public ListenableFuture<DeploymentRFC> getDeployment(final String environmentName, final Long deploymentId) {
+		return submit(new Callable<DeploymentRFC>() {
+			@Override
+			public DeploymentRFC call() throws OneOpsClientAPIException {
+				return transition.getDeployment(environmentName, deploymentId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getDeploymentRfcLog(String, Long, Long)}
+	 */
+	public ListenableFuture<Log> getDeploymentRfcLog(final String environmentName, final Long deploymentId, final Long rfcId) {
+		return submit(new Callable<Log>() {
+			@Override
+			public Log call() throws OneOpsClientAPIException {
+				return transition.getDeploymentRfcLog(environmentName, deploymentId, rfcId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#approveDeployment(String, Long, Long)}
+	 */
+	public ListenableFuture<Deployment> approveDeployment(final String environmentName, final Long deploymentId, final Long releaseId) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.approveDeployment(environmentName, deploymentId, releaseId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#retryDeployment(String, Long, Long)}
+	 */
+	public ListenableFuture<Deployment> retryDeployment(final String environmentName, final Long deploymentId, final Long releaseId) {
+		return submit(new Callable<Deployment>() {
+			@Override
+			public Deployment call() throws OneOpsClientAPIException {
+				return transition.retryDeployment(environmentName, deploymentId, releaseId);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#deleteEnvironment(String)}
+	 */
+	public ListenableFuture<CiResource> deleteEnvironment(final String environmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.deleteEnvironment(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listPlatforms(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatforms(final String environmentName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listPlatforms(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getPlatform(String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatform(final String environmentName, final String platformName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getPlatform(environmentName, platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listPlatformComponents(String, String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatformComponents(final String environmentName, final String platformName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listPlatformComponents(environmentName, platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listAllPlatformComponents(String)}
+	 */
+	public ListenableFuture<Map<String, List<CiResource>>> listAllPlatformComponents(final String environmentName) {
+		return submit(new Callable<Map<String, List<CiResource>>>() {
+			@Override
+			public Map<String, List<CiResource>> call() throws OneOpsClientAPIException {
+				return transition.listAllPlatformComponents(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getPlatformComponent(String, String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformComponent(final String environmentName, final String platformName, final String componentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getPlatformComponent(environmentName, platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformComponent(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformComponent(final String environmentName, final String platformName, final String componentName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updatePlatformComponent(environmentName, platformName, componentName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getPlatformComponentAttachment(String, String, String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformComponentAttachment(final String environmentName, final String platformName, final String componentName, final String attachmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getPlatformComponentAttachment(environmentName, platformName, componentName, attachmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformComponentAttachment(String, String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformComponentAttachment(final String environmentName, final String platformName, final String componentName, final String attachmentName, final Map<String, String> attributes) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updatePlatformComponentAttachment(environmentName, platformName, componentName, attachmentName, attributes);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#touchPlatformComponent(String, String, String)}
+	 */
+	public ListenableFuture<CiResource> touchPlatformComponent(final String environmentName, final String platformName, final String componentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.touchPlatformComponent(environmentName, platformName, componentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#pullDesign(String)}
+	 */
+	public ListenableFuture<CiResource> pullDesign(final String environmentName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.pullDesign(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#pullNewPlatform(String, Map)}
+	 */
+	public ListenableFuture<CiResource> pullNewPlatform(final String environmentName, final Map<String, String> platformAvailability) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.pullNewPlatform(environmentName, platformAvailability);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listPlatformVariables(String, String)}
+	 */
+	public ListenableFuture<List<CiResource>> listPlatformVariables(final String environmentName, final String platformName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listPlatformVariables(environmentName, platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformVariable(String, String, String, String, boolean)}
+	 */
+	public ListenableFuture<Boolean> updatePlatformVariable(final String environmentName, final String platformName, final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return transition.updatePlatformVariable(environmentName, platformName, variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformVariables(String, String, Map, boolean)}
+	 */
+	public ListenableFuture<Boolean> updatePlatformVariables(final String environmentName, final String platformName, final Map<String, String> variables, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return transition.updatePlatformVariables(environmentName, platformName, variables, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listGlobalVariables(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listGlobalVariables(final String environmentName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listGlobalVariables(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updateGlobalVariable(String, String, String, boolean)}
+	 */
+	public ListenableFuture<Boolean> updateGlobalVariable(final String environmentName, final String variableName, final String variableValue, final boolean isSecure) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return transition.updateGlobalVariable(environmentName, variableName, variableValue, isSecure);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updateDisableEnvironment(String, List)}
+	 */
+	public ListenableFuture<CiResource> updateDisableEnvironment(final String environmentName, final List<String> platformIdList) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updateDisableEnvironment(environmentName, platformIdList);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getPlatformRedundancyConfig(String, String)}
+	 */
+	public ListenableFuture<CiResource> getPlatformRedundancyConfig(final String environmentName, final String platformName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getPlatformRedundancyConfig(environmentName, platformName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformRedundancyConfig(String, String, String, RedundancyConfig)}
+	 */
+	public ListenableFuture<Boolean> updatePlatformRedundancyConfig(final String environmentName, final String platformName, final String componentName, final RedundancyConfig config) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws OneOpsClientAPIException {
+				return transition.updatePlatformRedundancyConfig(environmentName, platformName, componentName, config);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updatePlatformCloudScale(String, String, String, Map)}
+	 */
+	public ListenableFuture<CiResource> updatePlatformCloudScale(final String environmentName, final String platformName, final String cloudId, final Map<String, String> cloudMap) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updatePlatformCloudScale(environmentName, platformName, cloudId, cloudMap);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#listRelays(String)}
+	 */
+	public ListenableFuture<List<CiResource>> listRelays(final String environmentName) {
+		return submit(new Callable<List<CiResource>>() {
+			@Override
+			public List<CiResource> call() throws OneOpsClientAPIException {
+				return transition.listRelays(environmentName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#getRelay(String, String)}
+	 */
+	public ListenableFuture<CiResource> getRelay(final String environmentName, final String relayName) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.getRelay(environmentName, relayName);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#addRelay(String, String, String, String, String, String, String, boolean)}
+	 */
+	public ListenableFuture<CiResource> addRelay(final String environmentName, final String relayName, final String severity, final String emails, final String source, final String nsPaths, final String regex, final boolean correlation) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.addRelay(environmentName, relayName, severity, emails, source, nsPaths, regex, correlation);
+			}
+		});
+	}
+
+	/**
+	 * Asynchronous {@link Transition#updateRelay(String, String, String, String, String, String, String, boolean, boolean)}
+	 */
+	public ListenableFuture<CiResource> updateRelay(final String environmentName, final String relayName, final String severity, final String emails, final String source, final String nsPaths, final String regex, final boolean correlation, final boolean enable) {
+		return submit(new Callable<CiResource>() {
+			@Override
+			public CiResource call() throws OneOpsClientAPIException {
+				return transition.updateRelay(environmentName, relayName, severity, emails, source, nsPaths, regex, correlation, enable);
+			}
+		});
+	}
+}
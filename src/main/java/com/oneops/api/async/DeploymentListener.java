@@ -0,0 +1,20 @@
+package com.oneops.api.async;
+
+import com.oneops.api.resource.model.Deployment;
+
+/**
+ * Receives the state transitions of the deployments watched by a {@link DeploymentWatcher}
+ */
+public interface DeploymentListener {
+
+	/**
+	 * Called on the executor of the watcher each time a watched deployment is seen in a new state, the first
+	 * observation included
+	 *
+	 * @param assemblyName
+	 * @param environmentName
+	 * @param deployment deployment status, in its new state
+	 * @param previousState state seen before, null on the first observation
+	 */
+	void onStateChange(String assemblyName, String environmentName, Deployment deployment, String previousState);
+}
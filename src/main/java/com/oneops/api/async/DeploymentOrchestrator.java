@@ -0,0 +1,528 @@
+package com.oneops.api.async;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.Deployment;
+import com.oneops.api.resource.model.Release;
+
+/**
+ * Promotes a release across many environments: each target is committed, deployed and watched until its
+ * deployment ends, up to a bounded number of targets at once and without holding a thread while deployment
+ * plans are generated or deployments run, so a promotion takes about as long as its slowest deployment.
+ *
+ * Targets are grouped in waves run one after the other, e.g. canary, then a region, then the rest. Once a wave
+ * ended, a {@link WaveGate} decides whether the next one starts, the targets of the waves not started being
+ * reported as skipped. The failure of a target is reported in its result and never stops the other targets.
+ */
+public class DeploymentOrchestrator implements Closeable {
+
+	/**
+	 * Number of targets committed and deployed at once by default
+	 */
+	public static final int DEFAULT_MAX_PARALLEL = 8;
+
+	/**
+	 * Gate starting the next wave only when every target of the wave was deployed
+	 */
+	public static final WaveGate NO_FAILURES = new WaveGate() {
+		@Override
+		public boolean open(WaveResult completed) {
+			return completed.getFailures().isEmpty();
+		}
+	};
+
+	/**
+	 * Gate always starting the next wave, whatever the failures
+	 */
+	public static final WaveGate ALWAYS = new WaveGate() {
+		@Override
+		public boolean open(WaveResult completed) {
+			return true;
+		}
+	};
+
+	private final OOInstance instance;
+	private final int maxParallel;
+	private final ExecutorService executor;
+	private final DeploymentWatcher watcher;
+	private final ConcurrentMap<String, AsyncTransition> transitions = new ConcurrentHashMap<String, AsyncTransition>();
+
+	public DeploymentOrchestrator(OOInstance instance) {
+		this(instance, DEFAULT_MAX_PARALLEL);
+	}
+
+	public DeploymentOrchestrator(OOInstance instance, int maxParallel) {
+		this(instance, maxParallel, Executions.forInstance(instance));
+	}
+
+	/**
+	 * @param instance
+	 * @param maxParallel number of targets committed and deployed at once
+	 * @param executor runs the calls and status polls
+	 */
+	public DeploymentOrchestrator(OOInstance instance, int maxParallel, ExecutorService executor) {
+		this.instance = instance;
+		this.maxParallel = Math.max(1, maxParallel);
+		this.executor = executor;
+		this.watcher = new DeploymentWatcher(instance, instance.getDeploymentPollPolicy(), executor);
+	}
+
+	/**
+	 * Promotes the open releases of the targets, starting a wave only when the previous one fully deployed
+	 *
+	 * @param waves
+	 * @param comment commit and deployment comment, may be null
+	 * @return future completed with the result of every wave, in order, once the last wave ended or was skipped
+	 */
+	public ListenableFuture<List<WaveResult>> promote(List<Wave> waves, String comment) {
+		return promote(waves, NO_FAILURES, comment);
+	}
+
+	/**
+	 * Promotes the open releases of the targets
+	 *
+	 * @param waves
+	 * @param gate decides after each wave whether the next one starts
+	 * @param comment commit and deployment comment, may be null
+	 * @return future completed with the result of every wave, in order, once the last wave ended or was skipped;
+	 * cancelling it stops watching the deployments started and starts no other target
+	 */
+	public ListenableFuture<List<WaveResult>> promote(List<Wave> waves, WaveGate gate, String comment) {
+		Promotion promotion = new Promotion(waves, gate, comment);
+		promotion.startWave();
+		return promotion;
+	}
+
+	/**
+	 * Stops watching all the deployments started, their targets being reported as failed
+	 */
+	@Override
+	public void close() {
+		watcher.close();
+	}
+
+	private AsyncTransition transition(String assemblyName) throws OneOpsClientAPIException {
+		AsyncTransition transition = transitions.get(assemblyName);
+		if(transition == null) {
+			transition = new AsyncTransition(instance, assemblyName, executor);
+			transitions.putIfAbsent(assemblyName, transition);
+		}
+		return transition;
+	}
+
+	/**
+	 * Runs the waves of a promotion one after the other
+	 */
+	private class Promotion extends AbstractFuture<List<WaveResult>> {
+
+		private final List<Wave> waves;
+		private final WaveGate gate;
+		private final String comment;
+		private final List<WaveResult> results = new ArrayList<WaveResult>();
+		private final Set<ListenableFuture<?>> running =
+				Collections.newSetFromMap(new ConcurrentHashMap<ListenableFuture<?>, Boolean>());
+
+		Promotion(List<Wave> waves, WaveGate gate, String comment) {
+			this.waves = ImmutableList.copyOf(waves);
+			this.gate = gate;
+			this.comment = comment;
+		}
+
+		/**
+		 * Starts the next wave, or completes the promotion once every wave ended or was skipped
+		 */
+		void startWave() {
+			Wave wave = null;
+			List<WaveResult> ended = null;
+			synchronized (this) {
+				if(results.size() == waves.size()) {
+					ended = ImmutableList.copyOf(results);
+				} else {
+					wave = waves.get(results.size());
+				}
+			}
+			if(ended != null) {
+				set(ended);
+			} else if(!isDone()) {
+				new WaveRun(this, wave).start();
+			}
+		}
+
+		/**
+		 * Asks the gate, without holding the lock of the promotion, whether the next wave starts, and starts it on the executor
+		 */
+		void waveEnded(WaveResult result) {
+			boolean open;
+			try {
+				open = gate.open(result);
+			} catch (RuntimeException e) {
+				setException(e);
+				return;
+			}
+			synchronized (this) {
+				results.add(result);
+				if(!open) {
+					for(Wave skipped : waves.subList(results.size(), waves.size())) {
+						List<Result> targets = new ArrayList<Result>();
+						for(Target target : skipped.getTargets()) {
+							targets.add(new Result(target, Outcome.SKIPPED, null, null, null, null, 0));
+						}
+						results.add(new WaveResult(skipped, targets));
+					}
+				}
+			}
+			dispatch(new Runnable() {
+				@Override
+				public void run() {
+					startWave();
+				}
+			});
+		}
+
+		/**
+		 * Runs a step on the executor rather than on the thread which ended the previous one, so that targets
+		 * failing as soon as started do not start the next ones deeper and deeper in the same stack
+		 */
+		void dispatch(Runnable step) {
+			try {
+				executor.execute(step);
+			} catch (RejectedExecutionException e) {
+				setException(e);
+			}
+		}
+
+		@Override
+		protected void afterDone() {
+			if(isCancelled()) {
+				for(ListenableFuture<?> future : running) {
+					future.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs the targets of a wave, at most maxParallel at once
+	 */
+	private class WaveRun {
+
+		private final Promotion promotion;
+		private final Wave wave;
+		private final Result[] results;
+		private final AtomicInteger next = new AtomicInteger();
+		private final AtomicInteger remaining;
+
+		WaveRun(Promotion promotion, Wave wave) {
+			this.promotion = promotion;
+			this.wave = wave;
+			this.results = new Result[wave.getTargets().size()];
+			this.remaining = new AtomicInteger(results.length);
+		}
+
+		void start() {
+			if(results.length == 0) {
+				promotion.waveEnded(new WaveResult(wave, Collections.<Result>emptyList()));
+				return;
+			}
+			for(int i = 0; i < Math.min(maxParallel, results.length); i++) {
+				launch();
+			}
+		}
+
+		private void launch() {
+			final int i = next.getAndIncrement();
+			if(i >= results.length || promotion.isDone()) {
+				return;
+			}
+			new TargetRun(promotion, wave.getTargets().get(i)) {
+				@Override
+				void ended(Result result) {
+					results[i] = result;
+					if(remaining.decrementAndGet() == 0) {
+						promotion.waveEnded(new WaveResult(wave, Arrays.asList(results)));
+					} else {
+						promotion.dispatch(new Runnable() {
+							@Override
+							public void run() {
+								launch();
+							}
+						});
+					}
+				}
+			}.start();
+		}
+	}
+
+	/**
+	 * Commits, deploys and watches a target, reporting its outcome whatever happens
+	 */
+	private abstract class TargetRun implements FutureCallback<Deployment> {
+
+		private final Promotion promotion;
+		private final Target target;
+		private final long started = System.currentTimeMillis();
+		private volatile String step = "commit";
+		private volatile Release release;
+		private volatile Deployment deployment;
+
+		TargetRun(Promotion promotion, Target target) {
+			this.promotion = promotion;
+			this.target = target;
+		}
+
+		abstract void ended(Result result);
+
+		void start() {
+			final AsyncTransition transition;
+			try {
+				transition = transition(target.getAssemblyName());
+			} catch (OneOpsClientAPIException e) {
+				onFailure(e);
+				return;
+			}
+			ListenableFuture<Release> commit = transition.commitEnvironment(target.getEnvironmentName(), null, promotion.comment);
+			ListenableFuture<Deployment> deploy = Futures.transformAsync(commit, new AsyncFunction<Release, Deployment>() {
+				@Override
+				public ListenableFuture<Deployment> apply(Release committed) {
+					release = committed;
+					step = "deploy";
+					return transition.deploy(target.getEnvironmentName(), promotion.comment);
+				}
+			}, MoreExecutors.directExecutor());
+			final ListenableFuture<Deployment> watch = Futures.transformAsync(deploy, new AsyncFunction<Deployment, Deployment>() {
+				@Override
+				public ListenableFuture<Deployment> apply(Deployment deploying) throws OneOpsClientAPIException {
+					deployment = deploying;
+					step = "watch";
+					return watcher.watch(target.getAssemblyName(), target.getEnvironmentName(), deploying.getDeploymentId());
+				}
+			}, MoreExecutors.directExecutor());
+			promotion.running.add(watch);
+			watch.addListener(new Runnable() {
+				@Override
+				public void run() {
+					promotion.running.remove(watch);
+				}
+			}, MoreExecutors.directExecutor());
+			Futures.addCallback(watch, this, MoreExecutors.directExecutor());
+		}
+
+		@Override
+		public void onSuccess(Deployment ended) {
+			if("complete".equals(ended.getDeploymentState())) {
+				ended(new Result(target, Outcome.DEPLOYED, release, ended, null, null, elapsed()));
+			} else {
+				String msg = String.format("Deployment %s of %s ended %s", ended.getDeploymentId(), target, ended.getDeploymentState());
+				ended(new Result(target, Outcome.FAILED, release, ended, "deploy", new OneOpsClientAPIException(msg), elapsed()));
+			}
+		}
+
+		@Override
+		public void onFailure(Throwable t) {
+			ended(new Result(target, Outcome.FAILED, release, deployment, step, t, elapsed()));
+		}
+
+		private long elapsed() {
+			return System.currentTimeMillis() - started;
+		}
+	}
+
+	/**
+	 * Environment of an assembly to promote
+	 */
+	public static final class Target {
+
+		private final String assemblyName;
+		private final String environmentName;
+
+		public Target(String assemblyName, String environmentName) {
+			this.assemblyName = assemblyName;
+			this.environmentName = environmentName;
+		}
+
+		public String getAssemblyName() {
+			return assemblyName;
+		}
+		public String getEnvironmentName() {
+			return environmentName;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Target)) {
+				return false;
+			}
+			Target other = (Target) o;
+			return Objects.equal(assemblyName, other.assemblyName) && Objects.equal(environmentName, other.environmentName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(assemblyName, environmentName);
+		}
+
+		@Override
+		public String toString() {
+			return assemblyName + "/" + environmentName;
+		}
+	}
+
+	/**
+	 * Targets promoted together, e.g. canary
+	 */
+	public static final class Wave {
+
+		private final String name;
+		private final List<Target> targets;
+
+		public Wave(String name, List<Target> targets) {
+			this.name = name;
+			this.targets = ImmutableList.copyOf(targets);
+		}
+
+		public Wave(String name, Target... targets) {
+			this(name, Arrays.asList(targets));
+		}
+
+		public String getName() {
+			return name;
+		}
+		public List<Target> getTargets() {
+			return targets;
+		}
+	}
+
+	/**
+	 * Outcome of a target: DEPLOYED only when its deployment completed, FAILED when it failed, was canceled or
+	 * paused, or when its watch timed out, SKIPPED when its wave was not started
+	 */
+	public enum Outcome {
+		DEPLOYED, FAILED, SKIPPED
+	}
+
+	/**
+	 * Outcome of the promotion of a target
+	 */
+	public static final class Result {
+
+		private final Target target;
+		private final Outcome outcome;
+		private final Release release;
+		private final Deployment deployment;
+		private final String failedStep;
+		private final Throwable failure;
+		private final long durationMillis;
+
+		Result(Target target, Outcome outcome, Release release, Deployment deployment, String failedStep,
+				Throwable failure, long durationMillis) {
+			this.target = target;
+			this.outcome = outcome;
+			this.release = release;
+			this.deployment = deployment;
+			this.failedStep = failedStep;
+			this.failure = failure;
+			this.durationMillis = durationMillis;
+		}
+
+		public Target getTarget() {
+			return target;
+		}
+		public Outcome getOutcome() {
+			return outcome;
+		}
+		/**
+		 * Release committed, null when the commit failed or the target was skipped
+		 */
+		public Release getRelease() {
+			return release;
+		}
+		/**
+		 * Deployment in its last known state, null when it was not started
+		 */
+		public Deployment getDeployment() {
+			return deployment;
+		}
+		/**
+		 * Step of a failed target: commit, deploy, also when the deployment itself failed or was paused, or watch,
+		 * e.g. when the deployment did not end before the timeout of the deployment poll policy
+		 */
+		public String getFailedStep() {
+			return failedStep;
+		}
+		public Throwable getFailure() {
+			return failure;
+		}
+		/**
+		 * Time from the commit to the end of the deployment
+		 */
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		@Override
+		public String toString() {
+			return target + " " + outcome + (failure == null ? "" : " at " + failedStep + ": " + failure.getMessage());
+		}
+	}
+
+	/**
+	 * Outcome of the targets of a wave, in the order of the wave
+	 */
+	public static final class WaveResult {
+
+		private final Wave wave;
+		private final List<Result> results;
+
+		WaveResult(Wave wave, List<Result> results) {
+			this.wave = wave;
+			this.results = ImmutableList.copyOf(results);
+		}
+
+		public Wave getWave() {
+			return wave;
+		}
+		public List<Result> getResults() {
+			return results;
+		}
+		public List<Result> getFailures() {
+			List<Result> failures = new ArrayList<Result>();
+			for(Result result : results) {
+				if(result.getOutcome() == Outcome.FAILED) {
+					failures.add(result);
+				}
+			}
+			return failures;
+		}
+		/**
+		 * Whether every target of the wave was deployed
+		 */
+		public boolean isDeployed() {
+			for(Result result : results) {
+				if(result.getOutcome() != Outcome.DEPLOYED) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,233 @@
+package com.oneops.api.async;
+
+import java.io.Closeable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Transition;
+import com.oneops.api.resource.model.Deployment;
+import com.oneops.api.resource.model.Release;
+
+/**
+ * Watches many deployments, across assemblies and environments, without a thread per deployment: all status
+ * polls are timed by the shared {@link TimerWheel} and run on the executor of the watcher.
+ *
+ * Each deployment is polled quickly while its state or update time changes, and less and less often while it
+ * does not, up to the maximum delay of the poll policy; delays are jittered so polls do not come in bursts.
+ * The future of a watch completes once the deployment reaches an end state: by default a terminal state
+ * (complete, failed or canceled) or paused, as a paused deployment waits for someone to resume it.
+ *
+ * When the instance has a {@link TimingStore}, the durations of the deployments completed are recorded there,
+ * and a deployment with history is left alone through most of its predicted duration instead of being polled.
+ */
+public class DeploymentWatcher implements Closeable {
+
+	/**
+	 * Deployment states ending a watch
+	 */
+	public static final ImmutableSet<String> TERMINAL_STATES = ImmutableSet.of("complete", "failed", "canceled");
+
+	/**
+	 * Deployment states ending a watch by default, the terminal states and paused
+	 */
+	public static final ImmutableSet<String> DEFAULT_END_STATES = ImmutableSet.<String>builder()
+			.addAll(TERMINAL_STATES).add("paused").build();
+
+	private static final Logger LOG = LoggerFactory.getLogger(DeploymentWatcher.class);
+
+	private final OOInstance instance;
+	private final PollPolicy policy;
+	private final Predicate<String> endState;
+	private final TimingStore timings;
+	private final Poller poller;
+	private final ConcurrentMap<ListenableFuture<Deployment>, DeploymentCheck> watches =
+			new ConcurrentHashMap<ListenableFuture<Deployment>, DeploymentCheck>();
+
+	/**
+	 * Watcher polling with the deployment poll policy of the instance, on the executor of the instance
+	 *
+	 * @param instance
+	 */
+	public DeploymentWatcher(OOInstance instance) {
+		this(instance, instance.getDeploymentPollPolicy(), Executions.forInstance(instance));
+	}
+
+	public DeploymentWatcher(OOInstance instance, PollPolicy policy, ExecutorService executor) {
+		this(instance, policy, executor, Predicates.in(DEFAULT_END_STATES));
+	}
+
+	/**
+	 * @param instance
+	 * @param policy
+	 * @param executor
+	 * @param endState deployment states ending a watch, e.g. any state but active
+	 */
+	public DeploymentWatcher(OOInstance instance, PollPolicy policy, ExecutorService executor, Predicate<String> endState) {
+		this.instance = instance;
+		this.policy = policy;
+		this.endState = endState;
+		this.timings = TimingStore.forInstance(instance);
+		this.poller = new Poller(executor, instance.isFlightRecorderEventsEnabled());
+	}
+
+	/**
+	 * Watches a deployment until it reaches an end state
+	 *
+	 * @param assemblyName
+	 * @param environmentName
+	 * @param deploymentId
+	 * @return future completed with the deployment status in its end state, cancelling it stops the watch
+	 * @throws OneOpsClientAPIException
+	 */
+	public ListenableFuture<Deployment> watch(String assemblyName, String environmentName, long deploymentId)
+			throws OneOpsClientAPIException {
+		return watch(assemblyName, environmentName, deploymentId, null);
+	}
+
+	/**
+	 * Watches a deployment until it reaches an end state, notifying the listener of every state transition
+	 *
+	 * @param assemblyName
+	 * @param environmentName
+	 * @param deploymentId
+	 * @param listener may be null
+	 * @return future completed with the deployment status in its end state, cancelling it stops the watch
+	 * @throws OneOpsClientAPIException
+	 */
+	public ListenableFuture<Deployment> watch(String assemblyName, String environmentName, long deploymentId,
+			DeploymentListener listener) throws OneOpsClientAPIException {
+		DeploymentCheck check = new DeploymentCheck(new Transition(instance, assemblyName), assemblyName, environmentName,
+				deploymentId, listener, endState, timings);
+		final ListenableFuture<Deployment> watch = poller.poll("watchDeployment", environmentName + "/" + deploymentId, policy, check);
+		watches.put(watch, check);
+		watch.addListener(new Runnable() {
+			@Override
+			public void run() {
+				watches.remove(watch);
+			}
+		}, MoreExecutors.directExecutor());
+		return watch;
+	}
+
+	/**
+	 * Number of deployments watched
+	 */
+	public int getWatchCount() {
+		return watches.size();
+	}
+
+	/**
+	 * Expected completion time of a watched deployment, predicted from the durations in the timing store
+	 *
+	 * @param watch future returned by watch
+	 * @return epoch millis, -1 when unknown or when the deployment is no longer watched
+	 */
+	public long getExpectedCompletion(ListenableFuture<Deployment> watch) {
+		DeploymentCheck check = watches.get(watch);
+		return check == null ? -1 : check.expectedCompletion;
+	}
+
+	/**
+	 * Stops all watches, cancelling their futures
+	 */
+	@Override
+	public void close() {
+		for(ListenableFuture<Deployment> watch : watches.keySet()) {
+			watch.cancel(false);
+		}
+	}
+
+	private static class DeploymentCheck implements PollCheck<Deployment>, Poller.Progress, Poller.Expectation {
+
+		private final Transition transition;
+		private final String assemblyName;
+		private final String environmentName;
+		private final long deploymentId;
+		private final DeploymentListener listener;
+		private final Predicate<String> endState;
+		private final TimingStore timings;
+		private long started;
+		private int maxExecOrder = -1;
+		private int rfcCount = -1;
+		private volatile long expectedCompletion = -1;
+		private String state;
+		private Long updated;
+		private boolean progressed;
+
+		DeploymentCheck(Transition transition, String assemblyName, String environmentName, long deploymentId,
+				DeploymentListener listener, Predicate<String> endState, TimingStore timings) {
+			this.transition = transition;
+			this.assemblyName = assemblyName;
+			this.environmentName = environmentName;
+			this.deploymentId = deploymentId;
+			this.listener = listener;
+			this.endState = endState;
+			this.timings = timings;
+		}
+
+		@Override
+		public Deployment check() throws OneOpsClientAPIException {
+			Deployment deployment = transition.getDeploymentStatus(environmentName, deploymentId);
+			if(state == null && timings != null) {
+				predict(deployment);
+			}
+			String previous = state;
+			boolean changed = !Objects.equal(previous, deployment.getDeploymentState());
+			progressed = changed || !Objects.equal(updated, deployment.getUpdated());
+			state = deployment.getDeploymentState();
+			updated = deployment.getUpdated();
+			if(changed && listener != null) {
+				listener.onStateChange(assemblyName, environmentName, deployment, previous);
+			}
+			if("complete".equals(state) && previous != null && timings != null) {
+				long end = deployment.getUpdated() != null ? deployment.getUpdated() : System.currentTimeMillis();
+				timings.record(TimingStore.DEPLOYMENT, assemblyName + "/" + environmentName, maxExecOrder, rfcCount, end - started);
+			}
+			return endState.apply(state) ? deployment : null;
+		}
+
+		@Override
+		public boolean progressed() {
+			return progressed;
+		}
+
+		@Override
+		public long remainingMillis() {
+			return expectedCompletion < 0 ? 0 : expectedCompletion - System.currentTimeMillis();
+		}
+
+		/**
+		 * Predicts the completion from the history of the environment, the number of RFCs being read from its bom release
+		 */
+		private void predict(Deployment deployment) {
+			started = deployment.getCreated() != null ? deployment.getCreated() : System.currentTimeMillis();
+			if(deployment.getMaxExecOrder() != null) {
+				maxExecOrder = deployment.getMaxExecOrder();
+			}
+			try {
+				Release release = transition.getBomRelease(environmentName);
+				if(release.getCiRfcCount() != null && Objects.equal(release.getReleaseId(), deployment.getReleaseId())) {
+					rfcCount = release.getCiRfcCount();
+				}
+			} catch (OneOpsClientAPIException e) {
+				LOG.debug("No bom release to predict deployment {} of {}", deploymentId, environmentName);
+			}
+			long estimate = timings.estimateMillis(TimingStore.DEPLOYMENT, assemblyName + "/" + environmentName, maxExecOrder, rfcCount);
+			if(estimate >= 0) {
+				expectedCompletion = Poller.expectedCompletion(deployment.getCreated(), deployment.getUpdated(), estimate);
+			}
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package com.oneops.api.async;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.oneops.api.ExecutionMode;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+
+/**
+ * Resolves the executor of an {@link OOInstance} and fans bulk calls out on it.
+ *
+ * Virtual threads are looked up reflectively, so the client still runs on JVMs without them; the shared
+ * platform thread pool is used there instead.
+ */
+public final class Executions {
+
+	/**
+	 * Calls of a bulk method running at once on platform threads, when the instance does not set its bulk parallelism
+	 */
+	public static final int DEFAULT_BULK_PARALLELISM = 8;
+
+	private static final Logger LOG = LoggerFactory.getLogger(Executions.class);
+
+	private static final ExecutorService VIRTUAL_EXECUTOR = createVirtualExecutor();
+
+	private Executions() {
+	}
+
+	/**
+	 * Returns the executor set on the instance, or the shared executor of its execution mode
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static ExecutorService forInstance(OOInstance instance) {
+		if(instance != null && instance.getExecutor() != null) {
+			return instance.getExecutor();
+		}
+		return forMode(instance == null ? null : instance.getExecutionMode());
+	}
+
+	/**
+	 * Returns the shared executor of the given execution mode
+	 *
+	 * @param mode
+	 * @return
+	 */
+	public static ExecutorService forMode(ExecutionMode mode) {
+		if(mode == ExecutionMode.VIRTUAL_THREADS && VIRTUAL_EXECUTOR != null) {
+			return VIRTUAL_EXECUTOR;
+		}
+		return AsyncClient.sharedExecutor();
+	}
+
+	/**
+	 * Whether this JVM runs {@link ExecutionMode#VIRTUAL_THREADS} on virtual threads
+	 *
+	 * @return
+	 */
+	public static boolean isVirtualThreadsSupported() {
+		return VIRTUAL_EXECUTOR != null;
+	}
+
+	/**
+	 * Runs all calls, at most {@link #bulkParallelism(OOInstance, ExecutorService)} at once: the calling thread runs
+	 * calls itself while up to that many minus one workers run the others on the instance executor. The calling thread
+	 * only ever waits for calls a worker already started, so bulk calls made from a task of the executor
+	 * complete even when the executor has no other thread free.
+	 *
+	 * Results are keyed like the calls, in the same order; the first failure is rethrown once every call completed.
+	 *
+	 * @param instance
+	 * @param calls
+	 * @return
+	 * @throws OneOpsClientAPIException first failure of the calls, or interruption of the calling thread
+	 */
+	public static <K, V> Map<K, V> invokeAll(OOInstance instance, Map<K, ? extends Callable<V>> calls) throws OneOpsClientAPIException {
+		Bulk<K, V> bulk = new Bulk<K, V>(calls);
+		ExecutorService executor = forInstance(instance);
+		int workers = Math.min(calls.size(), bulkParallelism(instance, executor)) - 1;
+		List<Future<?>> submitted = Lists.newArrayListWithCapacity(workers);
+		try {
+			for(int i = 0; i < workers; i++) {
+				submitted.add(executor.submit(bulk));
+			}
+		} catch (RejectedExecutionException e) {
+			LOG.debug("Executor rejected bulk workers, running the calls on the calling thread", e);
+		}
+		bulk.run();
+		try {
+			bulk.await();
+		} catch (InterruptedException e) {
+			bulk.cancel();
+			for(Future<?> worker : submitted) {
+				worker.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			throw new OneOpsClientAPIException("Interrupted while waiting for bulk calls", e);
+		}
+		return bulk.results();
+	}
+
+	/**
+	 * Calls of a bulk method running at once: the bulk parallelism of the instance when set, otherwise no limit on
+	 * virtual threads, as they are not a scarce resource, and {@link #DEFAULT_BULK_PARALLELISM} on platform threads
+	 *
+	 * @param instance
+	 * @param executor executor of the instance
+	 * @return
+	 */
+	static int bulkParallelism(OOInstance instance, ExecutorService executor) {
+		if(instance.getBulkParallelism() > 0) {
+			return instance.getBulkParallelism();
+		}
+		return executor == VIRTUAL_EXECUTOR ? Integer.MAX_VALUE : DEFAULT_BULK_PARALLELISM;
+	}
+
+	private static OneOpsClientAPIException toClientException(Object key, Throwable cause) {
+		if(cause instanceof OneOpsClientAPIException) {
+			return (OneOpsClientAPIException) cause;
+		}
+		String msg = String.format("Failed to execute bulk call for %s due to %s", key, cause.getMessage());
+		return new OneOpsClientAPIException(msg, cause);
+	}
+
+	/**
+	 * Calls of a bulk method, taken in order by the calling thread and the workers running it
+	 */
+	private static class Bulk<K, V> implements Runnable {
+
+		private final List<Entry<K, ? extends Callable<V>>> calls;
+		private final Object[] results;
+		private final Throwable[] failures;
+		private final AtomicInteger next = new AtomicInteger();
+		private final CountDownLatch completed;
+		private volatile boolean cancelled;
+
+		Bulk(Map<K, ? extends Callable<V>> calls) {
+			this.calls = Lists.<Entry<K, ? extends Callable<V>>>newArrayList(calls.entrySet());
+			this.results = new Object[calls.size()];
+			this.failures = new Throwable[calls.size()];
+			this.completed = new CountDownLatch(calls.size());
+		}
+
+		@Override
+		public void run() {
+			for(int i = next.getAndIncrement(); i < calls.size() && !cancelled; i = next.getAndIncrement()) {
+				try {
+					results[i] = calls.get(i).getValue().call();
+				} catch (Throwable t) {
+					failures[i] = t;
+					if(t instanceof InterruptedException) {
+						Thread.currentThread().interrupt();
+					}
+				} finally {
+					completed.countDown();
+				}
+			}
+		}
+
+		/**
+		 * Waits for the calls still running on workers once the calling thread found no call left to start
+		 */
+		void await() throws InterruptedException {
+			completed.await();
+		}
+
+		void cancel() {
+			cancelled = true;
+		}
+
+		Map<K, V> results() throws OneOpsClientAPIException {
+			Map<K, V> map = new LinkedHashMap<K, V>();
+			for(int i = 0; i < calls.size(); i++) {
+				if(failures[i] != null) {
+					throw toClientException(calls.get(i).getKey(), failures[i]);
+				}
+				@SuppressWarnings("unchecked")
+				V result = (V) results[i];
+				map.put(calls.get(i).getKey(), result);
+			}
+			return map;
+		}
+	}
+
+	private static ExecutorService createVirtualExecutor() {
+		try {
+			Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (NoSuchMethodException e) {
+			LOG.debug("Virtual threads not supported by this JVM, using platform threads");
+		} catch (Exception e) {
+			LOG.warn("Failed to create virtual thread executor, using platform threads", e);
+		}
+		return null;
+	}
+}
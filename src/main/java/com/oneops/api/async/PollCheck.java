@@ -0,0 +1,15 @@
+package com.oneops.api.async;
+
+import com.oneops.api.exception.OneOpsClientAPIException;
+
+/**
+ * Single check of a long running operation polled by a {@link Poller}
+ */
+public interface PollCheck<T> {
+
+	/**
+	 * @return outcome of the operation once it completed, null while it is still running
+	 * @throws OneOpsClientAPIException fails the polling
+	 */
+	T check() throws OneOpsClientAPIException;
+}
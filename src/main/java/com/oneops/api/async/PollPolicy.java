@@ -0,0 +1,87 @@
+package com.oneops.api.async;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Delays between the checks of a long running operation, e.g. the generation of a deployment plan.
+ *
+ * The first check runs after the initial delay, every next delay grows by the multiplier up to the maximum
+ * delay, and polling fails once the timeout elapsed. Each delay is spread by a random jitter, so pollings
+ * started together do not reach the server in bursts.
+ */
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class PollPolicy {
+
+	private long initialDelayMillis = 250;
+	private double multiplier = 1.5;
+	private long maxDelayMillis = 5000;
+	private long timeoutMillis = 30 * 60 * 1000;
+	private int jitterPercent = 10;
+
+	public PollPolicy() {
+	}
+
+	public PollPolicy(long initialDelayMillis, long maxDelayMillis, long timeoutMillis) {
+		this.initialDelayMillis = initialDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public long getInitialDelayMillis() {
+		return initialDelayMillis;
+	}
+	public void setInitialDelayMillis(long initialDelayMillis) {
+		this.initialDelayMillis = initialDelayMillis;
+	}
+	/**
+	 * Growth factor of the delay after each check still pending
+	 */
+	public double getMultiplier() {
+		return multiplier;
+	}
+	public void setMultiplier(double multiplier) {
+		this.multiplier = multiplier;
+	}
+	public long getMaxDelayMillis() {
+		return maxDelayMillis;
+	}
+	public void setMaxDelayMillis(long maxDelayMillis) {
+		this.maxDelayMillis = maxDelayMillis;
+	}
+	/**
+	 * Time after which polling fails, 0 to poll until the operation completes
+	 */
+	public long getTimeoutMillis() {
+		return timeoutMillis;
+	}
+	public void setTimeoutMillis(long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Maximum share of a delay randomly added or removed
+	 */
+	public int getJitterPercent() {
+		return jitterPercent;
+	}
+	public void setJitterPercent(int jitterPercent) {
+		this.jitterPercent = jitterPercent;
+	}
+
+	/**
+	 * Delay following the given one
+	 */
+	long next(long delayMillis) {
+		return Math.min(maxDelayMillis, Math.max(delayMillis + 1, (long) (delayMillis * multiplier)));
+	}
+
+	/**
+	 * Delay actually waited for the given one, within the jitter
+	 */
+	long jittered(long delayMillis) {
+		long jitter = delayMillis * Math.max(0, Math.min(100, jitterPercent)) / 100;
+		return jitter == 0 ? delayMillis : delayMillis - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+	}
+}
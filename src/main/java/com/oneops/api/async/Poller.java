@@ -0,0 +1,226 @@
+package com.oneops.api.async;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.metrics.FlightRecorderEvents;
+
+/**
+ * Polls long running operations without holding a thread between two checks: delays are timed by the shared
+ * {@link TimerWheel} and checks run on the executor of the instance.
+ *
+ * Polling completes a future, so callers either chain on it or block in {@link #await(ListenableFuture, String, String)},
+ * which is interruptible. Cancelling the future stops the polling. Checks implementing {@link Progress} bring
+ * the delay back to the initial one whenever they saw the operation progress, and checks implementing
+ * {@link Expectation} stretch it to sleep through most of the time the operation is still expected to take,
+ * up to a few max delays of the policy at once.
+ */
+public class Poller {
+
+	/**
+	 * Share of the time left until the expected completion slept at once
+	 */
+	private static final int EXPECTED_SLEEP_PERCENT = 80;
+
+	/**
+	 * Longest delay slept at once through the expected time left, in multiples of the max delay of the policy
+	 */
+	private static final int MAX_EXPECTED_SLEEP_DELAYS = 4;
+
+	private final ExecutorService executor;
+	private final boolean flightRecorderEvents;
+
+	/**
+	 * @param executor runs the checks
+	 * @param flightRecorderEvents whether the delays are recorded as flight recorder events
+	 */
+	public Poller(ExecutorService executor, boolean flightRecorderEvents) {
+		this.executor = executor;
+		this.flightRecorderEvents = flightRecorderEvents;
+	}
+
+	/**
+	 * Poller running the checks on the executor of the instance
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static Poller forInstance(OOInstance instance) {
+		return new Poller(Executions.forInstance(instance), instance.isFlightRecorderEventsEnabled());
+	}
+
+	/**
+	 * Starts polling the operation
+	 *
+	 * @param operation polling operation, e.g. commitEnvironment
+	 * @param target resource polled
+	 * @param policy delays between the checks
+	 * @param check
+	 * @return future completed with the outcome of the first completed check, or with the failure of a check or the timeout
+	 */
+	public <T> ListenableFuture<T> poll(String operation, String target, PollPolicy policy, PollCheck<T> check) {
+		Polling<T> polling = new Polling<T>(operation, target, policy, check);
+		polling.schedule(policy.getInitialDelayMillis());
+		return polling;
+	}
+
+	/**
+	 * Waits for the outcome of a polling, cancelling it when the calling thread is interrupted
+	 *
+	 * @param polling
+	 * @param operation
+	 * @param target
+	 * @return
+	 * @throws OneOpsClientAPIException failure of the polling, or interruption
+	 */
+	public static <T> T await(ListenableFuture<T> polling, String operation, String target) throws OneOpsClientAPIException {
+		try {
+			return polling.get();
+		} catch (InterruptedException e) {
+			polling.cancel(true);
+			Thread.currentThread().interrupt();
+			String msg = String.format("Interrupted while waiting for %s of %s", operation, target);
+			throw new OneOpsClientAPIException(msg, e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof OneOpsClientAPIException) {
+				throw (OneOpsClientAPIException) e.getCause();
+			}
+			String msg = String.format("Failed to wait for %s of %s due to %s", operation, target, e.getCause().getMessage());
+			throw new OneOpsClientAPIException(msg, e.getCause());
+		}
+	}
+
+	/**
+	 * Check telling whether the operation progressed since the previous check
+	 */
+	interface Progress {
+
+		/**
+		 * @return whether the last check saw the operation progress
+		 */
+		boolean progressed();
+	}
+
+	/**
+	 * Check knowing when the operation is expected to complete
+	 */
+	interface Expectation {
+
+		/**
+		 * @return time left until the expected completion, 0 or less when unknown or already passed
+		 */
+		long remainingMillis();
+	}
+
+	/**
+	 * Expected completion of an operation first observed now, on the client clock: the time the operation
+	 * already ran is only taken from server times, as the two clocks may differ
+	 *
+	 * @param created server time the operation was created, may be null
+	 * @param updated server time the operation was last updated, may be null
+	 * @param estimateMillis predicted duration of the operation
+	 * @return epoch millis on the client clock
+	 */
+	static long expectedCompletion(Long created, Long updated, long estimateMillis) {
+		long elapsed = created != null && updated != null ? Math.max(0, updated - created) : 0;
+		return System.currentTimeMillis() + Math.max(0, estimateMillis - elapsed);
+	}
+
+	private class Polling<T> extends AbstractFuture<T> implements Runnable {
+
+		private final String operation;
+		private final String target;
+		private final PollPolicy policy;
+		private final PollCheck<T> check;
+		private final long deadline;
+		private long delayMillis;
+		private volatile TimerWheel.Timeout timeout;
+		private volatile Future<?> pending;
+		private FlightRecorderEvents.Event wait;
+
+		Polling(String operation, String target, PollPolicy policy, PollCheck<T> check) {
+			this.operation = operation;
+			this.target = target;
+			this.policy = policy;
+			this.check = check;
+			this.deadline = policy.getTimeoutMillis() > 0
+					? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(policy.getTimeoutMillis()) : Long.MAX_VALUE;
+		}
+
+		void schedule(long delay) {
+			delayMillis = delay;
+			if(check instanceof Expectation) {
+				long expected = ((Expectation) check).remainingMillis() * EXPECTED_SLEEP_PERCENT / 100;
+				delay = Math.max(delay, Math.min(expected, policy.getMaxDelayMillis() * MAX_EXPECTED_SLEEP_DELAYS));
+			}
+			if(deadline != Long.MAX_VALUE) {
+				long left = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if(left <= 0) {
+					String msg = String.format("Timed out after %d ms waiting for %s of %s", policy.getTimeoutMillis(), operation, target);
+					setException(new OneOpsClientAPIException(msg));
+					return;
+				}
+				delay = Math.min(delay, left);
+			}
+			wait = flightRecorderEvents ? FlightRecorderEvents.beginWait() : null;
+			timeout = TimerWheel.shared().schedule(new Runnable() {
+				@Override
+				public void run() {
+					if(wait != null) {
+						wait.commitWait(operation, target);
+					}
+					if(isDone()) {
+						return;
+					}
+					try {
+						pending = executor.submit(Polling.this);
+					} catch (RejectedExecutionException e) {
+						String msg = String.format("Executor rejected the next check of %s of %s", operation, target);
+						setException(new OneOpsClientAPIException(msg, e));
+					}
+				}
+			}, policy.jittered(delay), TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void run() {
+			if(isDone()) {
+				return;
+			}
+			try {
+				T outcome = check.check();
+				if(outcome != null) {
+					set(outcome);
+				} else if(check instanceof Progress && ((Progress) check).progressed()) {
+					schedule(policy.getInitialDelayMillis());
+				} else {
+					schedule(policy.next(delayMillis));
+				}
+			} catch (Throwable t) {
+				setException(t);
+			}
+		}
+
+		@Override
+		protected void afterDone() {
+			if(!isCancelled()) {
+				return;
+			}
+			TimerWheel.Timeout timer = timeout;
+			if(timer != null) {
+				timer.cancel();
+			}
+			Future<?> task = pending;
+			if(task != null) {
+				task.cancel(wasInterrupted());
+			}
+		}
+	}
+}
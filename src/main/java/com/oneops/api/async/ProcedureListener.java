@@ -0,0 +1,27 @@
+package com.oneops.api.async;
+
+import com.oneops.api.resource.model.Action;
+import com.oneops.api.resource.model.Procedure;
+
+/**
+ * Receives the state transitions of the procedures watched by a {@link ProcedureWatcher} and of their actions
+ */
+public interface ProcedureListener {
+
+	/**
+	 * Called each time a watched procedure is seen in a new state, the first observation included
+	 *
+	 * @param procedure procedure status, in its new state
+	 * @param previousState state seen before, null on the first observation
+	 */
+	void onProcedureStateChange(Procedure procedure, String previousState);
+
+	/**
+	 * Called each time an action of a watched procedure is seen in a new state, the first observation included
+	 *
+	 * @param procedure procedure status the action belongs to
+	 * @param action action, in its new state
+	 * @param previousState state seen before, null on the first observation
+	 */
+	void onActionStateChange(Procedure procedure, Action action, String previousState);
+}
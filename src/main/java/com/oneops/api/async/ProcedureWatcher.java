@@ -0,0 +1,225 @@
+package com.oneops.api.async;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Operation;
+import com.oneops.api.resource.model.Action;
+import com.oneops.api.resource.model.Procedure;
+
+/**
+ * Watches thousands of procedures and actions, e.g. fleet wide restarts, without a thread per procedure: all
+ * status polls are timed by the shared {@link TimerWheel}, run on the executor of the watcher and go through the
+ * transport, and so the connection pool, of the instance.
+ *
+ * Each procedure is polled quickly while it or one of its actions changes state, and less and less often while
+ * nothing changes. The future of a watch completes once the procedure reaches a terminal state (complete,
+ * failed or canceled).
+ *
+ * When the instance has a {@link TimingStore}, the durations of the procedures completed are recorded there, the
+ * number of actions standing for the number of RFCs, and a procedure with history is left alone through most of
+ * its predicted duration instead of being polled.
+ */
+public class ProcedureWatcher implements Closeable {
+
+	/**
+	 * Procedure states ending a watch
+	 */
+	public static final ImmutableSet<String> TERMINAL_STATES = ImmutableSet.of("complete", "failed", "canceled");
+
+	private final OOInstance instance;
+	private final PollPolicy policy;
+	private final TimingStore timings;
+	private final Poller poller;
+	private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<String, Operation>();
+	private final ConcurrentMap<ListenableFuture<Procedure>, ProcedureCheck> watches =
+			new ConcurrentHashMap<ListenableFuture<Procedure>, ProcedureCheck>();
+
+	/**
+	 * Watcher polling with the procedure poll policy of the instance, on the executor of the instance
+	 *
+	 * @param instance
+	 */
+	public ProcedureWatcher(OOInstance instance) {
+		this(instance, instance.getProcedurePollPolicy(), Executions.forInstance(instance));
+	}
+
+	/**
+	 * Watcher polling on the given executor, left running on {@link #close()}
+	 *
+	 * @param instance
+	 * @param policy
+	 * @param executor
+	 */
+	public ProcedureWatcher(OOInstance instance, PollPolicy policy, ExecutorService executor) {
+		this.instance = instance;
+		this.policy = policy;
+		this.timings = TimingStore.forInstance(instance);
+		this.poller = new Poller(executor, instance.isFlightRecorderEventsEnabled());
+	}
+
+	/**
+	 * Watches a procedure until it reaches a terminal state
+	 *
+	 * @param assemblyName
+	 * @param environmentName
+	 * @param procedureId
+	 * @return future completed with the procedure status in its terminal state, cancelling it stops the watch
+	 * @throws OneOpsClientAPIException
+	 */
+	public ListenableFuture<Procedure> watch(String assemblyName, String environmentName, long procedureId)
+			throws OneOpsClientAPIException {
+		return watch(assemblyName, environmentName, procedureId, null);
+	}
+
+	/**
+	 * Watches a procedure, e.g. returned by {@link Operation#executeProcedure(String, String, String)} or
+	 * {@link Operation#executeAction(String, String, String, java.util.List, String, int)}, until it reaches a terminal state, notifying the listener of every state transition of the procedure and of its actions
+	 *
+	 * @param assemblyName
+	 * @param environmentName
+	 * @param procedureId
+	 * @param listener may be null
+	 * @return future completed with the procedure status in its terminal state, cancelling it stops the watch
+	 * @throws OneOpsClientAPIException
+	 */
+	public ListenableFuture<Procedure> watch(String assemblyName, String environmentName, long procedureId,
+			ProcedureListener listener) throws OneOpsClientAPIException {
+		ProcedureCheck check = new ProcedureCheck(operation(assemblyName, environmentName), assemblyName + "/" + environmentName,
+				procedureId, listener, timings);
+		final ListenableFuture<Procedure> watch = poller.poll("watchProcedure", String.valueOf(procedureId), policy, check);
+		watches.put(watch, check);
+		watch.addListener(new Runnable() {
+			@Override
+			public void run() {
+				watches.remove(watch);
+			}
+		}, MoreExecutors.directExecutor());
+		return watch;
+	}
+
+	/**
+	 * Number of procedures watched
+	 */
+	public int getWatchCount() {
+		return watches.size();
+	}
+
+	/**
+	 * Expected completion time of a watched procedure, predicted from the durations in the timing store
+	 *
+	 * @param watch future returned by watch
+	 * @return epoch millis, -1 when unknown or when the procedure is no longer watched
+	 */
+	public long getExpectedCompletion(ListenableFuture<Procedure> watch) {
+		ProcedureCheck check = watches.get(watch);
+		return check == null ? -1 : check.expectedCompletion;
+	}
+
+	/**
+	 * Stops all watches, cancelling their futures
+	 */
+	@Override
+	public void close() {
+		for(ListenableFuture<Procedure> watch : watches.keySet()) {
+			watch.cancel(false);
+		}
+	}
+
+	private Operation operation(String assemblyName, String environmentName) throws OneOpsClientAPIException {
+		String key = assemblyName + "/" + environmentName;
+		Operation operation = operations.get(key);
+		if(operation == null) {
+			operation = new Operation(instance, assemblyName, environmentName);
+			operations.putIfAbsent(key, operation);
+		}
+		return operation;
+	}
+
+	private static class ProcedureCheck implements PollCheck<Procedure>, Poller.Progress, Poller.Expectation {
+
+		private final Operation operation;
+		private final String environment;
+		private final long procedureId;
+		private final ProcedureListener listener;
+		private final TimingStore timings;
+		private long started;
+		private volatile long expectedCompletion = -1;
+		private final Map<Long, String> actionStates = new HashMap<Long, String>();
+		private String state;
+		private boolean progressed;
+
+		ProcedureCheck(Operation operation, String environment, long procedureId, ProcedureListener listener, TimingStore timings) {
+			this.operation = operation;
+			this.environment = environment;
+			this.procedureId = procedureId;
+			this.listener = listener;
+			this.timings = timings;
+		}
+
+		@Override
+		public Procedure check() throws OneOpsClientAPIException {
+			Procedure procedure = operation.getProcedureStatus(procedureId);
+			if(state == null && timings != null) {
+				started = procedure.getCreated() != null ? procedure.getCreated() : System.currentTimeMillis();
+				long estimate = timings.estimateMillis(TimingStore.PROCEDURE, environment, maxExecOrder(procedure), actionCount(procedure));
+				if(estimate >= 0) {
+					expectedCompletion = Poller.expectedCompletion(procedure.getCreated(), procedure.getUpdated(), estimate);
+				}
+			}
+			progressed = false;
+			if(procedure.getActions() != null) {
+				for(Action action : procedure.getActions()) {
+					String previous = actionStates.put(action.getActionId(), action.getActionState());
+					if(!Objects.equal(previous, action.getActionState())) {
+						progressed = true;
+						if(listener != null) {
+							listener.onActionStateChange(procedure, action, previous);
+						}
+					}
+				}
+			}
+			String previous = state;
+			state = procedure.getProcedureState();
+			if(!Objects.equal(previous, state)) {
+				progressed = true;
+				if(listener != null) {
+					listener.onProcedureStateChange(procedure, previous);
+				}
+			}
+			if("complete".equals(state) && previous != null && timings != null) {
+				long end = procedure.getUpdated() != null ? procedure.getUpdated() : System.currentTimeMillis();
+				timings.record(TimingStore.PROCEDURE, environment, maxExecOrder(procedure), actionCount(procedure), end - started);
+			}
+			return TERMINAL_STATES.contains(state) ? procedure : null;
+		}
+
+		@Override
+		public boolean progressed() {
+			return progressed;
+		}
+
+		@Override
+		public long remainingMillis() {
+			return expectedCompletion < 0 ? 0 : expectedCompletion - System.currentTimeMillis();
+		}
+
+		private static int maxExecOrder(Procedure procedure) {
+			return procedure.getMaxExecOrder() == null ? -1 : procedure.getMaxExecOrder().intValue();
+		}
+
+		private static int actionCount(Procedure procedure) {
+			return procedure.getActions() == null ? -1 : procedure.getActions().size();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.oneops.api.async;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timer wheel timing the delays of all the pollings of the client from a single daemon thread.
+ *
+ * Timeouts are hashed into a ring of buckets by their deadline tick, so scheduling and cancelling cost O(1)
+ * whatever the number of pending timeouts; each tick only walks its own bucket. Deadlines are rounded up to
+ * the tick, and tasks run on the wheel thread so they must only hand work over to an executor. A task failing,
+ * even with an error, does not stop the wheel; should the wheel thread die anyway, the next schedule starts
+ * another one.
+ */
+final class TimerWheel {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TimerWheel.class);
+
+	private static final TimerWheel SHARED = new TimerWheel(50, TimeUnit.MILLISECONDS, 512);
+
+	private final long tickNanos;
+	private final List<List<Timeout>> buckets;
+	private final int mask;
+	private final Queue<Timeout> added = new ConcurrentLinkedQueue<Timeout>();
+	private final long start = System.nanoTime();
+	private Thread worker;
+	private long tick;
+
+	/**
+	 * @param tick duration of a tick
+	 * @param unit
+	 * @param size number of buckets, rounded up to a power of two
+	 */
+	TimerWheel(long tick, TimeUnit unit, int size) {
+		this.tickNanos = unit.toNanos(tick);
+		int buckets = Integer.highestOneBit(Math.max(2, size) - 1) << 1;
+		this.buckets = new ArrayList<List<Timeout>>(buckets);
+		for(int i = 0; i < buckets; i++) {
+			this.buckets.add(new ArrayList<Timeout>());
+		}
+		this.mask = buckets - 1;
+	}
+
+	/**
+	 * Wheel shared by all pollers and watchers, ticking every 50 ms
+	 */
+	static TimerWheel shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Runs the task on the wheel thread once the delay elapsed, unless cancelled before
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Timeout timeout = new Timeout(task, System.nanoTime() - start + unit.toNanos(Math.max(0, delay)));
+		added.add(timeout);
+		start();
+		return timeout;
+	}
+
+	private synchronized void start() {
+		if(worker == null) {
+			worker = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						loop();
+					} finally {
+						stopped();
+					}
+				}
+			}, "oneops-timer-wheel");
+			worker.setDaemon(true);
+			worker.start();
+		}
+	}
+
+	private synchronized void stopped() {
+		LOG.error("Timer wheel thread stopped, restarting it on the next schedule");
+		worker = null;
+	}
+
+	private void loop() {
+		while(true) {
+			long deadline = (tick + 1) * tickNanos;
+			long sleep = deadline - (System.nanoTime() - start);
+			if(sleep > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleep);
+				} catch (InterruptedException e) {
+					// the wheel thread is never interrupted on purpose, keep ticking
+				}
+				continue;
+			}
+			transferAdded();
+			expire(buckets.get((int) (tick & mask)));
+			tick++;
+		}
+	}
+
+	private void transferAdded() {
+		for(Timeout timeout = added.poll(); timeout != null; timeout = added.poll()) {
+			if(timeout.cancelled) {
+				continue;
+			}
+			long ticks = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos - 1);
+			timeout.rounds = (ticks - tick) / buckets.size();
+			buckets.get((int) (ticks & mask)).add(timeout);
+		}
+	}
+
+	private void expire(List<Timeout> bucket) {
+		for(Iterator<Timeout> it = bucket.iterator(); it.hasNext(); ) {
+			Timeout timeout = it.next();
+			if(timeout.cancelled) {
+				it.remove();
+			} else if(timeout.rounds <= 0) {
+				it.remove();
+				try {
+					timeout.task.run();
+				} catch (Throwable t) {
+					LOG.warn("Timer task failed", t);
+				}
+			} else {
+				timeout.rounds--;
+			}
+		}
+	}
+
+	static final class Timeout {
+
+		private final Runnable task;
+		private final long deadline;
+		private long rounds;
+		private volatile boolean cancelled;
+
+		Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		void cancel() {
+			cancelled = true;
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package com.oneops.api.async;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Objects;
+import com.oneops.api.OOInstance;
+
+/**
+ * Local append-only history of the durations of the deployments and procedures run to completion, used to
+ * predict how long the next ones will take.
+ *
+ * Durations are keyed by kind, environment, max exec order and number of RFCs (actions for procedures); every
+ * recorded run appends a line to the file and the last samples of each key are kept in memory. An estimate is
+ * the median of the samples of the same key. Without any, it falls back to the samples of the same environment
+ * and max exec order, then to all the samples of the same environment, each scaled by the ratio of the numbers
+ * of RFCs. The file is rewritten with the kept samples only when it is opened with many more lines.
+ */
+public class TimingStore implements Closeable {
+
+	public static final String DEPLOYMENT = "deployment";
+	public static final String PROCEDURE = "procedure";
+
+	/**
+	 * Number of samples kept per key
+	 */
+	public static final int DEFAULT_SAMPLES = 16;
+
+	private static final Logger LOG = LoggerFactory.getLogger(TimingStore.class);
+
+	private static final ConcurrentMap<String, TimingStore> SHARED = new ConcurrentHashMap<String, TimingStore>();
+
+	private final File file;
+	private final int samples;
+	private final boolean shared;
+	private final Map<Key, Deque<Long>> durations = new HashMap<Key, Deque<Long>>();
+	private Writer writer;
+
+	/**
+	 * @param file history file, created when missing, null to keep the history in memory only
+	 * @param samples number of samples kept per key
+	 * @throws IOException
+	 */
+	public TimingStore(File file, int samples) throws IOException {
+		this(file, samples, false);
+	}
+
+	private TimingStore(File file, int samples, boolean shared) throws IOException {
+		this.file = file;
+		this.samples = Math.max(1, samples);
+		this.shared = shared;
+		if(file != null) {
+			int lines = load();
+			if(lines > 2 * retained() + 1024) {
+				compact();
+			}
+			writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), Charsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Returns the store shared by all the clients of the timing store file of the instance, left open by {@link #close()}
+	 *
+	 * @param instance
+	 * @return null when the instance has no timing store file, or when it cannot be opened
+	 */
+	public static TimingStore forInstance(OOInstance instance) {
+		String path = instance.getTimingStoreFile();
+		if(path == null) {
+			return null;
+		}
+		TimingStore store = SHARED.get(path);
+		if(store == null) {
+			try {
+				store = new TimingStore(new File(path), DEFAULT_SAMPLES, true);
+			} catch (IOException e) {
+				LOG.warn("Timing store " + path + " cannot be opened, durations are not predicted", e);
+				return null;
+			}
+			TimingStore shared = SHARED.putIfAbsent(path, store);
+			if(shared != null) {
+				store.closeWriter();
+				store = shared;
+			}
+		}
+		return store;
+	}
+
+	/**
+	 * Records the duration of a run completed
+	 *
+	 * @param kind {@link #DEPLOYMENT} or {@link #PROCEDURE}
+	 * @param environment assembly and environment, e.g. myAssembly/prod
+	 * @param maxExecOrder number of steps of the run, -1 when unknown
+	 * @param rfcCount number of RFCs, or actions, of the run, -1 when unknown
+	 * @param durationMillis
+	 */
+	public synchronized void record(String kind, String environment, int maxExecOrder, int rfcCount, long durationMillis) {
+		Key key = new Key(clean(kind), clean(environment), maxExecOrder, rfcCount);
+		add(key, durationMillis);
+		if(writer != null) {
+			try {
+				write(writer, key, durationMillis);
+				writer.flush();
+			} catch (IOException e) {
+				LOG.warn("Failed to append to timing store " + file + ", durations are only kept in memory", e);
+				closeWriter();
+			}
+		}
+	}
+
+	/**
+	 * Predicts the duration of a run
+	 *
+	 * @param kind
+	 * @param environment
+	 * @param maxExecOrder
+	 * @param rfcCount
+	 * @return predicted duration, -1 when the environment has no history
+	 */
+	public synchronized long estimateMillis(String kind, String environment, int maxExecOrder, int rfcCount) {
+		Key key = new Key(clean(kind), clean(environment), maxExecOrder, rfcCount);
+		Deque<Long> exact = durations.get(key);
+		if(exact != null) {
+			return median(new ArrayList<Long>(exact));
+		}
+		List<Long> similar = scaled(key, true);
+		if(similar.isEmpty()) {
+			similar = scaled(key, false);
+		}
+		return similar.isEmpty() ? -1 : median(similar);
+	}
+
+	/**
+	 * Closes the history file, except for the stores returned by {@link #forInstance(OOInstance)} which other
+	 * clients may still be recording to
+	 */
+	@Override
+	public synchronized void close() {
+		if(!shared) {
+			closeWriter();
+		}
+	}
+
+	private List<Long> scaled(Key key, boolean sameExecOrder) {
+		List<Long> scaled = new ArrayList<Long>();
+		for(Entry<Key, Deque<Long>> entry : durations.entrySet()) {
+			Key sample = entry.getKey();
+			if(!sample.kind.equals(key.kind) || !sample.environment.equals(key.environment)
+					|| sameExecOrder && sample.maxExecOrder != key.maxExecOrder) {
+				continue;
+			}
+			double ratio = key.rfcCount < 0 || sample.rfcCount < 0 ? 1 : (key.rfcCount + 1.0) / (sample.rfcCount + 1.0);
+			for(Long duration : entry.getValue()) {
+				scaled.add((long) (duration * ratio));
+			}
+		}
+		return scaled;
+	}
+
+	private static long median(List<Long> values) {
+		Collections.sort(values);
+		return values.get(values.size() / 2);
+	}
+
+	private void add(Key key, long durationMillis) {
+		Deque<Long> kept = durations.get(key);
+		if(kept == null) {
+			kept = new ArrayDeque<Long>(samples);
+			durations.put(key, kept);
+		}
+		if(kept.size() == samples) {
+			kept.removeFirst();
+		}
+		kept.addLast(durationMillis);
+	}
+
+	private int retained() {
+		int retained = 0;
+		for(Deque<Long> kept : durations.values()) {
+			retained += kept.size();
+		}
+		return retained;
+	}
+
+	private int load() throws IOException {
+		if(!file.exists()) {
+			return 0;
+		}
+		int lines = 0;
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), Charsets.UTF_8));
+		try {
+			for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lines++;
+				String[] fields = line.split("\t");
+				if(fields.length < 5) {
+					continue;
+				}
+				try {
+					add(new Key(fields[0], fields[1], Integer.parseInt(fields[2]), Integer.parseInt(fields[3])),
+							Long.parseLong(fields[4]));
+				} catch (NumberFormatException e) {
+					LOG.debug("Skipping malformed timing store line {}", lines);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return lines;
+	}
+
+	private void compact() throws IOException {
+		File compacted = new File(file.getPath() + ".tmp");
+		Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(compacted), Charsets.UTF_8));
+		try {
+			for(Entry<Key, Deque<Long>> entry : durations.entrySet()) {
+				for(Long duration : entry.getValue()) {
+					write(out, entry.getKey(), duration);
+				}
+			}
+		} finally {
+			out.close();
+		}
+		Files.move(compacted.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static void write(Writer out, Key key, long durationMillis) throws IOException {
+		out.write(key.kind + "\t" + key.environment + "\t" + key.maxExecOrder + "\t" + key.rfcCount + "\t" + durationMillis
+				+ "\t" + System.currentTimeMillis() + "\n");
+	}
+
+	private void closeWriter() {
+		if(writer != null) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				LOG.debug("Failed to close timing store " + file, e);
+			}
+			writer = null;
+		}
+	}
+
+	private static String clean(String value) {
+		return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+	}
+
+	private static final class Key {
+
+		private final String kind;
+		private final String environment;
+		private final int maxExecOrder;
+		private final int rfcCount;
+
+		Key(String kind, String environment, int maxExecOrder, int rfcCount) {
+			this.kind = kind;
+			this.environment = environment;
+			this.maxExecOrder = maxExecOrder;
+			this.rfcCount = rfcCount;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return kind.equals(other.kind) && environment.equals(other.environment)
+					&& maxExecOrder == other.maxExecOrder && rfcCount == other.rfcCount;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(kind, environment, maxExecOrder, rfcCount);
+		}
+	}
+}
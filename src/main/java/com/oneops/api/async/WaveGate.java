@@ -0,0 +1,13 @@
+package com.oneops.api.async;
+
+/**
+ * Decides, once all the targets of a wave ended, whether the next wave of a promotion starts
+ */
+public interface WaveGate {
+
+	/**
+	 * @param completed outcome of the wave just ended
+	 * @return whether the next wave starts, the remaining waves being skipped otherwise
+	 */
+	boolean open(DeploymentOrchestrator.WaveResult completed);
+}
@@ -0,0 +1,73 @@
+package com.oneops.api.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurements of a single OneOps API call, handed to the {@link MetricsListener}s
+ */
+public class CallMetrics {
+
+	private final String method;
+	private final String route;
+	private final int statusCode;
+	private final long requestBytes;
+	private final long responseBytes;
+	private final long durationNanos;
+	private final Throwable failure;
+
+	public CallMetrics(String method, String route, int statusCode, long requestBytes, long responseBytes,
+			long durationNanos, Throwable failure) {
+		this.method = method;
+		this.route = route;
+		this.statusCode = statusCode;
+		this.requestBytes = requestBytes;
+		this.responseBytes = responseBytes;
+		this.durationNanos = durationNanos;
+		this.failure = failure;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * Route template of the call, see {@link RouteTemplates}
+	 */
+	public String getRoute() {
+		return route;
+	}
+
+	/**
+	 * Http status of the response, 0 when the call failed without response
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public long getRequestBytes() {
+		return requestBytes;
+	}
+
+	/**
+	 * Response body bytes received on the wire
+	 */
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	public long getDuration(TimeUnit unit) {
+		return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Failure of a call that got no response, null otherwise
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s %s %d %dms", method, route, statusCode, getDuration(TimeUnit.MILLISECONDS));
+	}
+}
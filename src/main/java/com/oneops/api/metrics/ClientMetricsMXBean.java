@@ -0,0 +1,17 @@
+package com.oneops.api.metrics;
+
+import java.util.List;
+
+/**
+ * JMX view of the {@link MetricsRegistry} of an {@link com.oneops.api.OOInstance}
+ */
+public interface ClientMetricsMXBean {
+
+	long getTotalCalls();
+
+	long getTotalErrors();
+
+	List<RouteStats> getRoutes();
+
+	void reset();
+}
@@ -0,0 +1,176 @@
+package com.oneops.api.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Java Flight Recorder events of the OneOps API calls and polling waits.
+ *
+ * The client targets Java 7, so the event types are defined at runtime through <code>jdk.jfr.EventFactory</code>
+ * when the running JVM ships JFR (8u262+, 11+). Elsewhere, and while not enabled on the instance, events are
+ * no-ops. Once enabled, events are only written when a recording enables <code>com.oneops.api.Call</code> or
+ * <code>com.oneops.api.PollWait</code>, e.g. <code>-XX:StartFlightRecording</code>.
+ */
+public final class FlightRecorderEvents {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FlightRecorderEvents.class);
+
+	public static final String CALL_EVENT = "com.oneops.api.Call";
+	public static final String WAIT_EVENT = "com.oneops.api.PollWait";
+
+	private static final Event NOOP = new Event(null);
+
+	private FlightRecorderEvents() {
+	}
+
+	/**
+	 * Whether the running JVM supports flight recorder events
+	 */
+	public static boolean isAvailable() {
+		return Jfr.CALL != null;
+	}
+
+	/**
+	 * Starts the event of an HTTP call, to be committed through {@link Event#commitCall(String, String, int, long, long)}
+	 */
+	public static Event beginCall() {
+		return begin(Jfr.CALL);
+	}
+
+	/**
+	 * Starts the event of a wait between two polls of a long running operation, to be committed through
+	 * {@link Event#commitWait(String, String)}
+	 */
+	public static Event beginWait() {
+		return begin(Jfr.WAIT);
+	}
+
+	private static Event begin(Object factory) {
+		if(factory == null) {
+			return NOOP;
+		}
+		try {
+			Object event = Jfr.newEvent.invoke(factory);
+			Jfr.begin.invoke(event);
+			return new Event(event);
+		} catch (Exception e) {
+			LOG.debug("Failed to create flight recorder event", e);
+			return NOOP;
+		}
+	}
+
+	/**
+	 * Flight recorder event in progress, a no-op when JFR is not available
+	 */
+	public static final class Event {
+
+		private final Object event;
+
+		private Event(Object event) {
+			this.event = event;
+		}
+
+		public void commitCall(String method, String route, int statusCode, long requestBytes, long responseBytes) {
+			commit(method, route, statusCode, requestBytes, responseBytes);
+		}
+
+		public void commitWait(String operation, String target) {
+			commit(operation, target);
+		}
+
+		private void commit(Object... values) {
+			if(event == null) {
+				return;
+			}
+			try {
+				Jfr.end.invoke(event);
+				if((Boolean) Jfr.shouldCommit.invoke(event)) {
+					for(int i = 0; i < values.length; i++) {
+						Jfr.set.invoke(event, i, values[i]);
+					}
+					Jfr.commit.invoke(event);
+				}
+			} catch (Exception e) {
+				LOG.debug("Failed to commit flight recorder event", e);
+			}
+		}
+	}
+
+	/**
+	 * Event types, defined on first use; factories are null when JFR is not available
+	 */
+	private static final class Jfr {
+
+		static Method newEvent;
+		static Method begin;
+		static Method end;
+		static Method shouldCommit;
+		static Method set;
+		static Method commit;
+		static final Object CALL;
+		static final Object WAIT;
+
+		static {
+			Object call = null;
+			Object wait = null;
+			try {
+				Class<?> eventClass = Class.forName("jdk.jfr.Event");
+				newEvent = Class.forName("jdk.jfr.EventFactory").getMethod("newEvent");
+				begin = eventClass.getMethod("begin");
+				end = eventClass.getMethod("end");
+				shouldCommit = eventClass.getMethod("shouldCommit");
+				set = eventClass.getMethod("set", int.class, Object.class);
+				commit = eventClass.getMethod("commit");
+				call = create(CALL_EVENT, "OneOps API Call", "HTTP call to the OneOps API",
+						field(String.class, "method", "Method", null),
+						field(String.class, "route", "Route", null),
+						field(int.class, "statusCode", "Status Code", null),
+						field(long.class, "requestBytes", "Request Size", "BYTES"),
+						field(long.class, "responseBytes", "Response Size", "BYTES"));
+				wait = create(WAIT_EVENT, "OneOps Poll Wait", "Wait between two polls of a long running OneOps operation",
+						field(String.class, "operation", "Operation", null),
+						field(String.class, "target", "Target", null));
+			} catch (ClassNotFoundException e) {
+				LOG.debug("Flight recorder not available in this JVM");
+			} catch (Exception e) {
+				LOG.warn("Failed to define flight recorder events", e);
+				call = null;
+				wait = null;
+			}
+			CALL = call;
+			WAIT = wait;
+		}
+
+		private static Object create(String name, String label, String description, Object... fields) throws Exception {
+			List<Object> annotations = Arrays.asList(
+					annotation("jdk.jfr.Name", name),
+					annotation("jdk.jfr.Label", label),
+					annotation("jdk.jfr.Description", description),
+					annotation("jdk.jfr.Category", new String[] { "OneOps" }));
+			return Class.forName("jdk.jfr.EventFactory").getMethod("create", List.class, List.class)
+					.invoke(null, annotations, Arrays.asList(fields));
+		}
+
+		private static Object field(Class<?> type, String name, String label, String dataAmount) throws Exception {
+			List<Object> annotations = dataAmount == null
+					? Collections.singletonList(annotation("jdk.jfr.Label", label))
+					: Arrays.asList(annotation("jdk.jfr.Label", label), annotation("jdk.jfr.DataAmount", dataAmount));
+			Constructor<?> constructor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+			return constructor.newInstance(type, name, annotations);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Object annotation(String type, Object value) throws Exception {
+			Class<? extends Annotation> annotationType = (Class<? extends Annotation>) Class.forName(type);
+			Constructor<?> constructor = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+			return constructor.newInstance(annotationType, value);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.oneops.api.metrics;
+
+/**
+ * Receives the measurements of every OneOps API call, e.g. to export them to a monitoring system.
+ *
+ * Listeners are called on the thread making the call, right after it completed; they should be quick and
+ * must not throw.
+ */
+public interface MetricsListener {
+
+	void onCall(CallMetrics call);
+}
@@ -0,0 +1,139 @@
+package com.oneops.api.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+/**
+ * Metrics of the OneOps API calls made through an {@link com.oneops.api.OOInstance}, kept per method and
+ * route template, and forwarded to the registered {@link MetricsListener}s.
+ *
+ * Can be exposed as a {@link ClientMetricsMXBean} through {@link #registerMBean(String)}.
+ */
+public class MetricsRegistry implements ClientMetricsMXBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetricsRegistry.class);
+
+	private final ConcurrentMap<String, RouteMetrics> routes = new ConcurrentHashMap<String, RouteMetrics>();
+	private final List<MetricsListener> listeners = new CopyOnWriteArrayList<MetricsListener>();
+	private volatile ObjectName mbeanName;
+
+	public void record(CallMetrics call) {
+		String key = call.getMethod() + " " + call.getRoute();
+		RouteMetrics metrics = routes.get(key);
+		if(metrics == null) {
+			RouteMetrics created = new RouteMetrics(key);
+			metrics = routes.putIfAbsent(key, created);
+			metrics = metrics == null ? created : metrics;
+		}
+		metrics.record(call);
+		for(MetricsListener listener : listeners) {
+			try {
+				listener.onCall(call);
+			} catch (RuntimeException e) {
+				LOG.warn("Metrics listener {} failed", listener, e);
+			}
+		}
+	}
+
+	public void addListener(MetricsListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(MetricsListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Metrics of the given method and route template, e.g. <code>GET /clouds/{cloud}</code>, null when not called yet
+	 *
+	 * @param route
+	 * @return
+	 */
+	public RouteMetrics getRouteMetrics(String route) {
+		return routes.get(route);
+	}
+
+	public Collection<RouteMetrics> getRouteMetrics() {
+		return ImmutableList.copyOf(routes.values());
+	}
+
+	@Override
+	public long getTotalCalls() {
+		long calls = 0;
+		for(RouteMetrics metrics : routes.values()) {
+			calls += metrics.getCalls();
+		}
+		return calls;
+	}
+
+	@Override
+	public long getTotalErrors() {
+		long errors = 0;
+		for(RouteMetrics metrics : routes.values()) {
+			errors += metrics.getErrors();
+		}
+		return errors;
+	}
+
+	@Override
+	public List<RouteStats> getRoutes() {
+		List<RouteStats> stats = Lists.newArrayList();
+		for(RouteMetrics metrics : routes.values()) {
+			stats.add(RouteStats.of(metrics));
+		}
+		return stats;
+	}
+
+	@Override
+	public void reset() {
+		for(RouteMetrics metrics : routes.values()) {
+			metrics.reset();
+		}
+	}
+
+	/**
+	 * Registers this registry in the platform MBean server as <code>com.oneops.api:type=ClientMetrics,name=...</code>
+	 *
+	 * @param name
+	 */
+	public synchronized void registerMBean(String name) {
+		unregisterMBean();
+		try {
+			ObjectName objectName = new ObjectName("com.oneops.api:type=ClientMetrics,name=" + ObjectName.quote(name));
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if(server.isRegistered(objectName)) {
+				objectName = new ObjectName("com.oneops.api:type=ClientMetrics,name="
+						+ ObjectName.quote(name + "@" + Integer.toHexString(System.identityHashCode(this))));
+			}
+			server.registerMBean(this, objectName);
+			mbeanName = objectName;
+		} catch (JMException e) {
+			LOG.warn("Failed to register client metrics MBean {}", name, e);
+		}
+	}
+
+	public synchronized void unregisterMBean() {
+		if(mbeanName != null) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+			} catch (JMException e) {
+				LOG.warn("Failed to unregister client metrics MBean {}", mbeanName, e);
+			}
+			mbeanName = null;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.oneops.api.metrics;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Call counters and latency histogram of a route template
+ */
+public class RouteMetrics {
+
+	private final String route;
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final StripedCounter calls = new StripedCounter();
+	private final StripedCounter failures = new StripedCounter();
+	private final StripedCounter requestBytes = new StripedCounter();
+	private final StripedCounter responseBytes = new StripedCounter();
+	private final ConcurrentMap<Integer, StripedCounter> statusCodes = new ConcurrentHashMap<Integer, StripedCounter>();
+
+	RouteMetrics(String route) {
+		this.route = route;
+	}
+
+	void record(CallMetrics call) {
+		calls.increment();
+		latency.record(call.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+		requestBytes.add(call.getRequestBytes());
+		responseBytes.add(call.getResponseBytes());
+		if(call.getFailure() != null) {
+			failures.increment();
+		} else {
+			StripedCounter counter = statusCodes.get(call.getStatusCode());
+			if(counter == null) {
+				StripedCounter created = new StripedCounter();
+				counter = statusCodes.putIfAbsent(call.getStatusCode(), created);
+				counter = counter == null ? created : counter;
+			}
+			counter.increment();
+		}
+	}
+
+	/**
+	 * Method and route template, e.g. <code>GET /assemblies/{a}/transition/environments/{e}</code>
+	 */
+	public String getRoute() {
+		return route;
+	}
+
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	public long getCalls() {
+		return calls.sum();
+	}
+
+	/**
+	 * Calls failing without response (I/O errors, open circuit...)
+	 */
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	/**
+	 * Calls answered with a status outside of 2xx/3xx, or failing without response
+	 */
+	public long getErrors() {
+		long errors = failures.sum();
+		for(Entry<Integer, StripedCounter> entry : statusCodes.entrySet()) {
+			if(entry.getKey() >= 400) {
+				errors += entry.getValue().sum();
+			}
+		}
+		return errors;
+	}
+
+	public long getRequestBytes() {
+		return requestBytes.sum();
+	}
+
+	public long getResponseBytes() {
+		return responseBytes.sum();
+	}
+
+	/**
+	 * Number of responses per http status
+	 */
+	public Map<Integer, Long> getStatusCodes() {
+		Map<Integer, Long> counts = Maps.newTreeMap();
+		for(Entry<Integer, StripedCounter> entry : statusCodes.entrySet()) {
+			counts.put(entry.getKey(), entry.getValue().sum());
+		}
+		return counts;
+	}
+
+	void reset() {
+		latency.reset();
+		calls.reset();
+		failures.reset();
+		requestBytes.reset();
+		responseBytes.reset();
+		statusCodes.clear();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s calls=%d errors=%d p50=%.1fms p99=%.1fms max=%.1fms", route, getCalls(), getErrors(),
+				latency.getPercentileMillis(50), latency.getPercentileMillis(99), latency.getMaxMillis());
+	}
+}
@@ -0,0 +1,81 @@
+package com.oneops.api.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+
+/**
+ * Point in time view of the {@link RouteMetrics} of a route, as exposed through JMX
+ */
+public class RouteStats {
+
+	private final String route;
+	private final long calls;
+	private final long errors;
+	private final long requestBytes;
+	private final long responseBytes;
+	private final double meanMillis;
+	private final double p50Millis;
+	private final double p95Millis;
+	private final double p99Millis;
+	private final double maxMillis;
+	private final Map<Integer, Long> statusCodes;
+
+	@ConstructorProperties({ "route", "calls", "errors", "requestBytes", "responseBytes", "meanMillis", "p50Millis",
+			"p95Millis", "p99Millis", "maxMillis", "statusCodes" })
+	public RouteStats(String route, long calls, long errors, long requestBytes, long responseBytes, double meanMillis,
+			double p50Millis, double p95Millis, double p99Millis, double maxMillis, Map<Integer, Long> statusCodes) {
+		this.route = route;
+		this.calls = calls;
+		this.errors = errors;
+		this.requestBytes = requestBytes;
+		this.responseBytes = responseBytes;
+		this.meanMillis = meanMillis;
+		this.p50Millis = p50Millis;
+		this.p95Millis = p95Millis;
+		this.p99Millis = p99Millis;
+		this.maxMillis = maxMillis;
+		this.statusCodes = statusCodes;
+	}
+
+	static RouteStats of(RouteMetrics metrics) {
+		LatencyHistogram latency = metrics.getLatency();
+		return new RouteStats(metrics.getRoute(), metrics.getCalls(), metrics.getErrors(), metrics.getRequestBytes(),
+				metrics.getResponseBytes(), latency.getMeanMillis(), latency.getPercentileMillis(50),
+				latency.getPercentileMillis(95), latency.getPercentileMillis(99), latency.getMaxMillis(),
+				metrics.getStatusCodes());
+	}
+
+	public String getRoute() {
+		return route;
+	}
+	public long getCalls() {
+		return calls;
+	}
+	public long getErrors() {
+		return errors;
+	}
+	public long getRequestBytes() {
+		return requestBytes;
+	}
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+	public double getMeanMillis() {
+		return meanMillis;
+	}
+	public double getP50Millis() {
+		return p50Millis;
+	}
+	public double getP95Millis() {
+		return p95Millis;
+	}
+	public double getP99Millis() {
+		return p99Millis;
+	}
+	public double getMaxMillis() {
+		return maxMillis;
+	}
+	public Map<Integer, Long> getStatusCodes() {
+		return statusCodes;
+	}
+}
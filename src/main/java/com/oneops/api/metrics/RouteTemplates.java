@@ -0,0 +1,97 @@
+package com.oneops.api.metrics;
+
+import java.util.Map;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Turns request paths into route templates, e.g. <code>/assemblies/my-app/transition/environments/qa/deployments/42/status</code>
+ * into <code>/assemblies/{a}/transition/environments/{e}/deployments/{id}/status</code>.
+ *
+ * Segments naming a OneOps resource collection or action are kept, every other segment is replaced by a
+ * placeholder named after the collection it belongs to.
+ */
+public final class RouteTemplates {
+
+	private static final Map<String, String> PLACEHOLDERS = ImmutableMap.<String, String>builder()
+			.put("assemblies", "{a}")
+			.put("environments", "{e}")
+			.put("platforms", "{p}")
+			.put("components", "{c}")
+			.put("clouds", "{cloud}")
+			.put("services", "{service}")
+			.put("offerings", "{offering}")
+			.put("organizations", "{org}")
+			.put("organization", "{org}")
+			.put("teams", "{team}")
+			.put("members", "{member}")
+			.put("variables", "{var}")
+			.put("attachments", "{attachment}")
+			.put("actions", "{action}")
+			.put("monitors", "{monitor}")
+			.put("relays", "{relay}")
+			.build();
+
+	private static final ImmutableSet<String> KEYWORDS = ImmutableSet.<String>builder()
+			.addAll(PLACEHOLDERS.keySet())
+			.add("account", "design", "transition", "operations", "releases", "deployments", "procedures", "instances",
+					"bom", "rfcs", "timeline", "status", "commit", "pull", "discard", "restore", "disable", "enable",
+					"touch", "clone", "load", "edit", "new", "available", "autoreplace", "cloud_configuration",
+					"log_data", "update_teams", "zones", "latest", "cost", "notifications", "diff")
+			.build();
+
+	private static final LoadingCache<String, String> TEMPLATES = CacheBuilder.newBuilder()
+			.maximumSize(4096)
+			.build(new CacheLoader<String, String>() {
+				@Override
+				public String load(String path) {
+					return template(path);
+				}
+			});
+
+	private RouteTemplates() {
+	}
+
+	/**
+	 * Returns the route template of the given path, query string excluded
+	 *
+	 * @param path
+	 * @return
+	 */
+	public static String of(String path) {
+		if(path == null || path.isEmpty()) {
+			return "/";
+		}
+		int query = path.indexOf('?');
+		return TEMPLATES.getUnchecked(query < 0 ? path : path.substring(0, query));
+	}
+
+	private static String template(String path) {
+		StringBuilder template = new StringBuilder(path.length());
+		String previous = null;
+		int start = 0;
+		while(start <= path.length()) {
+			int end = path.indexOf('/', start);
+			if(end < 0) {
+				end = path.length();
+			}
+			String segment = path.substring(start, end);
+			if(start > 0) {
+				template.append('/');
+			}
+			if(segment.isEmpty() || KEYWORDS.contains(segment)) {
+				template.append(segment);
+			} else {
+				String placeholder = previous == null ? null : PLACEHOLDERS.get(previous);
+				template.append(placeholder == null ? "{id}" : placeholder);
+			}
+			previous = segment;
+			start = end + 1;
+		}
+		return template.toString();
+	}
+}
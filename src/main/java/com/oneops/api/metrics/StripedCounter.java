@@ -0,0 +1,56 @@
+package com.oneops.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Low contention counter: increments are spread over padded cells picked by thread, and summed on read.
+ * Plays the role of <code>LongAdder</code>, which is not available on Java 7.
+ */
+public class StripedCounter {
+
+	private static final int PADDING = 8;
+	private static final int STRIPES = stripes();
+
+	private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+	public void increment() {
+		add(1);
+	}
+
+	public void add(long delta) {
+		cells.getAndAdd(index(), delta);
+	}
+
+	public long sum() {
+		long sum = 0;
+		for(int i = 0; i < STRIPES; i++) {
+			sum += cells.get(i * PADDING);
+		}
+		return sum;
+	}
+
+	public void reset() {
+		for(int i = 0; i < STRIPES; i++) {
+			cells.set(i * PADDING, 0);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(sum());
+	}
+
+	private static int index() {
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+		return ((hash >>> 16) & (STRIPES - 1)) * PADDING;
+	}
+
+	private static int stripes() {
+		int stripes = 1;
+		while(stripes < Runtime.getRuntime().availableProcessors() * 2) {
+			stripes <<= 1;
+		}
+		return Math.min(stripes, 64);
+	}
+}
@@ -6,15 +6,14 @@ import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.jayway.restassured.path.json.JsonPath;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.Organization;
 import com.oneops.api.resource.model.User;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
-import com.oneops.api.util.JsonUtil;
 
 public class Account extends APIClient {
 
@@ -29,11 +28,11 @@ public class Account extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<Organization> listOrganizations() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ACCOUNT_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ACCOUNT_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<Organization>>(){});
+				return response.getBody().as(new TypeReference<List<Organization>>(){});
 			} else {
 				String msg = String.format("Failed to get list of organizations due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -56,8 +55,8 @@ public class Account extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ACCOUNT_URI + organizationName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ACCOUNT_URI + organizationName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Organization.class);
@@ -82,10 +81,10 @@ public class Account extends APIClient {
 			String msg = "Missing organization name to create one";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jsonObject = new JSONObject();
 		jsonObject.put("name", organizationName);
-		Response response = request.body(jsonObject.toString()).post(IConstants.ACCOUNT_URI);
+		OneOpsResponse response = request.body(jsonObject.toString()).post(IConstants.ACCOUNT_URI);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -112,7 +111,7 @@ public class Account extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		Organization org = getOrganization(organizationName);
 		Long id =  org.getId();
 		if(id == null) {
@@ -120,7 +119,7 @@ public class Account extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		} 
 		
-		Response response = request.delete(IConstants.ACCOUNT_URI + id);
+		OneOpsResponse response = request.delete(IConstants.ACCOUNT_URI + id);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Organization.class);
@@ -140,8 +139,8 @@ public class Account extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public JsonPath listEnvironmentProfiles() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ORGANIZATION_URI + "environments");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ORGANIZATION_URI + "environments");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().jsonPath();
@@ -161,8 +160,8 @@ public class Account extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public User getAccount() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get("/account/profile");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get("/account/profile");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(User.class);
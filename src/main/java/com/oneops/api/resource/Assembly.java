@@ -10,16 +10,16 @@ import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.Strings;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.CiResource;
 import com.oneops.api.resource.model.Team;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
-import com.oneops.api.util.JsonUtil;
+import com.oneops.api.util.JsonBody;
 
 public class Assembly extends APIClient {
 
@@ -40,8 +40,8 @@ public class Assembly extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ASSEMBLY_URI + assemblyName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ASSEMBLY_URI + assemblyName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -60,11 +60,11 @@ public class Assembly extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<CiResource> listAssemblies() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ASSEMBLY_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ASSEMBLY_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of assemblies due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -135,10 +135,10 @@ public class Assembly extends APIClient {
 
 		ro.setAttributes(attributes);
 
-		RequestSpecification request = createRequest();
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(ro, "cms_ci");
 
-		Response response = request.body(jsonObject.toString()).post(IConstants.ASSEMBLY_URI);
+		OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.ASSEMBLY_URI);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -190,10 +190,10 @@ public class Assembly extends APIClient {
 		properties.put("id", fromAssembly);
 		ro.setProperties(properties);
 		
-		RequestSpecification request = createRequest();
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro,null);
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(ro, null);
 		
-		Response response = request.body(jsonObject.toString()).post(IConstants.ASSEMBLY_URI  + fromAssembly +  "/clone");
+		OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.ASSEMBLY_URI  + fromAssembly +  "/clone");
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -253,10 +253,10 @@ public class Assembly extends APIClient {
 		
 		ro.setAttributes(attributes);
 		
-		RequestSpecification request = createRequest();
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(ro, "cms_ci");
 
-		Response response = request.body(jsonObject.toString()).put(IConstants.ASSEMBLY_URI + assemblyName);
+		OneOpsResponse response = request.body(body.toByteArray()).put(IConstants.ASSEMBLY_URI + assemblyName);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -283,8 +283,8 @@ public class Assembly extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(IConstants.ASSEMBLY_URI + assemblyName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(IConstants.ASSEMBLY_URI + assemblyName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -349,11 +349,11 @@ public class Assembly extends APIClient {
 				} else {
 					jsonObject.put("add", inputTeamList);
 				}
-				RequestSpecification request = createRequest();
-				Response response = request.body(jsonObject.toString()).put(IConstants.ASSEMBLY_URI + assemblyName + "/update_teams");
+				OneOpsRequest request = createRequest();
+				OneOpsResponse response = request.body(jsonObject.toString()).put(IConstants.ASSEMBLY_URI + assemblyName + "/update_teams");
 				if (response != null) {
 					if (response.getStatusCode() == 200) {
-						ciResourceList= JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+						ciResourceList= response.getBody().as(new TypeReference<List<CiResource>>(){});
 					} else {
 						String msg = String.format("Failed to add teams with name %s due to %s", assemblyName, response.getStatusLine());
 						throw new OneOpsClientAPIException(msg);
@@ -375,11 +375,11 @@ public class Assembly extends APIClient {
 			String msg = "Missing organization name to fetch details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ORGANIZATION_URI + "teams");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ORGANIZATION_URI + "teams");
 		if(response != null) {
 			if(response.getStatusCode() == 200) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<Team>>(){});
+				return response.getBody().as(new TypeReference<List<Team>>(){});
 			} else {
 				String msg = String.format("Failed to get team list for organization with name %s due to %s", orgName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -400,11 +400,11 @@ public class Assembly extends APIClient {
 			String msg = "Missing assembly name to fetch details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ASSEMBLY_URI + assemblyName + "/teams");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ASSEMBLY_URI + assemblyName + "/teams");
 		if (response != null) {
 			if (response.getStatusCode() == 200) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<Team>>() {
+				return response.getBody().as(new TypeReference<List<Team>>() {
 				});
 			} else {
 				String msg = String.format("Failed to get assembly team list with name %s due to %s", assemblyName, response.getStatusLine());
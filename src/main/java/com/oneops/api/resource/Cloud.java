@@ -5,18 +5,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
-import com.oneops.api.util.JsonUtil;
+import com.oneops.api.util.JsonBody;
 
 public class Cloud extends APIClient {
 
@@ -39,8 +38,8 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -66,11 +65,11 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + "/zones");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + "/zones");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of zones of cloud %s due to %s", cloudName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -87,11 +86,11 @@ public class Cloud extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<CiResource> listClouds() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of clouds due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -109,11 +108,11 @@ public class Cloud extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<CiResource> listCloudServices(String cloudName) throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + "/services");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + "/services");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of cloud services due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -141,8 +140,8 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + serviceName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + serviceName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -176,10 +175,10 @@ public class Cloud extends APIClient {
 		}
 		ResourceObject ro = new ResourceObject();
 		ro.setAttributes(attr);
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+		JsonBody body = JsonBody.of(ro, "cms_ci");
 		
-		RequestSpecification request = createRequest();
-		Response response = request.body(jsonObject.toString()).put(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + serviceName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.body(body.toByteArray()).put(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + serviceName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -248,10 +247,10 @@ public class Cloud extends APIClient {
 				}
 				if(attributes.size() > 0) {
 					ro.setAttributes(attributes);
-					RequestSpecification request = createRequest();
-					JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
-					jsonObject.put("mgmtCiId", mgmtId);
-					Response response = request.body(jsonObject.toString()).post(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI);
+					OneOpsRequest request = createRequest();
+					JsonBody body = JsonBody.of(ro, "cms_ci");
+					body.put("mgmtCiId", mgmtId);
+					OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI);
 					if(response != null) {
 						if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 							return response.getBody().as(CiResource.class);
@@ -280,11 +279,11 @@ public class Cloud extends APIClient {
 			String msg = "Missing cloud name to fetch service details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "diff");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "diff");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get cloud %s diff due to %s", cloudName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -307,11 +306,11 @@ public class Cloud extends APIClient {
 			String msg = "Missing cloud name to fetch service details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "available");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "available");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<Map<String, List<CiResource>>>(){});
+				return response.getBody().as(new TypeReference<Map<String, List<CiResource>>>(){});
 			} else {
 				String msg = String.format("Failed to get cloud %s available servcies due to %s", cloudName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -335,8 +334,8 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "new?mgmtCiId=" + mgmtId);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.SERVICE_URI + "new?mgmtCiId=" + mgmtId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -385,11 +384,11 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.VARIABLES_URI );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + IConstants.VARIABLES_URI );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of cloud variables due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -413,9 +412,9 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/" + "new?mgmtOfferingCiId=" + nsId);
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/" + "new?mgmtOfferingCiId=" + nsId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -439,11 +438,11 @@ public class Cloud extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/available");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/available");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of cloud offerings for cloud %s due to %s", cloudName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -477,10 +476,10 @@ public class Cloud extends APIClient {
 					}
 					ro.setAttributes(attributes);
 					
-					RequestSpecification request = createRequest();
-					JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+					OneOpsRequest request = createRequest();
+					JsonBody body = JsonBody.of(ro, "cms_ci");
 
-					Response response = request.body(jsonObject.toString()).post(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/");
+					OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/");
 					
 					if(response != null) {
 						if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -500,10 +499,11 @@ public class Cloud extends APIClient {
 	 * 
 	 * @param cloudName
 	 * @return
+	 * @throws OneOpsClientAPIException
 	 */
-	private CiResource getCloudOffering(String cloudName, String serviceName, String offeringName) {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/" + offeringName);
+	private CiResource getCloudOffering(String cloudName, String serviceName, String offeringName) throws OneOpsClientAPIException {
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.CLOUDS_URI + cloudName + "/services/" + serviceName + "/offerings/" + offeringName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
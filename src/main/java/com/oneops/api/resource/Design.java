@@ -5,16 +5,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 
 import org.json.JSONArray;
-import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.jayway.restassured.path.json.JsonPath;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
@@ -23,8 +21,10 @@ import com.oneops.api.resource.model.AttrProps;
 import com.oneops.api.resource.model.CiAttributes;
 import com.oneops.api.resource.model.CiResource;
 import com.oneops.api.resource.model.Release;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
-import com.oneops.api.util.JsonUtil;
+import com.oneops.api.util.JsonBody;
 
 
 public class Design extends APIClient {
@@ -55,8 +55,8 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -76,11 +76,11 @@ public class Design extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<CiResource> listPlatforms() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of platforms due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -148,9 +148,9 @@ public class Design extends APIClient {
 		Map<String, String> ownerProps = Maps.newHashMap();
 		ownerProps.put("description", "");
 		ro.setOwnerProps(ownerProps );
-		RequestSpecification request = createRequest();
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-		Response response = request.body(jsonObject.toString()).post(designURI + IConstants.PLATFORM_URI);
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+		OneOpsResponse response = request.body(body.toByteArray()).post(designURI + IConstants.PLATFORM_URI);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -173,8 +173,8 @@ public class Design extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public Release commitDesign() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(designReleaseURI + "latest");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designReleaseURI + "latest");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				
@@ -210,8 +210,8 @@ public class Design extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public Release getLatestRelease() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(designReleaseURI + "latest" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designReleaseURI + "latest" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Release.class);
@@ -231,11 +231,11 @@ public class Design extends APIClient {
 	 */
 	public JsonPath commitPlatform(String platformName) throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		CiResource platform = getPlatform(platformName);
 		if(platform != null) {
 			Long platformId = platform.getCiId();
-			Response response = request.post(designURI + IConstants.PLATFORM_URI + platformId + "/commit");
+			OneOpsResponse response = request.post(designURI + IConstants.PLATFORM_URI + platformId + "/commit");
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().jsonPath();
 			} else {
@@ -278,11 +278,11 @@ public class Design extends APIClient {
 		Map<String ,String> properties= new HashMap<String ,String>();
 		properties.put("ciId", fromPlatform.getCiId() + "");
 		ro.setProperties(properties);
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-		jsonObject.put("links_to", toIds);
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+		body.put("links_to", toIds);
 
-		RequestSpecification request = createRequest();
-		Response response = request.body(jsonObject.toString()).put(designURI + IConstants.PLATFORM_URI + fromPlatform.getCiId());
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.PLATFORM_URI + fromPlatform.getCiId());
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -310,8 +310,8 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(designURI + IConstants.PLATFORM_URI + platformName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(designURI + IConstants.PLATFORM_URI + platformName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -337,11 +337,11 @@ public class Design extends APIClient {
 			String msg = "Missing platform name to list enviornment platform components";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of platforms components due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -351,6 +351,29 @@ public class Design extends APIClient {
 		throw new OneOpsClientAPIException(msg);
 	}
 	
+	/**
+	 * List components of every platform in the design, platforms being fetched concurrently on the
+	 * executor of the instance
+	 * 
+	 * @return components keyed by platform name
+	 * @throws OneOpsClientAPIException
+	 */
+	public Map<String, List<CiResource>> listAllPlatformComponents() throws OneOpsClientAPIException {
+		List<CiResource> platforms = listPlatforms();
+		Map<String, Callable<List<CiResource>>> calls = Maps.newLinkedHashMap();
+		if(platforms != null) {
+			for(final CiResource platform : platforms) {
+				calls.put(platform.getCiName(), new Callable<List<CiResource>>() {
+					@Override
+					public List<CiResource> call() throws OneOpsClientAPIException {
+						return listPlatformComponents(platform.getCiName());
+					}
+				});
+			}
+		}
+		return invokeAll(calls);
+	}
+	
 	/**
 	 * Get platform component details for a given assembly/design/platform
 	 * 
@@ -368,8 +391,8 @@ public class Design extends APIClient {
 			String msg = "Missing component name to get platform component details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -401,9 +424,9 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
-		Response newComponentResponse = request.queryParam("template_name", componentName).get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + "new.json");
+		OneOpsResponse newComponentResponse = request.queryParam("template_name", componentName).get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + "new.json");
 		if(newComponentResponse != null) {
 			ResourceObject ro = new ResourceObject();
 			Map<String, String> properties = Maps.newHashMap();
@@ -441,12 +464,12 @@ public class Design extends APIClient {
 			}
 			ro.setAttributes(attr);
 			ro.setProperties(properties);
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-			jsonObject.put("template_name", componentName);
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+			body.put("template_name", componentName);
 			if(dependsOnComponents != null && dependsOnComponents.size() > 0) {
-				jsonObject.put("sibling_depends_on", dependsOnComponents);
+				body.put("sibling_depends_on", dependsOnComponents);
 			}
-			Response response = request.body(jsonObject.toString()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI );
+			OneOpsResponse response = request.body(body.toByteArray()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI );
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					return response.getBody().as(CiResource.class);
@@ -489,7 +512,7 @@ public class Design extends APIClient {
 			ResourceObject ro = new ResourceObject();
 			
 			Long ciId = componentDetails.getCiId();
-			RequestSpecification request = createRequest();
+			OneOpsRequest request = createRequest();
 			
 			Map<String, String> attr = Maps.newHashMap();
 			List<String> dependsOnList = Lists.newArrayList();
@@ -525,8 +548,8 @@ public class Design extends APIClient {
 			ro.setAttributes(attr);
 			ro.setOwnerProps(ownerProps);
 			
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
- 			Response response = request.body(jsonObject.toString()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+ 			OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					if(dependsOnList != null && dependsOnList.size() > 0) {
@@ -574,14 +597,11 @@ public class Design extends APIClient {
 		List<Long> dependsOnCiIds = getDependsOnSiblingIds(platformName, componentName, componentDetails.getCiClassName(), dependsOnComponentNames);
 	
 		Long ciId = componentDetails.getCiId();
-		RequestSpecification request = createRequest();
-		
-		JSONObject jsonObject = new JSONObject();
-		jsonObject.put("cms_dj_ci", new JSONObject());
-		
+		OneOpsRequest request = createRequest();
 		
-		jsonObject.put("sibling_depends_on", dependsOnCiIds);
-		Response response = request.body(jsonObject.toString()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
+		JsonBody body = JsonBody.of(null, "cms_dj_ci");
+		body.put("sibling_depends_on", dependsOnCiIds);
+		OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -634,8 +654,8 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -660,11 +680,11 @@ public class Design extends APIClient {
 			String msg = "Missing platform name to list platform attachments";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of design platforms attachments due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -691,8 +711,8 @@ public class Design extends APIClient {
 			String msg = "Missing component name to get platform component attachment details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -747,7 +767,7 @@ public class Design extends APIClient {
 			ResourceObject ro = new ResourceObject();
 			
 			Long ciId = attachmentDetails.getCiId();
-			RequestSpecification request = createRequest();
+			OneOpsRequest request = createRequest();
 			
 			//Add existing ciAttributes 
 			CiAttributes ciAttributes = attachmentDetails.getCiAttributes();
@@ -779,8 +799,8 @@ public class Design extends APIClient {
 			
 			ro.setOwnerProps(ownerProps);
 			ro.setAttributes(attr);
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
- 			Response response = request.body(jsonObject.toString()).put(designURI + IConstants.PLATFORM_URI + platformName 
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+ 			OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.PLATFORM_URI + platformName 
  					+ IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + ciId);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -822,9 +842,9 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
-		Response newAttachmentResponse = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + "new.json");
+		OneOpsResponse newAttachmentResponse = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + "new.json");
 		if(newAttachmentResponse != null) {
 			ResourceObject ro = new ResourceObject();
 			Map<String, String> properties = Maps.newHashMap();
@@ -850,8 +870,8 @@ public class Design extends APIClient {
 			}
 			ro.setAttributes(attr);
 			ro.setProperties(properties);
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-			Response response = request.body(jsonObject.toString()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI);
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+			OneOpsResponse response = request.body(body.toByteArray()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					return response.getBody().as(CiResource.class);
@@ -888,8 +908,8 @@ public class Design extends APIClient {
 			String msg = "Missing component name to delete attachment";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -915,11 +935,11 @@ public class Design extends APIClient {
 			String msg = "Missing platform name to list platform variables";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of design platforms variables due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -946,8 +966,8 @@ public class Design extends APIClient {
 			String msg = "Missing variable name to fetch";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -983,15 +1003,15 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			
-		Response variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
+		OneOpsResponse variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
 		if(variable != null && variable.getBody() != null && variable.getBody().jsonPath().getString("ciId") != null) {
 			String msg = String.format("Global variables %s already exists", variableName);
 			throw new OneOpsClientAPIException(msg);
 		}
 		ResourceObject ro = new ResourceObject();
-		Response newVarResponse = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + "new.json");
+		OneOpsResponse newVarResponse = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + "new.json");
 		if(newVarResponse != null) {
 			JsonPath newVarJsonPath = newVarResponse.getBody().jsonPath();
 			if(newVarJsonPath != null) {
@@ -1020,9 +1040,9 @@ public class Design extends APIClient {
 			}
 		}
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
 		
-		Response response = request.body(jsonObject.toString()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI );
+		OneOpsResponse response = request.body(body.toByteArray()).post(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1060,9 +1080,9 @@ public class Design extends APIClient {
 		}
 		
 		Boolean success = false;
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			
-		Response variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
+		OneOpsResponse variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
 		if(variable == null || variable.getStatusCode() != 200 || variable.getBody() == null) {
 			String msg = String.format("Failed to find local variables %s for platform %s", variableName, platformName);
 			throw new OneOpsClientAPIException(msg);
@@ -1086,9 +1106,9 @@ public class Design extends APIClient {
 		ResourceObject ro = new ResourceObject();
 		ro.setAttributes(attr);
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
 		
-		Response response = request.body(jsonObject.toString()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + ciId);
+		OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + ciId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				//return response.getBody().jsonPath();
@@ -1125,9 +1145,9 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			
-		Response variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
+		OneOpsResponse variable = request.get(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
 		if(variable == null || variable.getStatusCode() != 200 || variable.getBody() == null) {
 			return addPlatformVariable(platformName, variableName, variableValue, isSecure) == null ? false : true;
 		} else {
@@ -1154,8 +1174,8 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(designURI + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1184,8 +1204,8 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(designURI + IConstants.VARIABLES_URI + variableName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(designURI + IConstants.VARIABLES_URI + variableName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1205,11 +1225,11 @@ public class Design extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<CiResource> listGlobalVariables() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.VARIABLES_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.VARIABLES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of design variables due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -1231,8 +1251,8 @@ public class Design extends APIClient {
 			String msg = "Missing variable name to fetch";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(designURI + IConstants.VARIABLES_URI + variableName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(designURI + IConstants.VARIABLES_URI + variableName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1264,15 +1284,15 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			
-		Response variable = request.get(designURI + IConstants.VARIABLES_URI + variableName);
+		OneOpsResponse variable = request.get(designURI + IConstants.VARIABLES_URI + variableName);
 		if(variable != null && variable.getBody() != null && variable.getBody().jsonPath().getString("ciId") != null) {
 			String msg = String.format("Global variables %s already exists", variableName);
 			throw new OneOpsClientAPIException(msg);
 		}
 		ResourceObject ro = new ResourceObject();
-		Response newVarResponse = request.get(designURI + IConstants.VARIABLES_URI + "new.json");
+		OneOpsResponse newVarResponse = request.get(designURI + IConstants.VARIABLES_URI + "new.json");
 		if(newVarResponse != null) {
 			JsonPath newVarJsonPath = newVarResponse.getBody().jsonPath();
 			if(newVarJsonPath != null) {
@@ -1299,9 +1319,9 @@ public class Design extends APIClient {
 			}
 		}
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
 		
-		Response response = request.body(jsonObject.toString()).post(designURI + IConstants.VARIABLES_URI );
+		OneOpsResponse response = request.body(body.toByteArray()).post(designURI + IConstants.VARIABLES_URI );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1335,9 +1355,9 @@ public class Design extends APIClient {
 		}
 		
 		Boolean success = false;
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			
-			Response variable = request.get(designURI + IConstants.VARIABLES_URI + variableName);
+			OneOpsResponse variable = request.get(designURI + IConstants.VARIABLES_URI + variableName);
 			if(variable == null || variable.getBody() == null) {
 				String msg = String.format("Failed to find global variables %s", variableName);
 				throw new OneOpsClientAPIException(msg);
@@ -1359,9 +1379,9 @@ public class Design extends APIClient {
 			ResourceObject ro = new ResourceObject();
 			ro.setAttributes(attr);
 			
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
 			
-			Response response = request.body(jsonObject.toString()).put(designURI + IConstants.VARIABLES_URI + ciId);
+			OneOpsResponse response = request.body(body.toByteArray()).put(designURI + IConstants.VARIABLES_URI + ciId);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					success = true;
@@ -1381,9 +1401,9 @@ public class Design extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public JsonPath extractYaml() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
-		Response response = request.get(designURI + "/extract.yaml");
+		OneOpsResponse response = request.get(designURI + "/extract.yaml");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().jsonPath();
@@ -1409,12 +1429,11 @@ public class Design extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		request.header("Content-Type", "multipart/text");
-		JSONObject jo = new JSONObject();
-		jo.put("data", filecontent);
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(null, null);
+		body.put("data", filecontent);
 		
-		Response response = request.parameter("data", filecontent).put(designURI + "/load" );
+		OneOpsResponse response = request.body(body.toByteArray()).put(designURI + "/load" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().jsonPath();
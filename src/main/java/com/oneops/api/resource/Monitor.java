@@ -5,14 +5,15 @@ import java.util.Map;
 
 import org.json.JSONObject;
 
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
+import com.oneops.api.util.JsonBody;
 import com.oneops.api.util.JsonUtil;
 
 public class Monitor extends APIClient {
@@ -59,8 +60,8 @@ public class Monitor extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionMonitorUri + monitorName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionMonitorUri + monitorName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -94,8 +95,8 @@ public class Monitor extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionMonitorUri + monitorName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionMonitorUri + monitorName);
 		
 		ResourceObject ro = new ResourceObject();
 		Map<String, String> attributes = new HashMap<String ,String>();
@@ -130,8 +131,8 @@ public class Monitor extends APIClient {
 			attributes.put("enable", String.valueOf(enable));
 		}
 		ro.setAttributes(attributes);
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-		response = request.body(jsonObject.toString()).put(transitionMonitorUri + monitorName);
+		JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+		response = request.body(body.toByteArray()).put(transitionMonitorUri + monitorName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
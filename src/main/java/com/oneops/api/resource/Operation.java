@@ -4,23 +4,24 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.jayway.restassured.path.json.JsonPath;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.CiResource;
 import com.oneops.api.resource.model.Procedure;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
+import com.oneops.api.util.JsonBody;
 import com.oneops.api.util.JsonUtil;
 
 public class Operation extends APIClient {
@@ -64,14 +65,14 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.queryParam("instances_state", "all").get(operationURI 
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.queryParam("instances_state", "all").get(operationURI 
 				+ IConstants.PLATFORM_URI + platformName 
 				+ IConstants.COMPONENT_URI + componentName 
 				+ IConstants.INSTANCES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 				} else {
 				String msg = String.format("Failed to get instances due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -80,6 +81,27 @@ public class Operation extends APIClient {
 		String msg = "Failed to get instances due to null response";
 		throw new OneOpsClientAPIException(msg);
 	}
+	
+	/**
+	 * List instances of several components of a platform, concurrently on the executor of the instance
+	 * 
+	 * @param platformName
+	 * @param componentNames
+	 * @return instances keyed by component name
+	 * @throws OneOpsClientAPIException
+	 */
+	public Map<String, List<CiResource>> listInstances(final String platformName, List<String> componentNames) throws OneOpsClientAPIException {
+		Map<String, Callable<List<CiResource>>> calls = Maps.newLinkedHashMap();
+		for(final String componentName : componentNames) {
+			calls.put(componentName, new Callable<List<CiResource>>() {
+				@Override
+				public List<CiResource> call() throws OneOpsClientAPIException {
+					return listInstances(platformName, componentName);
+				}
+			});
+		}
+		return invokeAll(calls);
+	}
 
 	
 	/**
@@ -116,13 +138,13 @@ public class Operation extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	Boolean markInstancesForReplacement(String platformName, String componentName, List<Long> instanceIds) throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		jo.put("ids", instanceIds);
 		jo.put("state", "replace");
 		String uri = IConstants.ASSEMBLY_URI + assemblyName + IConstants.OPERATION_URI +  IConstants.INSTANCES_URI + "state" ;
 		
-		Response response = request.body(jo.toString()).put(uri);
+		OneOpsResponse response = request.body(jo.toString()).put(uri);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Boolean.class);
@@ -136,7 +158,7 @@ public class Operation extends APIClient {
 	}
 	
 	public JsonPath getLogData(String procedureId, List<String> actionIds) throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		String uri = IConstants.OPERATION_URI + IConstants.PROCEDURES_URI + "log_data" ;
 		request.queryParam("procedure_id", procedureId);
 		
@@ -146,7 +168,7 @@ public class Operation extends APIClient {
 			}
 		}
 		
-		Response response = request.get(uri);
+		OneOpsResponse response = request.get(uri);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().jsonPath();
@@ -170,13 +192,13 @@ public class Operation extends APIClient {
 			String msg = "Missing platform name to fetch details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(operationURI 
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(operationURI 
 				+ IConstants.PLATFORM_URI + platformName 
 				+ IConstants.PROCEDURES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 				} else {
 				String msg = String.format("Failed to get procedures due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -232,8 +254,8 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(operationURI 
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(operationURI 
 				+ IConstants.PLATFORM_URI + platformName 
 				+ IConstants.COMPONENT_URI + componentName
 				+ IConstants.ACTIONS_URI);
@@ -266,7 +288,7 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		ResourceObject ro = new ResourceObject();
 		Map<String ,String> properties= new HashMap<String ,String>();
 		
@@ -280,8 +302,8 @@ public class Operation extends APIClient {
 		properties.put("procedureCiId", "" + getProcedureId(platformName, procedureName));
 		ro.setProperties(properties);
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_procedure");
-		Response response = request.body(jsonObject.toString()).post(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI);
+		JsonBody body = JsonBody.of(ro, "cms_procedure");
+		OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Procedure.class);
@@ -306,8 +328,8 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI + procedureId);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI + procedureId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Procedure.class);
@@ -333,7 +355,7 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		ResourceObject ro = new ResourceObject();
 		Map<String ,String> properties= new HashMap<String ,String>();
 		
@@ -344,8 +366,8 @@ public class Operation extends APIClient {
 		properties.put("procedureId", null);
 		ro.setProperties(properties);
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_procedure");
-		Response response = request.body(jsonObject.toString()).put(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI + procedureId);
+		JsonBody body = JsonBody.of(ro, "cms_procedure");
+		OneOpsResponse response = request.body(body.toByteArray()).put(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI + procedureId);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -389,7 +411,7 @@ public class Operation extends APIClient {
 		}
 		
 		try{
-			RequestSpecification request = createRequest();
+			OneOpsRequest request = createRequest();
 			ResourceObject ro = new ResourceObject();
 			Map<String ,String> properties= new HashMap<String ,String>();
 			
@@ -434,12 +456,12 @@ public class Operation extends APIClient {
 				definition.put("name", actionName);
 			}
 
-			properties.put("definition", new ObjectMapper().writeValueAsString(definition));
+			properties.put("definition", JsonUtil.writer().writeValueAsString(definition));
 			ro.setProperties(properties);
 			
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro, "cms_procedure");
-			jsonObject.put("roll_at", rollingPercent);
-			Response response = request.body(jsonObject.toString()).post(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI);
+			JsonBody body = JsonBody.of(ro, "cms_procedure");
+			body.put("roll_at", rollingPercent);
+			OneOpsResponse response = request.body(body.toByteArray()).post(IConstants.OPERATION_URI +  IConstants.PROCEDURES_URI);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					return response.getBody().as(Procedure.class);
@@ -471,14 +493,14 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
 		String enabled = "disable";
 		if(isEnabled) {
 			enabled = "enable";
 		}
 		
-		Response response = request.body("").queryParam("status", enabled)
+		OneOpsResponse response = request.body("").queryParam("status", enabled)
 				.put(operationURI + IConstants.PLATFORM_URI + platformName + "/" + healingOption);
 		if (response != null) {
 			if (response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -503,12 +525,12 @@ public class Operation extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		jo.put("replace_after_minutes", String.valueOf(repairTime));
 		jo.put("replace_after_repairs", String.valueOf(repairCount));
 		
-		Response response = request.body(jo.toString())
+		OneOpsResponse response = request.body(jo.toString())
 				.put(operationURI + IConstants.PLATFORM_URI + platformName + "/autoreplace");
 		if (response != null) {
 			if (response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -3,15 +3,14 @@ package com.oneops.api.resource;
 import java.util.List;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.Member;
 import com.oneops.api.resource.model.Team;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
-import com.oneops.api.util.JsonUtil;
 
 public class OrganizationSetting extends APIClient {
 
@@ -27,11 +26,11 @@ public class OrganizationSetting extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public List<Team> listTeams() throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ORGANIZATION_URI + IConstants.TEAM_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ORGANIZATION_URI + IConstants.TEAM_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<Team>>(){});
+				return response.getBody().as(new TypeReference<List<Team>>(){});
 			} else {
 				String msg = String.format("Failed to get list of teams due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -48,8 +47,8 @@ public class OrganizationSetting extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public Member getTeamMembers(String teamName) throws OneOpsClientAPIException {
-		RequestSpecification request = createRequest();
-		Response response = request.get(IConstants.ORGANIZATION_URI + IConstants.TEAM_URI + teamName + IConstants.MEMBER_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(IConstants.ORGANIZATION_URI + IConstants.TEAM_URI + teamName + IConstants.MEMBER_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Member.class);
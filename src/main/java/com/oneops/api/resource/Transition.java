@@ -5,7 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
 
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -15,13 +15,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.jayway.restassured.path.json.JsonPath;
-import com.jayway.restassured.response.Response;
-import com.jayway.restassured.specification.RequestSpecification;
 import com.oneops.api.APIClient;
 import com.oneops.api.OOInstance;
 import com.oneops.api.ResourceObject;
+import com.oneops.api.async.PollCheck;
+import com.oneops.api.async.Poller;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.model.AttrProps;
 import com.oneops.api.resource.model.CiAttributes;
@@ -31,7 +31,10 @@ import com.oneops.api.resource.model.DeploymentRFC;
 import com.oneops.api.resource.model.Log;
 import com.oneops.api.resource.model.RedundancyConfig;
 import com.oneops.api.resource.model.Release;
+import com.oneops.api.transport.OneOpsRequest;
+import com.oneops.api.transport.OneOpsResponse;
 import com.oneops.api.util.IConstants;
+import com.oneops.api.util.JsonBody;
 import com.oneops.api.util.JsonUtil;
 
 public class Transition extends APIClient {
@@ -65,8 +68,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -87,11 +90,11 @@ public class Transition extends APIClient {
 	 */
 	public List<CiResource> listEnvironments() throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to list environments due to %s", response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -153,8 +156,8 @@ public class Transition extends APIClient {
 		attributes.put("subdomain", subdomain);
 		ro.setAttributes(attributes);
 		
-		RequestSpecification request = createRequest();
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+		OneOpsRequest request = createRequest();
+		JsonBody body = JsonBody.of(ro, "cms_ci");
 		if(platformAvailability == null || platformAvailability.size() == 0) {
 			Design design = new Design(instance, assemblyName);
 			List<CiResource> platforms = design.listPlatforms();
@@ -165,15 +168,15 @@ public class Transition extends APIClient {
 				}
 			}
 		}
-		jsonObject.put("platform_availability", platformAvailability);
+		body.put("platform_availability", platformAvailability);
 		
 		if(cloudMap == null || cloudMap.size() == 0) {
 			String msg = "Missing clouds map to create environment";
 			throw new OneOpsClientAPIException(msg);
 		}
-		jsonObject.put("clouds", cloudMap);
+		body.put("clouds", cloudMap);
 		
-		Response response = request.body(jsonObject.toString()).post(transitionEnvUri);
+		OneOpsResponse response = request.body(body.toByteArray()).post(transitionEnvUri);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -189,7 +192,7 @@ public class Transition extends APIClient {
 	
 
 	/**
-	 * Commits environment open releases
+	 * Commits environment open releases and waits for the deployment plan to be generated
 	 * 
 	 * @param environmentName {mandatory}
 	 * @param excludePlatforms
@@ -197,8 +200,21 @@ public class Transition extends APIClient {
 	 * @throws OneOpsClientAPIException
 	 */
 	public Release commitEnvironment(String environmentName, List<Long> excludePlatforms, String comment) throws OneOpsClientAPIException {
+		startCommit(environmentName, excludePlatforms, comment);
+		return Poller.await(pollCommit(environmentName), "commitEnvironment", environmentName);
+	}
+
+	/**
+	 * Commits environment open releases, the deployment plan being generated once this call returns
+	 * 
+	 * @param environmentName {mandatory}
+	 * @param excludePlatforms
+	 * @param comment
+	 * @throws OneOpsClientAPIException
+	 */
+	public void startCommit(String environmentName, List<Long> excludePlatforms, String comment) throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		if(excludePlatforms != null && excludePlatforms.size() > 0) {
 			StringBuilder sb = new StringBuilder();
@@ -212,31 +228,10 @@ public class Transition extends APIClient {
 		}
 		if(comment != null)
 			jo.put("desc", comment);
-		Response response = request.body(jo.toString()).post(transitionEnvUri + environmentName + "/commit");
+		OneOpsResponse response = request.body(jo.toString()).post(transitionEnvUri + environmentName + "/commit");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				
-				response = request.get(transitionEnvUri + environmentName);
-				String envState = response.getBody().jsonPath().getString("ciState");
-				//wait for deployment plan to generate
-				do {
-					Uninterruptibles.sleepUninterruptibly(5, TimeUnit.SECONDS);
-					response = request.get(transitionEnvUri + environmentName);
-					if(response == null) {
-						String msg = String.format("Failed to commit environment due to null response");
-						throw new OneOpsClientAPIException(msg);
-					}
-					envState = response.getBody().jsonPath().getString("ciState");
-				} while(response != null && "locked".equalsIgnoreCase(envState));
-				
-				String comments = response.getBody().jsonPath().getString("comments");
-				if(comments != null && comments.startsWith("ERROR:")) {
-					String msg = String.format("Failed to commit environment due to %s",  comments);
-					throw new OneOpsClientAPIException(msg);
-				}
-				
-				return response.getBody().as(Release.class);
-				
+				return;
 			} else {
 				String msg = String.format("Failed to commit environment %s. %s.", environmentName, getErrorMessageFromResponse(response));
 				throw new OneOpsClientAPIException(msg);
@@ -245,6 +240,36 @@ public class Transition extends APIClient {
 		String msg = String.format("Failed to commit environment %s due to null response", environmentName);
 		throw new OneOpsClientAPIException(msg);
 	}
+
+	/**
+	 * Polls the environment until it is no longer locked by the generation of its deployment plan, quickly
+	 * at first and then backing off as set by the poll policy of the instance
+	 * 
+	 * @param environmentName {mandatory}
+	 * @return future completed with the committed release, or failed when the commit failed or timed out
+	 */
+	public ListenableFuture<Release> pollCommit(final String environmentName) {
+		return poller().poll("commitEnvironment", environmentName, instance.getPollPolicy(), new PollCheck<Release>() {
+			@Override
+			public Release check() throws OneOpsClientAPIException {
+				OneOpsResponse response = createRequest().get(transitionEnvUri + environmentName);
+				if(response == null) {
+					String msg = String.format("Failed to commit environment due to null response");
+					throw new OneOpsClientAPIException(msg);
+				}
+				CiResource environment = response.getBody().as(CiResource.class);
+				if("locked".equalsIgnoreCase(environment.getCiState())) {
+					return null;
+				}
+				String comments = environment.getComments();
+				if(comments != null && comments.startsWith("ERROR:")) {
+					String msg = String.format("Failed to commit environment due to %s",  comments);
+					throw new OneOpsClientAPIException(msg);
+				}
+				return response.getBody().as(Release.class);
+			}
+		});
+	}
 	
 	/**
 	 * Deploy an already generated deployment plan
@@ -255,7 +280,7 @@ public class Transition extends APIClient {
 	 */
 	public Deployment deploy(String environmentName, String comments) throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
 		 Release bomRelease = getBomRelease(environmentName);
 		 Long releaseId = bomRelease.getReleaseId();
@@ -269,8 +294,8 @@ public class Transition extends APIClient {
 			}
 			ResourceObject ro = new ResourceObject();
 			ro.setProperties(properties);
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_deployment");
-			Response response = request.body(jsonObject.toString()).post(transitionEnvUri + environmentName + "/deployments/");
+			JsonBody body = JsonBody.of(ro, "cms_deployment");
+			OneOpsResponse response = request.body(body.toByteArray()).post(transitionEnvUri + environmentName + "/deployments/");
 			if(response == null) {
 				String msg = String.format("Failed to start deployment for environment %s due to null response" , environmentName);
 				throw new OneOpsClientAPIException(msg);
@@ -308,8 +333,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId + "/status");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId + "/status");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Deployment.class);
@@ -323,6 +348,28 @@ public class Transition extends APIClient {
 		throw new OneOpsClientAPIException(msg);
 	}
 	
+	/**
+	 * Fetches status of several deployments for the given assembly/environment, concurrently on the
+	 * executor of the instance
+	 * 
+	 * @param environmentName
+	 * @param deploymentIds
+	 * @return deployments keyed by id
+	 * @throws OneOpsClientAPIException
+	 */
+	public Map<Long, Deployment> getDeploymentStatuses(final String environmentName, List<Long> deploymentIds) throws OneOpsClientAPIException {
+		Map<Long, Callable<Deployment>> calls = Maps.newLinkedHashMap();
+		for(final Long deploymentId : deploymentIds) {
+			calls.put(deploymentId, new Callable<Deployment>() {
+				@Override
+				public Deployment call() throws OneOpsClientAPIException {
+					return getDeploymentStatus(environmentName, deploymentId);
+				}
+			});
+		}
+		return invokeAll(calls);
+	}
+	
 	/**
 	 * Fetches latest deployment for the given assembly/environment
 	 * 
@@ -336,8 +383,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + "latest" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + "latest" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Deployment.class);
@@ -364,12 +411,12 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
 		Release bomRelease = getBomRelease(environmentName);
 		if(bomRelease != null) {
 			long releaseId = bomRelease.getReleaseId();
-			Response response = request.body("").post(transitionEnvUri + environmentName + IConstants.RELEASES_URI + releaseId + "/discard" );
+			OneOpsResponse response = request.body("").post(transitionEnvUri + environmentName + IConstants.RELEASES_URI + releaseId + "/discard" );
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					return response.getBody().as(Release.class);
@@ -400,8 +447,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.body("").post(transitionEnvUri + environmentName + "/discard" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.body("").post(transitionEnvUri + environmentName + "/discard" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Release.class);
@@ -434,8 +481,8 @@ public class Transition extends APIClient {
 			platformIds.add(ciResource.getCiId());
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.queryParam("platformCiIds[]", platformIds).put(transitionEnvUri + environmentName + "/disable" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.queryParam("platformCiIds[]", platformIds).put(transitionEnvUri + environmentName + "/disable" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -479,8 +526,8 @@ public class Transition extends APIClient {
 			}
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.queryParam("platformCiIds[]", platformIds).put(transitionEnvUri + environmentName + "/" + status );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.queryParam("platformCiIds[]", platformIds).put(transitionEnvUri + environmentName + "/" + status );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -506,8 +553,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.RELEASES_URI + "latest" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.RELEASES_URI + "latest" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Release.class);
@@ -534,8 +581,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.RELEASES_URI + "bom" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.RELEASES_URI + "bom" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Release.class);
@@ -574,8 +621,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.post(transitionEnvUri + environmentName + IConstants.RELEASES_URI + releaseId +"/restore" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.post(transitionEnvUri + environmentName + IConstants.RELEASES_URI + releaseId +"/restore" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				Map<String, Object> map = (Map<String, Object>)response.getBody().as(Map.class);
@@ -605,8 +652,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + "/timeline" );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + "/timeline" );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				List<Release> releases = new ArrayList<>();
@@ -668,8 +715,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId );
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId );
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(DeploymentRFC.class);
@@ -698,11 +745,11 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.queryParam("rfcId", rfcId).get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId + "/log_data");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.queryParam("rfcId", rfcId).get(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId + "/log_data");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				List<Log> logs = JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<Log>>(){});
+				List<Log> logs = response.getBody().as(new TypeReference<List<Log>>(){});
 				if(logs != null && logs.size() > 0) {
 					return logs.get(0);
 				} else {
@@ -763,16 +810,16 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
 		Map<String ,String> properties= new HashMap<String ,String>();
 		properties.put("deploymentState", newstate);
 		properties.put("releaseId", String.valueOf(releaseId));
 		ResourceObject ro = new ResourceObject();
 		ro.setProperties(properties);
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_deployment");
+		JsonBody body = JsonBody.of(ro, "cms_deployment");
 		
-		Response response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId);
+		OneOpsResponse response = request.body(body.toByteArray()).put(transitionEnvUri + environmentName + IConstants.DEPLOYMENTS_URI + deploymentId);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(Deployment.class);
@@ -798,8 +845,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.delete(transitionEnvUri + environmentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.delete(transitionEnvUri + environmentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -825,11 +872,11 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to get list of platforms for environemnt %s due to %s", environmentName,response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -856,8 +903,8 @@ public class Transition extends APIClient {
 			String msg = "Missing platform name to get details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -887,11 +934,11 @@ public class Transition extends APIClient {
 			String msg = "Missing platform name to list environment platform components";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to list components for platform %s environment %s due to %s", platformName, environmentName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -901,6 +948,30 @@ public class Transition extends APIClient {
 		throw new OneOpsClientAPIException(msg);
 	}
 	
+	/**
+	 * List components of every platform for a given assembly/environment, platforms being fetched
+	 * concurrently on the executor of the instance
+	 * 
+	 * @param environmentName
+	 * @return components keyed by platform name
+	 * @throws OneOpsClientAPIException
+	 */
+	public Map<String, List<CiResource>> listAllPlatformComponents(final String environmentName) throws OneOpsClientAPIException {
+		List<CiResource> platforms = listPlatforms(environmentName);
+		Map<String, Callable<List<CiResource>>> calls = Maps.newLinkedHashMap();
+		if(platforms != null) {
+			for(final CiResource platform : platforms) {
+				calls.put(platform.getCiName(), new Callable<List<CiResource>>() {
+					@Override
+					public List<CiResource> call() throws OneOpsClientAPIException {
+						return listPlatformComponents(environmentName, platform.getCiName());
+					}
+				});
+			}
+		}
+		return invokeAll(calls);
+	}
+	
 	/**
 	 * Get platform component details for a given assembly/environment/platform
 	 * 
@@ -923,8 +994,8 @@ public class Transition extends APIClient {
 			String msg = "Missing component name to get environment platform component details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -995,9 +1066,9 @@ public class Transition extends APIClient {
 			ro.setAttributes(attr);
 			ro.setOwnerProps(ownerProps);
 			
-			RequestSpecification request = createRequest();
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
- 			Response response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
+			OneOpsRequest request = createRequest();
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+ 			OneOpsResponse response = request.body(body.toByteArray()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + ciId);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 					return response.getBody().as(CiResource.class);
@@ -1034,8 +1105,8 @@ public class Transition extends APIClient {
 			String msg = "Missing component name to get platform component attachment details";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + attachmentName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1095,7 +1166,7 @@ public class Transition extends APIClient {
 			ResourceObject ro = new ResourceObject();
 			
 			Long ciId = attachmentDetails.getCiId();
-			RequestSpecification request = createRequest();
+			OneOpsRequest request = createRequest();
 			
 			//Add existing ciAttributes 
 			CiAttributes ciAttributes = attachmentDetails.getCiAttributes();
@@ -1128,8 +1199,8 @@ public class Transition extends APIClient {
 			
 			ro.setOwnerProps(ownerProps);
 			ro.setAttributes(attr);
-			JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
- 			Response response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName 
+			JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+ 			OneOpsResponse response = request.body(body.toByteArray()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName 
  					+ IConstants.COMPONENT_URI + componentName + IConstants.ATTACHMENTS_URI + ciId);
 			if(response != null) {
 				if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -1167,10 +1238,10 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		
-		Response response = request.body(jo.toString()).post(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + "/touch");
+		OneOpsResponse response = request.body(jo.toString()).post(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.COMPONENT_URI + componentName + "/touch");
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -1193,10 +1264,10 @@ public class Transition extends APIClient {
 	 */
 	public CiResource pullDesign(String environmentName) throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		
-		Response response = request.body(jo.toString()).post(transitionEnvUri + environmentName + "/pull");
+		OneOpsResponse response = request.retrySafe().body(jo.toString()).post(transitionEnvUri + environmentName + "/pull");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				CiResource env = response.getBody().as(CiResource.class);
@@ -1224,7 +1295,7 @@ public class Transition extends APIClient {
 	 */
 	public CiResource pullNewPlatform(String environmentName, Map<String, String> platformAvailability) throws OneOpsClientAPIException {
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		
 		if(platformAvailability == null || platformAvailability.size() == 0) {
@@ -1248,7 +1319,7 @@ public class Transition extends APIClient {
 		}
 		jo.put("platform_availability", platformAvailability);
 		
-		Response response = request.body(jo.toString()).post(transitionEnvUri + environmentName + "/pull");
+		OneOpsResponse response = request.retrySafe().body(jo.toString()).post(transitionEnvUri + environmentName + "/pull");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				CiResource env = response.getBody().as(CiResource.class);
@@ -1283,11 +1354,11 @@ public class Transition extends APIClient {
 			String msg = "Missing platform name to list environment platform variables";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to list local variables for platform %s environment %s due to %s", platformName, environmentName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -1326,14 +1397,14 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		boolean success = false;
 			ResourceObject ro = new ResourceObject();
 			Map<String ,String> attributes = new HashMap<String ,String>();
 			Map<String, String> ownerProps = Maps.newHashMap();
 			
 			String uri = transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + IConstants.VARIABLES_URI + variableName;
-			Response response = request.get(uri);
+			OneOpsResponse response = request.get(uri);
 			if(response != null) {
 				JSONObject var = JsonUtil.createJsonObject(response.getBody().asString());
 				if(var != null && var.has("ciAttributes")) {
@@ -1359,9 +1430,9 @@ public class Transition extends APIClient {
 					ro.setOwnerProps(ownerProps);
 					ro.setAttributes(attributes);
 					
-					JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
+					JsonBody body = JsonBody.of(ro, "cms_dj_ci");
 					if(response != null ) {
-						response = request.body(jsonObject.toString()).put(uri);
+						response = request.body(body.toByteArray()).put(uri);
 						if(response != null) {
 							if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 								success = true;
@@ -1383,6 +1454,25 @@ public class Transition extends APIClient {
 		return success;
 	}
 	
+	/**
+	 * Updates several platform variables for a given assembly/environment/platform, one after the other as
+	 * they all modify the same platform
+	 * 
+	 * @param environmentName
+	 * @param platformName
+	 * @param variables values keyed by variable name
+	 * @param isSecure
+	 * @return true if every variable was updated
+	 * @throws OneOpsClientAPIException
+	 */
+	public Boolean updatePlatformVariables(String environmentName, String platformName, Map<String, String> variables, boolean isSecure) throws OneOpsClientAPIException {
+		boolean success = true;
+		for(Entry<String, String> variable : variables.entrySet()) {
+			success &= updatePlatformVariable(environmentName, platformName, variable.getKey(), variable.getValue(), isSecure);
+		}
+		return success;
+	}
+	
 	
 
 	/**
@@ -1397,11 +1487,11 @@ public class Transition extends APIClient {
 			String msg = "Missing environment name to list environment variables";
 			throw new OneOpsClientAPIException(msg);
 		}
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.VARIABLES_URI);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.VARIABLES_URI);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to list global variables of environment %s due to %s", environmentName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -1433,13 +1523,13 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		boolean success = false;
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 			ResourceObject ro = new ResourceObject();
 			Map<String ,String> attributes = new HashMap<String ,String>();
 			Map<String, String> ownerProps = Maps.newHashMap();
 			
 			String uri = transitionEnvUri + environmentName + IConstants.VARIABLES_URI + variableName;
-			Response response = request.get(uri);
+			OneOpsResponse response = request.get(uri);
 			if(response != null) {
 				JSONObject var = JsonUtil.createJsonObject(response.getBody().asString());
 				if(var != null && var.has("ciAttributes")) {
@@ -1464,8 +1554,8 @@ public class Transition extends APIClient {
 					ro.setOwnerProps(ownerProps);
 					ro.setAttributes(attributes);
 					
-					JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_dj_ci");
-					response = request.body(jsonObject.toString()).put(uri);
+					JsonBody body = JsonBody.of(ro, "cms_dj_ci");
+					response = request.body(body.toByteArray()).put(uri);
 					if(response != null) {
 						if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 							success = true;
@@ -1506,11 +1596,11 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jsonObject = new JSONObject();
 		jsonObject.put("platformCiIds", platformIdList);
 		
-		Response response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + "/disable");
+		OneOpsResponse response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + "/disable");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1542,8 +1632,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + "/edit");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + "/edit");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1582,7 +1672,7 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
 		JSONObject redundant = new JSONObject();
 		redundant.put("max", config.getMax());
@@ -1619,7 +1709,7 @@ public class Transition extends APIClient {
 		JSONObject dependsOn = new JSONObject();
 		dependsOn.put("depends_on", jo);
 		
-		Response response = request.body(dependsOn.toString()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName);
+		OneOpsResponse response = request.body(dependsOn.toString()).put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return true;
@@ -1653,11 +1743,11 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		JSONObject jo = new JSONObject();
 		jo.put("cloud_id", cloudId);
 		jo.put("attributes", cloudMap);
-		Response response = request.body(jo.toString())
+		OneOpsResponse response = request.body(jo.toString())
 				.put(transitionEnvUri + environmentName + IConstants.PLATFORM_URI + platformName + "/cloud_configuration");
 		if (response != null) {
 			if (response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -1686,11 +1776,11 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + "/relays/");
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + "/relays/");
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
-				return JsonUtil.toObject(response.getBody().asString(), new TypeReference<List<CiResource>>(){});
+				return response.getBody().as(new TypeReference<List<CiResource>>(){});
 			} else {
 				String msg = String.format("Failed to list relay for environment %s due to %s", environmentName, response.getStatusLine());
 				throw new OneOpsClientAPIException(msg);
@@ -1720,8 +1810,8 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		}
 		
-		RequestSpecification request = createRequest();
-		Response response = request.get(transitionEnvUri + environmentName + "/relays/" + relayName);
+		OneOpsRequest request = createRequest();
+		OneOpsResponse response = request.get(transitionEnvUri + environmentName + "/relays/" + relayName);
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
 				return response.getBody().as(CiResource.class);
@@ -1778,10 +1868,10 @@ public class Transition extends APIClient {
 		String path = "/" + instance.getOrgname() + "/" + assemblyName + "/" + environmentName;
 		properties.put("nsPath", path );
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		ro.setProperties(properties);
 		
-		Response newRelayResponse = request.get(transitionEnvUri + environmentName + "/relays/new");
+		OneOpsResponse newRelayResponse = request.get(transitionEnvUri + environmentName + "/relays/new");
 		if(newRelayResponse != null) {
 			JsonPath attachmentDetails = newRelayResponse.getBody().jsonPath();
 			Map<String, String> attributes = attachmentDetails.getMap("ciAttributes");
@@ -1803,8 +1893,8 @@ public class Transition extends APIClient {
 			ro.setAttributes(attributes);
 		}
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
-		Response response = request.body(jsonObject.toString()).post(transitionEnvUri + environmentName + "/relays");
+		JsonBody body = JsonBody.of(ro, "cms_ci");
+		OneOpsResponse response = request.body(body.toByteArray()).post(transitionEnvUri + environmentName + "/relays");
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -1847,9 +1937,9 @@ public class Transition extends APIClient {
 			throw new OneOpsClientAPIException(msg);
 		} 
 		
-		RequestSpecification request = createRequest();
+		OneOpsRequest request = createRequest();
 		
-		Response relayResponse = request.get(transitionEnvUri + environmentName + "/relays/" + relayName);
+		OneOpsResponse relayResponse = request.get(transitionEnvUri + environmentName + "/relays/" + relayName);
 		if(relayResponse != null) {
 			JsonPath newVarJsonPath = relayResponse.getBody().jsonPath();
 			if(newVarJsonPath != null) {
@@ -1873,9 +1963,9 @@ public class Transition extends APIClient {
 		}
 		ro.setAttributes(attributes);
 		
-		JSONObject jsonObject = JsonUtil.createJsonObject(ro , "cms_ci");
+		JsonBody body = JsonBody.of(ro, "cms_ci");
 		
-		Response response = request.body(jsonObject.toString()).put(transitionEnvUri + environmentName + "/relays/" + relayName);
+		OneOpsResponse response = request.body(body.toByteArray()).put(transitionEnvUri + environmentName + "/relays/" + relayName);
 		
 		if(response != null) {
 			if(response.getStatusCode() == 200 || response.getStatusCode() == 302) {
@@ -1889,7 +1979,7 @@ public class Transition extends APIClient {
 		throw new OneOpsClientAPIException(msg);
 	}
 
-	private String getErrorMessageFromResponse(Response response) {
+	private String getErrorMessageFromResponse(OneOpsResponse response) {
 		String errorMessage = "Error Status Code: " + response.getStatusCode() + ". Error: ";
 		if (response.getBody() != null) {
 			errorMessage = errorMessage + response.getBody().asString();
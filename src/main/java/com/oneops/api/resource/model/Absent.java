@@ -0,0 +1,30 @@
+package com.oneops.api.resource.model;
+
+/**
+ * Sentinels of the numeric model fields kept as primitives: a field set to null, or missing from the JSON,
+ * stores the sentinel and reads back as null.
+ */
+final class Absent {
+
+	static final long LONG = Long.MIN_VALUE;
+	static final int INT = Integer.MIN_VALUE;
+
+	private Absent() {
+	}
+
+	static Long box(long value) {
+		return value == LONG ? null : Long.valueOf(value);
+	}
+
+	static long unbox(Long value) {
+		return value == null ? LONG : value.longValue();
+	}
+
+	static Integer box(int value) {
+		return value == INT ? null : Integer.valueOf(value);
+	}
+
+	static int unbox(Integer value) {
+		return value == null ? INT : value.intValue();
+	}
+}
@@ -15,15 +15,15 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class Action {
 
 	@JsonProperty("actionId")
-	private Long actionId;
+	private long actionId = Absent.LONG;
 	@JsonProperty("actionName")
 	private String actionName;
 	@JsonProperty("ciId")
-	private Long ciId;
+	private long ciId = Absent.LONG;
 	@JsonProperty("actionState")
 	private String actionState;
 	@JsonProperty("execOrder")
-	private Long execOrder;
+	private long execOrder = Absent.LONG;
 	@JsonProperty("isCritical")
 	private Boolean isCritical;
 	@JsonProperty("extraInfo")
@@ -35,22 +35,22 @@ public class Action {
 	@JsonProperty("createdBy")
 	private Object createdBy;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("procedureId")
-	private Long procedureId;
+	private long procedureId = Absent.LONG;
 	@JsonIgnore
 	private Map<String, Object> additionalProperties = new HashMap<String, Object>();
 
 	@JsonProperty("actionId")
 	public Long getActionId() {
-		return actionId;
+		return Absent.box(actionId);
 	}
 
 	@JsonProperty("actionId")
 	public void setActionId(Long actionId) {
-		this.actionId = actionId;
+		this.actionId = Absent.unbox(actionId);
 	}
 
 	@JsonProperty("actionName")
@@ -65,12 +65,12 @@ public class Action {
 
 	@JsonProperty("ciId")
 	public Long getCiId() {
-		return ciId;
+		return Absent.box(ciId);
 	}
 
 	@JsonProperty("ciId")
 	public void setCiId(Long ciId) {
-		this.ciId = ciId;
+		this.ciId = Absent.unbox(ciId);
 	}
 
 	@JsonProperty("actionState")
@@ -85,12 +85,12 @@ public class Action {
 
 	@JsonProperty("execOrder")
 	public Long getExecOrder() {
-		return execOrder;
+		return Absent.box(execOrder);
 	}
 
 	@JsonProperty("execOrder")
 	public void setExecOrder(Long execOrder) {
-		this.execOrder = execOrder;
+		this.execOrder = Absent.unbox(execOrder);
 	}
 
 	@JsonProperty("isCritical")
@@ -145,32 +145,32 @@ public class Action {
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("procedureId")
 	public Long getProcedureId() {
-		return procedureId;
+		return Absent.box(procedureId);
 	}
 
 	@JsonProperty("procedureId")
 	public void setProcedureId(Long procedureId) {
-		this.procedureId = procedureId;
+		this.procedureId = Absent.unbox(procedureId);
 	}
 
 	@JsonAnyGetter
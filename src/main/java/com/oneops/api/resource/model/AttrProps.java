@@ -12,18 +12,20 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 @JsonPropertyOrder({
 
 })
-public class AttrProps {
+public class AttrProps extends LazyAttributes {
 
 	@JsonIgnore
 	private Map<String, Object> additionalProperties = new HashMap<String, Object>();
 
 	@JsonAnyGetter
 	public Map<String, Object> getAdditionalProperties() {
+		inflate();
 		return this.additionalProperties;
 	}
 
 	@JsonAnySetter
 	public void setAdditionalProperty(String name, Object value) {
+		inflate();
 		this.additionalProperties.put(name, value);
 	}
 
@@ -11,7 +11,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "adminstatus", "auth", "description", "location" })
-public class CiAttributes {
+public class CiAttributes extends LazyAttributes {
 
 	@JsonProperty("adminstatus")
 	private String adminstatus;
@@ -26,52 +26,67 @@ public class CiAttributes {
 
 	@JsonProperty("adminstatus")
 	public String getAdminstatus() {
+		inflate();
 		return adminstatus;
 	}
 
 	@JsonProperty("adminstatus")
 	public void setAdminstatus(String adminstatus) {
+		inflate();
 		this.adminstatus = adminstatus;
 	}
 
 	@JsonProperty("auth")
 	public Object getAuth() {
+		inflate();
 		return auth;
 	}
 
 	@JsonProperty("auth")
 	public void setAuth(Object auth) {
+		inflate();
 		this.auth = auth;
 	}
 
 	@JsonProperty("description")
 	public String getDescription() {
+		inflate();
 		return description;
 	}
 
 	@JsonProperty("description")
 	public void setDescription(String description) {
+		inflate();
 		this.description = description;
 	}
 
 	@JsonProperty("location")
 	public String getLocation() {
+		inflate();
 		return location;
 	}
 
 	@JsonProperty("location")
 	public void setLocation(String location) {
+		inflate();
 		this.location = location;
 	}
 
 	@JsonAnyGetter
 	public Map<String, Object> getAdditionalProperties() {
+		inflate();
 		return this.additionalProperties;
 	}
 
 	@JsonAnySetter
 	public void setAdditionalProperty(String name, Object value) {
+		inflate();
 		this.additionalProperties.put(name, value);
 	}
 
+	@Override
+	void share(SharedAttributes sharing) {
+		additionalProperties = sharing.share(additionalProperties);
+	}
+
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "ciId", "ciName", "ciClassName", "impl", "nsPath", "ciGoid", "comments", "ciState",
@@ -15,14 +16,17 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class CiResource {
 
 	@JsonProperty("ciId")
-	private Long ciId;
+	private long ciId = Absent.LONG;
 	@JsonProperty("ciName")
 	private String ciName;
 	@JsonProperty("ciClassName")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String ciClassName;
 	@JsonProperty("impl")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String impl;
 	@JsonProperty("nsPath")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String nsPath;
 	@JsonProperty("ciGoid")
 	private String ciGoid;
@@ -31,17 +35,18 @@ public class CiResource {
 	@JsonProperty("ciState")
 	private String ciState;
 	@JsonProperty("lastAppliedRfcId")
-	private Long lastAppliedRfcId;
+	private long lastAppliedRfcId = Absent.LONG;
 	@JsonProperty("createdBy")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String createdBy;
 	@JsonProperty("updatedBy")
 	private Object updatedBy;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("nsId")
-	private Long nsId;
+	private long nsId = Absent.LONG;
 	@JsonProperty("ciAttributes")
 	private CiAttributes ciAttributes;
 	@JsonProperty("ciAttrProps")
@@ -51,12 +56,12 @@ public class CiResource {
 
 	@JsonProperty("ciId")
 	public Long getCiId() {
-		return ciId;
+		return Absent.box(ciId);
 	}
 
 	@JsonProperty("ciId")
 	public void setCiId(Long ciId) {
-		this.ciId = ciId;
+		this.ciId = Absent.unbox(ciId);
 	}
 
 	@JsonProperty("ciName")
@@ -131,12 +136,12 @@ public class CiResource {
 
 	@JsonProperty("lastAppliedRfcId")
 	public Long getLastAppliedRfcId() {
-		return lastAppliedRfcId;
+		return Absent.box(lastAppliedRfcId);
 	}
 
 	@JsonProperty("lastAppliedRfcId")
 	public void setLastAppliedRfcId(Long lastAppliedRfcId) {
-		this.lastAppliedRfcId = lastAppliedRfcId;
+		this.lastAppliedRfcId = Absent.unbox(lastAppliedRfcId);
 	}
 
 	@JsonProperty("createdBy")
@@ -161,32 +166,32 @@ public class CiResource {
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("nsId")
 	public Long getNsId() {
-		return nsId;
+		return Absent.box(nsId);
 	}
 
 	@JsonProperty("nsId")
 	public void setNsId(Long nsId) {
-		this.nsId = nsId;
+		this.nsId = Absent.unbox(nsId);
 	}
 
 	@JsonProperty("ciAttributes")
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "deploymentId", "releaseId", "maxExecOrder", "nsPath", "deploymentState", "processId", "createdBy",
@@ -16,18 +17,20 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class Deployment {
 
 	@JsonProperty("deploymentId")
-	private Long deploymentId;
+	private long deploymentId = Absent.LONG;
 	@JsonProperty("releaseId")
-	private Long releaseId;
+	private long releaseId = Absent.LONG;
 	@JsonProperty("maxExecOrder")
-	private Integer maxExecOrder;
+	private int maxExecOrder = Absent.INT;
 	@JsonProperty("nsPath")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String nsPath;
 	@JsonProperty("deploymentState")
 	private String deploymentState;
 	@JsonProperty("processId")
 	private String processId;
 	@JsonProperty("createdBy")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String createdBy;
 	@JsonProperty("updatedBy")
 	private String updatedBy;
@@ -40,11 +43,11 @@ public class Deployment {
 	@JsonProperty("autoPauseExecOrders")
 	private Object autoPauseExecOrders;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("flags")
-	private Integer flags;
+	private int flags = Absent.INT;
 	@JsonProperty("continueOnFailure")
 	private Boolean continueOnFailure;
 	@JsonIgnore
@@ -52,32 +55,32 @@ public class Deployment {
 
 	@JsonProperty("deploymentId")
 	public Long getDeploymentId() {
-		return deploymentId;
+		return Absent.box(deploymentId);
 	}
 
 	@JsonProperty("deploymentId")
 	public void setDeploymentId(Long deploymentId) {
-		this.deploymentId = deploymentId;
+		this.deploymentId = Absent.unbox(deploymentId);
 	}
 
 	@JsonProperty("releaseId")
 	public Long getReleaseId() {
-		return releaseId;
+		return Absent.box(releaseId);
 	}
 
 	@JsonProperty("releaseId")
 	public void setReleaseId(Long releaseId) {
-		this.releaseId = releaseId;
+		this.releaseId = Absent.unbox(releaseId);
 	}
 
 	@JsonProperty("maxExecOrder")
 	public Integer getMaxExecOrder() {
-		return maxExecOrder;
+		return Absent.box(maxExecOrder);
 	}
 
 	@JsonProperty("maxExecOrder")
 	public void setMaxExecOrder(Integer maxExecOrder) {
-		this.maxExecOrder = maxExecOrder;
+		this.maxExecOrder = Absent.unbox(maxExecOrder);
 	}
 
 	@JsonProperty("nsPath")
@@ -172,32 +175,32 @@ public class Deployment {
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("flags")
 	public Integer getFlags() {
-		return flags;
+		return Absent.box(flags);
 	}
 
 	@JsonProperty("flags")
 	public void setFlags(Integer flags) {
-		this.flags = flags;
+		this.flags = Absent.unbox(flags);
 	}
 
 	@JsonProperty("continueOnFailure")
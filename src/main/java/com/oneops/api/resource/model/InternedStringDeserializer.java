@@ -0,0 +1,24 @@
+package com.oneops.api.resource.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.oneops.api.util.StringInterner;
+
+/**
+ * Deserializer of the low cardinality string fields (class names, namespaces, users...), deduplicated through
+ * the {@link StringInterner} of the client when the reader carries one
+ */
+class InternedStringDeserializer extends StringDeserializer {
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		String value = super.deserialize(p, ctxt);
+		Object interner = ctxt.getAttribute(StringInterner.ATTRIBUTE);
+		return interner instanceof StringInterner ? ((StringInterner) interner).intern(value) : value;
+	}
+}
@@ -0,0 +1,86 @@
+package com.oneops.api.resource.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.oneops.api.util.JsonUtil;
+
+/**
+ * Attribute map of a CI, which may be kept as its raw JSON until it is first accessed.
+ *
+ * When a response is decoded with {@link #LAZY} set (see {@link com.oneops.api.OOInstance#setLazyAttributesEnabled(boolean)}),
+ * the JSON object is copied as compact UTF-8 bytes and only decoded into fields and maps by the first getter
+ * or setter call.
+ */
+public abstract class LazyAttributes {
+
+	/**
+	 * Jackson reader attribute enabling the lazy decoding of attribute maps
+	 */
+	public static final String LAZY = "oneops.lazyAttributes";
+
+	private final Object lock = new Object();
+	private volatile byte[] raw;
+	private SharedAttributes sharing;
+	private boolean decoding;
+
+	/**
+	 * @param raw JSON object decoded on first access
+	 * @param sharing pool applied once decoded, may be null
+	 */
+	void setRaw(byte[] raw, SharedAttributes sharing) {
+		this.raw = raw;
+		this.sharing = sharing;
+	}
+
+	/**
+	 * Replaces the decoded maps by maps sharing their common values with other CIs, if the subclass has any
+	 */
+	void share(SharedAttributes sharing) {
+	}
+
+	/**
+	 * Whether the attributes were decoded, always true unless they were read lazily and not accessed yet
+	 */
+	@JsonIgnore
+	public boolean isDecoded() {
+		return raw == null;
+	}
+
+	/**
+	 * Decodes the raw JSON kept by a lazy read, if any; setters called while decoding return right away
+	 */
+	protected final void inflate() {
+		if(raw == null) {
+			return;
+		}
+		synchronized (lock) {
+			byte[] json = raw;
+			if(json == null || decoding) {
+				return;
+			}
+			decoding = true;
+			try {
+				JsonUtil.mapper().readerForUpdating(this).readValue(json);
+				if(sharing != null) {
+					share(sharing);
+					sharing = null;
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to decode " + getClass().getSimpleName(), e);
+			} finally {
+				decoding = false;
+			}
+			raw = null;
+		}
+	}
+
+	/**
+	 * Jackson module reading attribute maps lazily when {@link #LAZY} is set
+	 */
+	public static Module module() {
+		return new SimpleModule("oneops-lazy-attributes").setDeserializerModifier(new LazyAttributesDeserializer.Modifier());
+	}
+}
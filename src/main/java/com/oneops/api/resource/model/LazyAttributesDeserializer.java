@@ -0,0 +1,85 @@
+package com.oneops.api.resource.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+/**
+ * Wraps the bean deserializer of a {@link LazyAttributes} subclass: when {@link LazyAttributes#LAZY} is set,
+ * the JSON object is copied to bytes instead of being decoded. When {@link SharedAttributes#ATTRIBUTE} is set,
+ * the decoded maps are shared through its pool.
+ */
+class LazyAttributesDeserializer extends DelegatingDeserializer {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<ByteArrayBuilder> BUFFERS = new ThreadLocal<ByteArrayBuilder>() {
+		@Override
+		protected ByteArrayBuilder initialValue() {
+			return new ByteArrayBuilder(1024);
+		}
+	};
+
+	LazyAttributesDeserializer(JsonDeserializer<?> delegatee) {
+		super(delegatee);
+	}
+
+	@Override
+	protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+		return new LazyAttributesDeserializer(newDelegatee);
+	}
+
+	@Override
+	public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		SharedAttributes sharing = (SharedAttributes) ctxt.getAttribute(SharedAttributes.ATTRIBUTE);
+		if(p.getCurrentToken() != JsonToken.START_OBJECT || !Boolean.TRUE.equals(ctxt.getAttribute(LazyAttributes.LAZY))) {
+			Object value = super.deserialize(p, ctxt);
+			if(sharing != null && value instanceof LazyAttributes) {
+				((LazyAttributes) value).share(sharing);
+			}
+			return value;
+		}
+		LazyAttributes attributes;
+		try {
+			attributes = (LazyAttributes) handledType().getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw JsonMappingException.from(p, "Failed to create " + handledType().getSimpleName(), e);
+		}
+		attributes.setRaw(copy(p), sharing);
+		return attributes;
+	}
+
+	private static byte[] copy(JsonParser p) throws IOException {
+		ByteArrayBuilder buffer = BUFFERS.get();
+		try {
+			JsonGenerator generator = p.getCodec().getFactory().createGenerator(buffer);
+			generator.copyCurrentStructure(p);
+			generator.close();
+			return buffer.toByteArray();
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	static class Modifier extends BeanDeserializerModifier {
+
+		@Override
+		public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+				JsonDeserializer<?> deserializer) {
+			if(LazyAttributes.class.isAssignableFrom(beanDesc.getBeanClass())) {
+				return new LazyAttributesDeserializer(deserializer);
+			}
+			return deserializer;
+		}
+	}
+}
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "ciId", "procedureCiId", "procedureState", "arglist", "definition", "force", "procedureId",
@@ -16,9 +17,9 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class Procedure {
 
 	@JsonProperty("ciId")
-	private Long ciId;
+	private long ciId = Absent.LONG;
 	@JsonProperty("procedureCiId")
-	private Long procedureCiId;
+	private long procedureCiId = Absent.LONG;
 	@JsonProperty("procedureState")
 	private String procedureState;
 	@JsonProperty("arglist")
@@ -28,17 +29,18 @@ public class Procedure {
 	@JsonProperty("force")
 	private String force;
 	@JsonProperty("procedureId")
-	private Long procedureId;
+	private long procedureId = Absent.LONG;
 	@JsonProperty("procedureName")
 	private String procedureName;
 	@JsonProperty("maxExecOrder")
-	private Long maxExecOrder;
+	private long maxExecOrder = Absent.LONG;
 	@JsonProperty("createdBy")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String createdBy;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("nsPath")
 	private Object nsPath;
 	@JsonProperty("forceExecution")
@@ -50,22 +52,22 @@ public class Procedure {
 
 	@JsonProperty("ciId")
 	public Long getCiId() {
-		return ciId;
+		return Absent.box(ciId);
 	}
 
 	@JsonProperty("ciId")
 	public void setCiId(Long ciId) {
-		this.ciId = ciId;
+		this.ciId = Absent.unbox(ciId);
 	}
 
 	@JsonProperty("procedureCiId")
 	public Long getProcedureCiId() {
-		return procedureCiId;
+		return Absent.box(procedureCiId);
 	}
 
 	@JsonProperty("procedureCiId")
 	public void setProcedureCiId(Long procedureCiId) {
-		this.procedureCiId = procedureCiId;
+		this.procedureCiId = Absent.unbox(procedureCiId);
 	}
 
 	@JsonProperty("procedureState")
@@ -110,12 +112,12 @@ public class Procedure {
 
 	@JsonProperty("procedureId")
 	public Long getProcedureId() {
-		return procedureId;
+		return Absent.box(procedureId);
 	}
 
 	@JsonProperty("procedureId")
 	public void setProcedureId(Long procedureId) {
-		this.procedureId = procedureId;
+		this.procedureId = Absent.unbox(procedureId);
 	}
 
 	@JsonProperty("procedureName")
@@ -130,12 +132,12 @@ public class Procedure {
 
 	@JsonProperty("maxExecOrder")
 	public Long getMaxExecOrder() {
-		return maxExecOrder;
+		return Absent.box(maxExecOrder);
 	}
 
 	@JsonProperty("maxExecOrder")
 	public void setMaxExecOrder(Long maxExecOrder) {
-		this.maxExecOrder = maxExecOrder;
+		this.maxExecOrder = Absent.unbox(maxExecOrder);
 	}
 
 	@JsonProperty("createdBy")
@@ -150,22 +152,22 @@ public class Procedure {
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("nsPath")
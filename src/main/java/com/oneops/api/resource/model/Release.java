@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "releaseId", "nsPath", "releaseName", "createdBy", "commitedBy", "releaseState", "releaseType",
@@ -16,12 +17,14 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class Release {
 
 	@JsonProperty("releaseId")
-	private Long releaseId;
+	private long releaseId = Absent.LONG;
 	@JsonProperty("nsPath")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String nsPath;
 	@JsonProperty("releaseName")
 	private String releaseName;
 	@JsonProperty("createdBy")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String createdBy;
 	@JsonProperty("commitedBy")
 	private String commitedBy;
@@ -32,32 +35,32 @@ public class Release {
 	@JsonProperty("description")
 	private String description;
 	@JsonProperty("revision")
-	private Integer revision;
+	private int revision = Absent.INT;
 	@JsonProperty("parentReleaseId")
 	private Object parentReleaseId;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("nsId")
-	private Integer nsId;
+	private int nsId = Absent.INT;
 	@JsonProperty("releaseStateId")
-	private Integer releaseStateId;
+	private int releaseStateId = Absent.INT;
 	@JsonProperty("ciRfcCount")
-	private Integer ciRfcCount;
+	private int ciRfcCount = Absent.INT;
 	@JsonProperty("relationRfcCount")
-	private Integer relationRfcCount;
+	private int relationRfcCount = Absent.INT;
 	@JsonIgnore
 	private Map<String, Object> additionalProperties = new HashMap<String, Object>();
 
 	@JsonProperty("releaseId")
 	public Long getReleaseId() {
-		return releaseId;
+		return Absent.box(releaseId);
 	}
 
 	@JsonProperty("releaseId")
 	public void setReleaseId(Long releaseId) {
-		this.releaseId = releaseId;
+		this.releaseId = Absent.unbox(releaseId);
 	}
 
 	@JsonProperty("nsPath")
@@ -132,12 +135,12 @@ public class Release {
 
 	@JsonProperty("revision")
 	public Integer getRevision() {
-		return revision;
+		return Absent.box(revision);
 	}
 
 	@JsonProperty("revision")
 	public void setRevision(Integer revision) {
-		this.revision = revision;
+		this.revision = Absent.unbox(revision);
 	}
 
 	@JsonProperty("parentReleaseId")
@@ -152,62 +155,62 @@ public class Release {
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("nsId")
 	public Integer getNsId() {
-		return nsId;
+		return Absent.box(nsId);
 	}
 
 	@JsonProperty("nsId")
 	public void setNsId(Integer nsId) {
-		this.nsId = nsId;
+		this.nsId = Absent.unbox(nsId);
 	}
 
 	@JsonProperty("releaseStateId")
 	public Integer getReleaseStateId() {
-		return releaseStateId;
+		return Absent.box(releaseStateId);
 	}
 
 	@JsonProperty("releaseStateId")
 	public void setReleaseStateId(Integer releaseStateId) {
-		this.releaseStateId = releaseStateId;
+		this.releaseStateId = Absent.unbox(releaseStateId);
 	}
 
 	@JsonProperty("ciRfcCount")
 	public Integer getCiRfcCount() {
-		return ciRfcCount;
+		return Absent.box(ciRfcCount);
 	}
 
 	@JsonProperty("ciRfcCount")
 	public void setCiRfcCount(Integer ciRfcCount) {
-		this.ciRfcCount = ciRfcCount;
+		this.ciRfcCount = Absent.unbox(ciRfcCount);
 	}
 
 	@JsonProperty("relationRfcCount")
 	public Integer getRelationRfcCount() {
-		return relationRfcCount;
+		return Absent.box(relationRfcCount);
 	}
 
 	@JsonProperty("relationRfcCount")
 	public void setRelationRfcCount(Integer relationRfcCount) {
-		this.relationRfcCount = relationRfcCount;
+		this.relationRfcCount = Absent.unbox(relationRfcCount);
 	}
 
 	@JsonAnyGetter
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({ "rfcId", "releaseId", "ciId", "nsPath", "ciClassName", "impl", "ciName", "ciGoid", "ciState",
@@ -18,16 +19,19 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 public class RfcCi {
 
 	@JsonProperty("rfcId")
-	private Long rfcId;
+	private long rfcId = Absent.LONG;
 	@JsonProperty("releaseId")
-	private Long releaseId;
+	private long releaseId = Absent.LONG;
 	@JsonProperty("ciId")
-	private Long ciId;
+	private long ciId = Absent.LONG;
 	@JsonProperty("nsPath")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String nsPath;
 	@JsonProperty("ciClassName")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String ciClassName;
 	@JsonProperty("impl")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String impl;
 	@JsonProperty("ciName")
 	private String ciName;
@@ -40,6 +44,7 @@ public class RfcCi {
 	@JsonProperty("releaseType")
 	private Object releaseType;
 	@JsonProperty("createdBy")
+	@JsonDeserialize(using = InternedStringDeserializer.class)
 	private String createdBy;
 	@JsonProperty("updatedBy")
 	private Object updatedBy;
@@ -48,7 +53,7 @@ public class RfcCi {
 	@JsonProperty("rfcUpdatedBy")
 	private Object rfcUpdatedBy;
 	@JsonProperty("execOrder")
-	private Long execOrder;
+	private long execOrder = Absent.LONG;
 	@JsonProperty("lastAppliedRfcId")
 	private Object lastAppliedRfcId;
 	@JsonProperty("comments")
@@ -56,13 +61,13 @@ public class RfcCi {
 	@JsonProperty("isActiveInRelease")
 	private Boolean isActiveInRelease;
 	@JsonProperty("rfcCreated")
-	private Long rfcCreated;
+	private long rfcCreated = Absent.LONG;
 	@JsonProperty("rfcUpdated")
-	private Long rfcUpdated;
+	private long rfcUpdated = Absent.LONG;
 	@JsonProperty("created")
-	private Long created;
+	private long created = Absent.LONG;
 	@JsonProperty("updated")
-	private Long updated;
+	private long updated = Absent.LONG;
 	@JsonProperty("ciAttributes")
 	private CiAttributes ciAttributes;
 	@JsonProperty("ciAttrProps")
@@ -74,32 +79,32 @@ public class RfcCi {
 
 	@JsonProperty("rfcId")
 	public Long getRfcId() {
-		return rfcId;
+		return Absent.box(rfcId);
 	}
 
 	@JsonProperty("rfcId")
 	public void setRfcId(Long rfcId) {
-		this.rfcId = rfcId;
+		this.rfcId = Absent.unbox(rfcId);
 	}
 
 	@JsonProperty("releaseId")
 	public Long getReleaseId() {
-		return releaseId;
+		return Absent.box(releaseId);
 	}
 
 	@JsonProperty("releaseId")
 	public void setReleaseId(Long releaseId) {
-		this.releaseId = releaseId;
+		this.releaseId = Absent.unbox(releaseId);
 	}
 
 	@JsonProperty("ciId")
 	public Long getCiId() {
-		return ciId;
+		return Absent.box(ciId);
 	}
 
 	@JsonProperty("ciId")
 	public void setCiId(Long ciId) {
-		this.ciId = ciId;
+		this.ciId = Absent.unbox(ciId);
 	}
 
 	@JsonProperty("nsPath")
@@ -224,12 +229,12 @@ public class RfcCi {
 
 	@JsonProperty("execOrder")
 	public Long getExecOrder() {
-		return execOrder;
+		return Absent.box(execOrder);
 	}
 
 	@JsonProperty("execOrder")
 	public void setExecOrder(Long execOrder) {
-		this.execOrder = execOrder;
+		this.execOrder = Absent.unbox(execOrder);
 	}
 
 	@JsonProperty("lastAppliedRfcId")
@@ -264,42 +269,42 @@ public class RfcCi {
 
 	@JsonProperty("rfcCreated")
 	public Long getRfcCreated() {
-		return rfcCreated;
+		return Absent.box(rfcCreated);
 	}
 
 	@JsonProperty("rfcCreated")
 	public void setRfcCreated(Long rfcCreated) {
-		this.rfcCreated = rfcCreated;
+		this.rfcCreated = Absent.unbox(rfcCreated);
 	}
 
 	@JsonProperty("rfcUpdated")
 	public Long getRfcUpdated() {
-		return rfcUpdated;
+		return Absent.box(rfcUpdated);
 	}
 
 	@JsonProperty("rfcUpdated")
 	public void setRfcUpdated(Long rfcUpdated) {
-		this.rfcUpdated = rfcUpdated;
+		this.rfcUpdated = Absent.unbox(rfcUpdated);
 	}
 
 	@JsonProperty("created")
 	public Long getCreated() {
-		return created;
+		return Absent.box(created);
 	}
 
 	@JsonProperty("created")
 	public void setCreated(Long created) {
-		this.created = created;
+		this.created = Absent.unbox(created);
 	}
 
 	@JsonProperty("updated")
 	public Long getUpdated() {
-		return updated;
+		return Absent.box(updated);
 	}
 
 	@JsonProperty("updated")
 	public void setUpdated(Long updated) {
-		this.updated = updated;
+		this.updated = Absent.unbox(updated);
 	}
 
 	@JsonProperty("ciAttributes")
@@ -0,0 +1,186 @@
+package com.oneops.api.resource.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Attribute map made of a map shared with other CIs and the values of this CI differing from it.
+ *
+ * The first write, through the map or its views, copies the map to a {@link HashMap} private to this CI.
+ */
+final class SharedAttributeMap extends AbstractMap<String, Object> {
+
+	private final Object template;
+	private final Map<String, Object> shared;
+	private final String[] keys;
+	private final Object[] values;
+	private Map<String, Object> copy;
+
+	/**
+	 * @param template pool entry the shared map was elected by, kept reachable as long as this map shares it
+	 * @param shared
+	 * @param keys keys of the values differing from the shared map
+	 * @param values
+	 * @param overrides number of differing values
+	 */
+	SharedAttributeMap(Object template, Map<String, Object> shared, String[] keys, Object[] values, int overrides) {
+		this.template = template;
+		this.shared = shared;
+		this.keys = overrides == keys.length ? keys : Arrays.copyOf(keys, overrides);
+		this.values = overrides == values.length ? values : Arrays.copyOf(values, overrides);
+	}
+
+	/**
+	 * Whether this map still references the shared map, i.e. was not written to
+	 */
+	boolean isShared() {
+		return copy == null;
+	}
+
+	@Override
+	public int size() {
+		return copy != null ? copy.size() : shared.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return copy != null ? copy.containsKey(key) : shared.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		if(copy != null) {
+			return copy.get(key);
+		}
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : shared.get(key);
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		return writable().put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		return writable().remove(key);
+	}
+
+	@Override
+	public void clear() {
+		writable().clear();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<Entry<String, Object>>() {
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				if(copy != null) {
+					return copy.entrySet().iterator();
+				}
+				return new SharedIterator();
+			}
+
+			@Override
+			public int size() {
+				return SharedAttributeMap.this.size();
+			}
+		};
+	}
+
+	private int indexOf(Object key) {
+		for(int i = 0; i < keys.length; i++) {
+			if(keys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private Map<String, Object> writable() {
+		if(copy == null) {
+			copy = new HashMap<String, Object>(this);
+		}
+		return copy;
+	}
+
+	/**
+	 * Iterates over the keys of the shared map, writes going through {@link #writable()}
+	 */
+	private class SharedIterator implements Iterator<Entry<String, Object>> {
+
+		private final Iterator<String> keys = shared.keySet().iterator();
+		private String last;
+
+		@Override
+		public boolean hasNext() {
+			return keys.hasNext();
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			last = keys.next();
+			return new SharedEntry(last);
+		}
+
+		@Override
+		public void remove() {
+			Preconditions.checkState(last != null, "no entry to remove");
+			writable().remove(last);
+			last = null;
+		}
+	}
+
+	private class SharedEntry implements Entry<String, Object> {
+
+		private final String key;
+
+		SharedEntry(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public String getKey() {
+			return key;
+		}
+
+		@Override
+		public Object getValue() {
+			return get(key);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			return writable().put(key, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Entry)) {
+				return false;
+			}
+			Entry<?, ?> other = (Entry<?, ?>) o;
+			return key.equals(other.getKey()) && Objects.equal(getValue(), other.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			Object value = getValue();
+			return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.oneops.api.resource.model;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+
+/**
+ * Client scoped pool of the attribute maps of the decoded CIs, so instances of a component share one
+ * immutable map of their common values and only keep the values differing from it.
+ *
+ * Maps with the same key set keep a reference to the shared map of that key set plus their differing values,
+ * unless more than half of their values differ. The shared map is elected by a majority vote over the maps
+ * decoded: maps close to it vote for it and the others against it, and the first map decoded once it lost
+ * its majority replaces it, so an outlier decoded first does not stay the shared map. Maps already decoded
+ * keep the map they share. Only maps of scalar values are shared. Shared maps are held weakly and dropped
+ * once no CI references them.
+ */
+public class SharedAttributes {
+
+	/**
+	 * Jackson reader attribute carrying the pool used while decoding
+	 */
+	public static final String ATTRIBUTE = "oneops.sharedAttributes";
+
+	private static final int MIN_SIZE = 4;
+
+	private final ConcurrentMap<ImmutableSet<String>, Template> templates = new MapMaker().weakValues().makeMap();
+
+	/**
+	 * @param attributes decoded attribute map
+	 * @return a map equal to the given one sharing its common values, or the given map when it is not worth sharing
+	 */
+	public Map<String, Object> share(Map<String, Object> attributes) {
+		if(attributes.size() < MIN_SIZE || attributes instanceof SharedAttributeMap || !isScalar(attributes)) {
+			return attributes;
+		}
+		ImmutableSet<String> keys = ImmutableSet.copyOf(attributes.keySet());
+		Template template = templates.get(keys);
+		if(template == null) {
+			template = new Template(ImmutableMap.copyOf(attributes));
+			Template existing = templates.putIfAbsent(keys, template);
+			if(existing != null) {
+				template = existing;
+			}
+		}
+		ImmutableMap<String, Object> common = template.vote(attributes);
+
+		int max = common.size() / 2;
+		String[] overrideKeys = new String[max];
+		Object[] overrideValues = new Object[max];
+		int overrides = 0;
+		for(Entry<String, Object> entry : common.entrySet()) {
+			Object value = attributes.get(entry.getKey());
+			if(!Objects.equal(value, entry.getValue())) {
+				if(overrides == max) {
+					return attributes;
+				}
+				overrideKeys[overrides] = entry.getKey();
+				overrideValues[overrides++] = value;
+			}
+		}
+		return new SharedAttributeMap(template, common, overrideKeys, overrideValues, overrides);
+	}
+
+	/**
+	 * Whether at most half of the values of the map differ from the shared map, i.e. it can share it
+	 */
+	private static boolean isClose(Map<String, Object> attributes, Map<String, Object> common) {
+		int max = common.size() / 2;
+		int differing = 0;
+		for(Entry<String, Object> entry : common.entrySet()) {
+			if(!Objects.equal(attributes.get(entry.getKey()), entry.getValue()) && ++differing > max) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isScalar(Map<String, Object> attributes) {
+		for(Object value : attributes.values()) {
+			if(!(value instanceof String || value instanceof Number || value instanceof Boolean)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Shared map of a key set and its votes, elected as in the Boyer-Moore majority vote
+	 */
+	private static final class Template {
+
+		private ImmutableMap<String, Object> common;
+		private int votes = 1;
+
+		Template(ImmutableMap<String, Object> common) {
+			this.common = common;
+		}
+
+		/**
+		 * Counts the vote of a decoded map, electing it when the current shared map has no votes left
+		 *
+		 * @return the shared map after the vote
+		 */
+		synchronized ImmutableMap<String, Object> vote(Map<String, Object> attributes) {
+			if(isClose(attributes, common)) {
+				votes++;
+			} else if(--votes < 0) {
+				common = ImmutableMap.copyOf(attributes);
+				votes = 1;
+			}
+			return common;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.oneops.api.transport;
+
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Additive increase / multiplicative decrease limit on the number of calls in flight.
+ *
+ * The limit grows by about one per round trip while calls succeed within the latency tolerance of the
+ * best latency observed on their route, and is cut when calls fail or slow down. Latency baselines are kept
+ * per route template, so a slow route does not look like an overload of the fast ones. A cut applies once
+ * per round trip: calls started before the last cut do not cut the limit again.
+ */
+public class AimdLimiter {
+
+	private static final double ERROR_BACKOFF = 0.5;
+	private static final double LATENCY_BACKOFF = 0.9;
+	private static final double LATENCY_TOLERANCE = 2.0;
+	private static final double BASELINE_DRIFT = 0.001;
+
+	private final String name;
+	private final int minLimit;
+	private final int maxLimit;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition available = lock.newCondition();
+
+	private double limit;
+	private int inFlight;
+	private final Map<String, Double> baselineNanos = new HashMap<String, Double>();
+	private long lastCut = System.nanoTime();
+
+	/**
+	 * @param name endpoint or org the limit applies to
+	 * @param initialLimit
+	 * @param minLimit
+	 * @param maxLimit
+	 */
+	public AimdLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+		this.name = name;
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+	}
+
+	/**
+	 * Waits until a call may start
+	 *
+	 * @return start time to hand back when the call completes
+	 * @throws InterruptedIOException
+	 */
+	public long acquire() throws InterruptedIOException {
+		lock.lock();
+		try {
+			while(inFlight >= (int) limit) {
+				available.await();
+			}
+			inFlight++;
+			return System.nanoTime();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a concurrency permit on " + name);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the permit of a call that completed without overloading the server
+	 *
+	 * @param route route template of the call, its latency being compared to the baseline of that route only
+	 * @param start value returned by {@link #acquire()}
+	 */
+	public void onSuccess(String route, long start) {
+		long latency = System.nanoTime() - start;
+		lock.lock();
+		try {
+			Double previous = baselineNanos.get(route);
+			double baseline = previous == null || latency < previous ? latency : previous + (latency - previous) * BASELINE_DRIFT;
+			baselineNanos.put(route, baseline);
+			if(latency > baseline * LATENCY_TOLERANCE) {
+				cut(start, LATENCY_BACKOFF);
+			} else if(inFlight * 2 >= limit) {
+				limit = Math.min(maxLimit, limit + 1 / limit);
+			}
+			release();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the permit of a call that failed or was throttled by the server
+	 *
+	 * @param start value returned by {@link #acquire()}
+	 */
+	public void onOverload(long start) {
+		lock.lock();
+		try {
+			cut(start, ERROR_BACKOFF);
+			release();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the permit of a call whose outcome says nothing about the server load
+	 */
+	public void onIgnore() {
+		lock.lock();
+		try {
+			release();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Current number of calls allowed in flight
+	 */
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Latency baseline of a route
+	 *
+	 * @param route route template
+	 * @return baseline in milliseconds, -1 when no call of the route succeeded yet
+	 */
+	public long getBaselineMillis(String route) {
+		lock.lock();
+		try {
+			Double baseline = baselineNanos.get(route);
+			return baseline == null ? -1 : TimeUnit.NANOSECONDS.toMillis(baseline.longValue());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		lock.lock();
+		try {
+			return String.format("%s limit %d, %d in flight, baselines of %d routes", name, (int) limit, inFlight,
+					baselineNanos.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void cut(long start, double backoff) {
+		if(start - lastCut >= 0) {
+			limit = Math.max(minLimit, limit * backoff);
+			lastCut = System.nanoTime();
+		}
+	}
+
+	private void release() {
+		inFlight--;
+		available.signalAll();
+	}
+}
@@ -0,0 +1,169 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator caching successful GET responses for a time to live set per route template, within a bound on
+ * the cached bytes; the least recently used responses are evicted first.
+ *
+ * Any other call invalidates, once it completes, the cached responses of its namespace (its first two path
+ * segments, e.g. <code>/assemblies/my-app</code>) and of the parent collections of its path, so reads issued
+ * after a write see it. Responses of GET calls overlapping a write are not cached.
+ */
+public class CachingTransport implements OneOpsTransport {
+
+	private final OneOpsTransport delegate;
+	private final long ttlMillis;
+	private final ImmutableMap<String, Long> routeTtlMillis;
+	private final Cache<String, Entry> cache;
+	private final AtomicLong writes = new AtomicLong();
+	private final ResponseCacheStats stats = new ResponseCacheStats();
+
+	/**
+	 * @param delegate transport actually sending the calls
+	 * @param ttlMillis time to live of the responses of routes not listed, 0 to only cache the listed routes
+	 * @param routeTtlMillis time to live per route template, e.g. <code>/clouds/{cloud}/zones</code>, 0 to never cache a route
+	 * @param maxBytes bound on the total size of the cached bodies
+	 */
+	public CachingTransport(OneOpsTransport delegate, long ttlMillis, Map<String, Long> routeTtlMillis, long maxBytes) {
+		this.delegate = delegate;
+		this.ttlMillis = Math.max(0, ttlMillis);
+		this.routeTtlMillis = routeTtlMillis == null ? ImmutableMap.<String, Long>of() : ImmutableMap.copyOf(routeTtlMillis);
+		long maxTtl = this.ttlMillis;
+		for(Long ttl : this.routeTtlMillis.values()) {
+			maxTtl = Math.max(maxTtl, ttl);
+		}
+		this.cache = CacheBuilder.newBuilder()
+				.maximumWeight(Math.max(0, maxBytes))
+				.weigher(new Weigher<String, Entry>() {
+					@Override
+					public int weigh(String key, Entry entry) {
+						return key.length() + entry.response.getBody().length();
+					}
+				})
+				.expireAfterWrite(Math.max(1, maxTtl), TimeUnit.MILLISECONDS)
+				.removalListener(new RemovalListener<String, Entry>() {
+					@Override
+					public void onRemoval(RemovalNotification<String, Entry> notification) {
+						if(notification.getCause() == RemovalCause.SIZE) {
+							stats.recordEviction();
+						}
+					}
+				})
+				.build();
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		if(!"GET".equals(request.getMethod())) {
+			writes.incrementAndGet();
+			try {
+				return delegate.execute(request);
+			} finally {
+				writes.incrementAndGet();
+				invalidate(request.getPath());
+			}
+		}
+
+		String key = request.key();
+		Entry cached = cache.getIfPresent(key);
+		if(cached != null && cached.expires - System.nanoTime() > 0) {
+			stats.recordHit();
+			return cached.response;
+		}
+		stats.recordMiss();
+		long ttl = ttlMillis(request.getPath());
+		long generation = writes.get();
+		OneOpsResponse response = delegate.execute(request);
+		if(ttl > 0 && response.getStatusCode() == 200 && writes.get() == generation) {
+			Entry entry = new Entry(request.getPath(), response, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl));
+			cache.put(key, entry);
+			if(writes.get() != generation) {
+				cache.asMap().remove(key, entry);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Drops all cached responses
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public ResponseCacheStats getStats() {
+		return stats;
+	}
+
+	@Override
+	public void close() throws IOException {
+		cache.invalidateAll();
+		delegate.close();
+	}
+
+	private long ttlMillis(String path) {
+		Long ttl = routeTtlMillis.isEmpty() ? null : routeTtlMillis.get(RouteTemplates.of(path));
+		return ttl == null ? ttlMillis : ttl;
+	}
+
+	private void invalidate(String path) {
+		String namespace = namespace(path);
+		int count = 0;
+		for(Iterator<Entry> it = cache.asMap().values().iterator(); it.hasNext(); ) {
+			String cached = it.next().path;
+			if(isWithin(cached, namespace) || isWithin(path, cached)) {
+				it.remove();
+				count++;
+			}
+		}
+		stats.recordInvalidations(count);
+	}
+
+	/**
+	 * First two segments of the path, e.g. <code>/assemblies/my-app</code>
+	 */
+	static String namespace(String path) {
+		int segments = 0;
+		for(int i = 1; i < path.length(); i++) {
+			if(path.charAt(i) == '/' && ++segments == 2) {
+				return path.substring(0, i);
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Whether the path is the prefix path or one of its descendants
+	 */
+	static boolean isWithin(String path, String prefix) {
+		return path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/'
+				|| prefix.endsWith("/"));
+	}
+
+	private static class Entry {
+
+		final String path;
+		final OneOpsResponse response;
+		final long expires;
+
+		Entry(String path, OneOpsResponse response, long expires) {
+			this.path = path;
+			this.response = response;
+			this.expires = expires;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.oneops.api.transport;
+
+/**
+ * Consecutive failure circuit breaker of a OneOps endpoint.
+ *
+ * Once the failure threshold is reached the circuit opens and calls fail fast. After the open time a single
+ * probe call is let through: its success closes the circuit, its failure opens it again, and so does a probe
+ * whose outcome says nothing about the endpoint, so that another probe follows after the open time.
+ */
+public class CircuitBreaker {
+
+	public enum State { CLOSED, OPEN, HALF_OPEN }
+
+	private final String name;
+	private final int failureThreshold;
+	private final long openNanos;
+
+	private State state = State.CLOSED;
+	private int failures;
+	private long openedAt;
+
+	/**
+	 * @param name endpoint the circuit protects
+	 * @param failureThreshold consecutive failures opening the circuit, 0 to never open it
+	 * @param openMillis
+	 */
+	public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+		this.name = name;
+		this.failureThreshold = failureThreshold;
+		this.openNanos = openMillis * 1000000L;
+	}
+
+	/**
+	 * Whether a call may be sent now. While half open, only the first caller gets to probe the endpoint.
+	 */
+	public synchronized boolean allowRequest() {
+		if(state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+			state = State.HALF_OPEN;
+			return true;
+		}
+		return state == State.CLOSED;
+	}
+
+	public synchronized void onSuccess() {
+		failures = 0;
+		state = State.CLOSED;
+	}
+
+	public synchronized void onFailure() {
+		failures++;
+		if(state == State.HALF_OPEN || (failureThreshold > 0 && failures >= failureThreshold)) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Settles a call whose outcome says nothing about the endpoint, e.g. an interrupted or throttled call.
+	 * The circuit stays as it is, unless the call was the probe: the circuit then opens again without
+	 * counting a failure.
+	 */
+	public synchronized void onIgnore() {
+		if(state == State.HALF_OPEN) {
+			state = State.OPEN;
+			openedAt = System.nanoTime();
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("%s %s, %d consecutive failures", name, state, failures);
+	}
+}
@@ -0,0 +1,15 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a call while the circuit of its endpoint is open
+ */
+public class CircuitOpenException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public CircuitOpenException(String message) {
+		super(message);
+	}
+}
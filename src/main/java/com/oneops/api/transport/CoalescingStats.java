@@ -0,0 +1,62 @@
+package com.oneops.api.transport;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+
+/**
+ * Counters of the GET calls saved by joining an identical call already in flight, per endpoint path.
+ * Only the most recently used paths are tracked.
+ */
+public class CoalescingStats {
+
+	private final AtomicLong savedCalls = new AtomicLong();
+	private final LoadingCache<String, AtomicLong> savedCallsByPath = CacheBuilder.newBuilder()
+			.maximumSize(1024)
+			.build(new CacheLoader<String, AtomicLong>() {
+				@Override
+				public AtomicLong load(String path) {
+					return new AtomicLong();
+				}
+			});
+
+	void recordSaved(String path) {
+		savedCalls.incrementAndGet();
+		savedCallsByPath.getUnchecked(path).incrementAndGet();
+	}
+
+	/**
+	 * Number of GET calls answered by a call already in flight
+	 */
+	public long getSavedCalls() {
+		return savedCalls.get();
+	}
+
+	/**
+	 * Number of GET calls to the given path answered by a call already in flight
+	 */
+	public long getSavedCalls(String path) {
+		AtomicLong count = savedCallsByPath.getIfPresent(path);
+		return count == null ? 0 : count.get();
+	}
+
+	/**
+	 * Saved calls keyed by endpoint path
+	 */
+	public Map<String, Long> getSavedCallsByPath() {
+		Map<String, Long> counts = Maps.newTreeMap();
+		for(Map.Entry<String, AtomicLong> entry : savedCallsByPath.asMap().entrySet()) {
+			counts.put(entry.getKey(), entry.getValue().get());
+		}
+		return counts;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d calls saved", getSavedCalls());
+	}
+}
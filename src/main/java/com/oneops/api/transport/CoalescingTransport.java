@@ -0,0 +1,110 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Decorator coalescing identical concurrent GET calls: a GET issued while the same GET (url, query and
+ * headers) is in flight waits for that call and shares its response instead of reaching the server.
+ *
+ * Responses are fully buffered and immutable, so sharing them is safe. Any other call, once it completes, stops
+ * the calls in flight within its namespace or on the parent collections of its path from being joined (the paths
+ * a {@link CachingTransport} invalidates), so reads issued after a write never join a read started before it.
+ */
+public class CoalescingTransport implements OneOpsTransport {
+
+	private final OneOpsTransport delegate;
+	private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<String, Flight>();
+	private final CoalescingStats stats = new CoalescingStats();
+
+	public CoalescingTransport(OneOpsTransport delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		if(!"GET".equals(request.getMethod())) {
+			try {
+				return delegate.execute(request);
+			} finally {
+				written(request.getPath());
+			}
+		}
+
+		String key = request.key();
+		Flight flight = new Flight(request.getPath());
+		SettableFuture<OneOpsResponse> call = flight.response;
+		Flight leader = inFlight.putIfAbsent(key, flight);
+		if(leader != null) {
+			stats.recordSaved(request.getPath());
+			return await(leader.response);
+		}
+
+		try {
+			OneOpsResponse response = delegate.execute(request);
+			call.set(response);
+			return response;
+		} catch (IOException e) {
+			call.setException(e);
+			throw e;
+		} catch (RuntimeException e) {
+			call.setException(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Stops the calls in flight which may not see the write to the given path from being joined
+	 */
+	private void written(String path) {
+		String namespace = CachingTransport.namespace(path);
+		for(Iterator<Flight> it = inFlight.values().iterator(); it.hasNext(); ) {
+			String flying = it.next().path;
+			if(CachingTransport.isWithin(flying, namespace) || CachingTransport.isWithin(path, flying)) {
+				it.remove();
+			}
+		}
+	}
+
+	public CoalescingStats getStats() {
+		return stats;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private static OneOpsResponse await(SettableFuture<OneOpsResponse> call) throws IOException {
+		try {
+			return call.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for identical call in flight");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause.getMessage(), cause);
+		}
+	}
+
+	private static class Flight {
+
+		final String path;
+		final SettableFuture<OneOpsResponse> response = SettableFuture.create();
+
+		Flight(String path) {
+			this.path = path;
+		}
+	}
+}
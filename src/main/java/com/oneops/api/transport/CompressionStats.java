@@ -0,0 +1,58 @@
+package com.oneops.api.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte counters of the gzip encoding applied by the transport of an {@link com.oneops.api.OOInstance}.
+ */
+public class CompressionStats {
+
+	private final AtomicLong responseWireBytes = new AtomicLong();
+	private final AtomicLong responseBytesSaved = new AtomicLong();
+	private final AtomicLong requestWireBytes = new AtomicLong();
+	private final AtomicLong requestBytesSaved = new AtomicLong();
+
+	void recordResponse(long wireBytes, long decodedBytes) {
+		responseWireBytes.addAndGet(wireBytes);
+		responseBytesSaved.addAndGet(Math.max(0, decodedBytes - wireBytes));
+	}
+
+	void recordRequest(long wireBytes, long rawBytes) {
+		requestWireBytes.addAndGet(wireBytes);
+		requestBytesSaved.addAndGet(Math.max(0, rawBytes - wireBytes));
+	}
+
+	/**
+	 * Response body bytes received on the wire
+	 */
+	public long getResponseWireBytes() {
+		return responseWireBytes.get();
+	}
+
+	/**
+	 * Response body bytes not transferred thanks to gzip encoding
+	 */
+	public long getResponseBytesSaved() {
+		return responseBytesSaved.get();
+	}
+
+	/**
+	 * Request body bytes sent on the wire
+	 */
+	public long getRequestWireBytes() {
+		return requestWireBytes.get();
+	}
+
+	/**
+	 * Request body bytes not transferred thanks to gzip encoding
+	 */
+	public long getRequestBytesSaved() {
+		return requestBytesSaved.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("responses %d bytes (%d saved), requests %d bytes (%d saved)",
+				getResponseWireBytes(), getResponseBytesSaved(), getRequestWireBytes(), getRequestBytesSaved());
+	}
+}
@@ -0,0 +1,115 @@
+package com.oneops.api.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorator negotiating gzip encoding with the OneOps endpoint.
+ *
+ * Responses are requested gzip encoded and handed over compressed, to be inflated while they are decoded.
+ * Request bodies above a threshold are gzip encoded too; if the server rejects them with a 415, or with a 400
+ * before any compressed body was accepted (Rails and Rack fail to parse gzip bodies that way), the request is
+ * replayed uncompressed. Request compression is then turned off for this transport, unless the uncompressed
+ * replay got the same 400, the request being plainly invalid. A 400 to a request which is not safe to send twice,
+ * e.g. the POST starting a deployment, is returned as is rather than replayed, request compression being turned off.
+ */
+public class CompressionTransport implements OneOpsTransport {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CompressionTransport.class);
+
+	private final OneOpsTransport delegate;
+	private final boolean acceptGzip;
+	private final CompressionStats stats = new CompressionStats();
+	private volatile int requestThreshold;
+	private volatile boolean compressionAccepted;
+
+	/**
+	 * @param delegate transport actually sending the requests
+	 * @param acceptGzip whether gzip encoded responses are requested
+	 * @param requestThreshold minimum size of the request bodies to gzip, negative to never compress them
+	 */
+	public CompressionTransport(OneOpsTransport delegate, boolean acceptGzip, int requestThreshold) {
+		this.delegate = delegate;
+		this.acceptGzip = acceptGzip;
+		this.requestThreshold = requestThreshold;
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		if(acceptGzip) {
+			request = request.withHeader("Accept-Encoding", "gzip");
+		}
+
+		byte[] body = request.getBody();
+		int threshold = requestThreshold;
+		if(body != null && threshold >= 0 && body.length >= threshold && !"GET".equals(request.getMethod())) {
+			byte[] compressed = gzip(body);
+			OneOpsResponse response = decode(delegate.execute(
+					request.withBody(compressed).withHeader("Content-Encoding", "gzip")));
+			int status = response.getStatusCode();
+			if(status != 415 && (status != 400 || compressionAccepted)) {
+				if(status < 400) {
+					compressionAccepted = true;
+				}
+				stats.recordRequest(compressed.length, body.length);
+				return response;
+			}
+			if(status == 400 && !request.isRetrySafe()) {
+				LOG.warn("{} rejected gzip encoded request body with 400, disabling request compression", request);
+				requestThreshold = -1;
+				stats.recordRequest(compressed.length, body.length);
+				return response;
+			}
+			OneOpsResponse uncompressed = executeUncompressed(request, body);
+			if(status == 415 || uncompressed.getStatusCode() != 400) {
+				LOG.warn("{} rejected gzip encoded request body with {}, disabling request compression", request, status);
+				requestThreshold = -1;
+			}
+			return uncompressed;
+		}
+		return executeUncompressed(request, body);
+	}
+
+	private OneOpsResponse executeUncompressed(TransportRequest request, byte[] body) throws IOException {
+		OneOpsResponse response = decode(delegate.execute(request));
+		if(body != null) {
+			stats.recordRequest(body.length, body.length);
+		}
+		return response;
+	}
+
+	public CompressionStats getStats() {
+		return stats;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private OneOpsResponse decode(OneOpsResponse response) {
+		ResponseBody body = response.getBody();
+		String encoding = response.getHeader("Content-Encoding");
+		if(encoding != null && "gzip".equalsIgnoreCase(encoding.trim()) && !body.isGzipped()) {
+			body = body.gzipped();
+			response = new OneOpsResponse(response.getStatusCode(), response.getStatusLine(), response.getHeaders(), body);
+		}
+		stats.recordResponse(body.length(), body.decodedLength());
+		return response;
+	}
+
+	static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		try {
+			gzip.write(content);
+		} finally {
+			gzip.close();
+		}
+		return out.toByteArray();
+	}
+}
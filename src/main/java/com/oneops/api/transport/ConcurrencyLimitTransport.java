@@ -0,0 +1,105 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.oneops.api.OOInstance;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator bounding the calls in flight with adaptive {@link AimdLimiter}s: one per OneOps endpoint and one
+ * per org of that endpoint, each shared by every instance talking to it. The initial and max limits of a
+ * shared limiter are those of the first instance creating it; later instances with other settings share it
+ * as it is.
+ *
+ * Server errors (5xx), throttling (429) and I/O failures cut the limits; other responses let them grow
+ * while their latency stays healthy compared to other calls of the same route.
+ */
+public class ConcurrencyLimitTransport implements OneOpsTransport {
+
+	private static final Cache<String, AimdLimiter> ENDPOINT_LIMITERS = CacheBuilder.newBuilder()
+			.weakValues()
+			.build();
+	private static final Cache<String, AimdLimiter> ORG_LIMITERS = CacheBuilder.newBuilder()
+			.weakValues()
+			.build();
+
+	private final OneOpsTransport delegate;
+	private final AimdLimiter endpointLimiter;
+	private final AimdLimiter orgLimiter;
+
+	public ConcurrencyLimitTransport(OneOpsTransport delegate, OOInstance instance) {
+		this.delegate = delegate;
+		String endpoint = instance.getEndpoint();
+		String org = instance.getOrgname() == null ? "" : instance.getOrgname();
+		endpointLimiter = shared(ENDPOINT_LIMITERS, endpoint, instance);
+		orgLimiter = shared(ORG_LIMITERS, endpoint + " " + org, instance);
+	}
+
+	private static AimdLimiter shared(Cache<String, AimdLimiter> limiters, final String name, OOInstance instance) {
+		final int initial = instance.getInitialConcurrencyLimit();
+		final int max = instance.getMaxConcurrencyLimit();
+		try {
+			return limiters.get(name, new Callable<AimdLimiter>() {
+				@Override
+				public AimdLimiter call() {
+					return new AimdLimiter(name, initial, 1, max);
+				}
+			});
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		String route = RouteTemplates.of(request.getPath());
+		long orgStart = orgLimiter.acquire();
+		long endpointStart;
+		try {
+			endpointStart = endpointLimiter.acquire();
+		} catch (IOException e) {
+			orgLimiter.onIgnore();
+			throw e;
+		}
+
+		OneOpsResponse response = null;
+		try {
+			response = delegate.execute(request);
+			return response;
+		} finally {
+			if(response == null) {
+				orgLimiter.onOverload(orgStart);
+				endpointLimiter.onOverload(endpointStart);
+			} else if(response.getStatusCode() >= 500 || response.getStatusCode() == 429) {
+				orgLimiter.onOverload(orgStart);
+				endpointLimiter.onOverload(endpointStart);
+			} else {
+				orgLimiter.onSuccess(route, orgStart);
+				endpointLimiter.onSuccess(route, endpointStart);
+			}
+		}
+	}
+
+	/**
+	 * Limiter shared by all instances talking to the same endpoint
+	 */
+	public AimdLimiter getEndpointLimiter() {
+		return endpointLimiter;
+	}
+
+	/**
+	 * Limiter shared by all instances talking to the org of this transport on the same endpoint
+	 */
+	public AimdLimiter getOrgLimiter() {
+		return orgLimiter;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+}
@@ -0,0 +1,115 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.util.Set;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableSet;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator revalidating GET calls of rarely changing resources: the ETag and Last-Modified validators of their
+ * responses are stored, later calls send them as If-None-Match and If-Modified-Since, and a 304 answer is
+ * served from the stored response.
+ *
+ * Stored bodies are kept inflated and decoded again for every 304, so callers never share decoded objects.
+ * Stored responses are bounded by the total size of their bodies.
+ */
+public class ConditionalTransport implements OneOpsTransport {
+
+	/**
+	 * Route templates of the resources revalidated by default: clouds, zones, cloud services, teams, organizations
+	 * and design platforms
+	 */
+	public static final ImmutableSet<String> DEFAULT_ROUTES = ImmutableSet.of(
+			"/clouds/", "/clouds/{cloud}", "/clouds/{cloud}/zones", "/clouds/{cloud}/services",
+			"/clouds/{cloud}/services/{service}", "/organization/teams", "/organization/teams/",
+			"/organization/teams/{team}/members/", "/account/organizations/", "/account/organizations/{org}",
+			"/assemblies/{a}/design/platforms/", "/assemblies/{a}/design/platforms/{p}");
+
+	private final OneOpsTransport delegate;
+	private final ImmutableSet<String> routes;
+	private final Cache<String, Validated> validated;
+	private final RevalidationStats stats = new RevalidationStats();
+
+	/**
+	 * @param delegate transport actually sending the calls
+	 * @param routes route templates revalidated, e.g. <code>/clouds/{cloud}/zones</code>
+	 * @param maxBytes bound on the total size of the stored bodies
+	 */
+	public ConditionalTransport(OneOpsTransport delegate, Set<String> routes, long maxBytes) {
+		this.delegate = delegate;
+		this.routes = routes == null ? DEFAULT_ROUTES : ImmutableSet.copyOf(routes);
+		this.validated = CacheBuilder.newBuilder()
+				.maximumWeight(Math.max(0, maxBytes))
+				.weigher(new Weigher<String, Validated>() {
+					@Override
+					public int weigh(String key, Validated entry) {
+						return key.length() + entry.response.getBody().length();
+					}
+				})
+				.build();
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		if(!"GET".equals(request.getMethod()) || !routes.contains(RouteTemplates.of(request.getPath()))) {
+			return delegate.execute(request);
+		}
+
+		String key = request.key();
+		Validated stored = validated.getIfPresent(key);
+		TransportRequest sent = request;
+		if(stored != null && stored.etag != null) {
+			sent = sent.withHeader("If-None-Match", stored.etag);
+		}
+		if(stored != null && stored.lastModified != null) {
+			sent = sent.withHeader("If-Modified-Since", stored.lastModified);
+		}
+
+		OneOpsResponse response = delegate.execute(sent);
+		if(response.getStatusCode() == 304 && stored != null) {
+			stats.recordNotModified(stored.wireBytes);
+			return stored.response;
+		}
+		if(stored != null) {
+			stats.recordModified();
+		}
+		String etag = response.getHeader("ETag");
+		String lastModified = response.getHeader("Last-Modified");
+		if(response.getStatusCode() != 200 || response.getBody() == null || (etag == null && lastModified == null)) {
+			validated.invalidate(key);
+			return response;
+		}
+		OneOpsResponse inflated = response.withBody(response.getBody().inflated());
+		validated.put(key, new Validated(etag, lastModified, inflated, response.getBody().length()));
+		return inflated;
+	}
+
+	public RevalidationStats getStats() {
+		return stats;
+	}
+
+	@Override
+	public void close() throws IOException {
+		validated.invalidateAll();
+		delegate.close();
+	}
+
+	private static class Validated {
+
+		final String etag;
+		final String lastModified;
+		final OneOpsResponse response;
+		final int wireBytes;
+
+		Validated(String etag, String lastModified, OneOpsResponse response, int wireBytes) {
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.response = response;
+			this.wireBytes = wireBytes;
+		}
+	}
+}
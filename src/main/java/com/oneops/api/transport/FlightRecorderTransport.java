@@ -0,0 +1,40 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+
+import com.oneops.api.metrics.FlightRecorderEvents;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator emitting a {@link FlightRecorderEvents#CALL_EVENT} flight recorder event for every call, with its
+ * route template, status (0 when it failed) and payload sizes.
+ */
+public class FlightRecorderTransport implements OneOpsTransport {
+
+	private final OneOpsTransport delegate;
+
+	public FlightRecorderTransport(OneOpsTransport delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		FlightRecorderEvents.Event event = FlightRecorderEvents.beginCall();
+		int statusCode = 0;
+		long responseBytes = 0;
+		try {
+			OneOpsResponse response = delegate.execute(request);
+			statusCode = response.getStatusCode();
+			responseBytes = response.getBody() == null ? 0 : response.getBody().length();
+			return response;
+		} finally {
+			event.commitCall(request.getMethod(), RouteTemplates.of(request.getPath()), statusCode,
+					request.getBody() == null ? 0 : request.getBody().length, responseBytes);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+}
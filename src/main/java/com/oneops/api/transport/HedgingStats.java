@@ -0,0 +1,81 @@
+package com.oneops.api.transport;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the hedged GET calls of an {@link com.oneops.api.OOInstance}.
+ */
+public class HedgingStats {
+
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong hedges = new AtomicLong();
+	private final AtomicLong hedgeWins = new AtomicLong();
+	private final ConcurrentMap<String, Long> delayMillis = new ConcurrentHashMap<String, Long>();
+
+	void recordCall() {
+		calls.incrementAndGet();
+	}
+
+	void recordHedge() {
+		hedges.incrementAndGet();
+	}
+
+	void recordHedgeWin() {
+		hedgeWins.incrementAndGet();
+	}
+
+	void setDelayMillis(String route, long delayMillis) {
+		this.delayMillis.put(route, delayMillis);
+	}
+
+	/**
+	 * Number of GET calls eligible for hedging
+	 */
+	public long getCalls() {
+		return calls.get();
+	}
+
+	/**
+	 * Number of duplicate calls sent
+	 */
+	public long getHedges() {
+		return hedges.get();
+	}
+
+	/**
+	 * Number of duplicate calls answering before the original call
+	 */
+	public long getHedgeWins() {
+		return hedgeWins.get();
+	}
+
+	/**
+	 * Longest delay before a duplicate call is sent, over all routes
+	 */
+	public long getDelayMillis() {
+		long max = 0;
+		for(Long delay : delayMillis.values()) {
+			max = Math.max(max, delay);
+		}
+		return max;
+	}
+
+	/**
+	 * Current delay before a duplicate call of a route is sent
+	 *
+	 * @param route route template
+	 * @return delay, 0 while the route has too few samples to be hedged
+	 */
+	public long getDelayMillis(String route) {
+		Long delay = delayMillis.get(route);
+		return delay == null ? 0 : delay;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d calls, %d hedged, %d won by the hedge, delays of %d routes up to %d ms", getCalls(),
+				getHedges(), getHedgeWins(), delayMillis.size(), getDelayMillis());
+	}
+}
@@ -0,0 +1,267 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator hedging GET calls: when a call has not answered within the 95th percentile of the recent
+ * latencies of its route template, a duplicate call is sent and the first response wins.
+ *
+ * Duplicates are paid with a budget earning a fraction of a token per call, so they never exceed the
+ * configured share of the calls. The slower call is left to complete and its response discarded.
+ *
+ * Calls that cannot be hedged, because their route has too few samples or the budget is spent, are sent
+ * on the calling thread. Only the others are handed to the executor, so that the caller can give up
+ * waiting for them; when no thread of the executor picked such a call up by the hedge delay, the caller
+ * sends it itself instead of hedging it.
+ */
+public class HedgingTransport implements OneOpsTransport {
+
+	private static final int WINDOW = 512;
+	private static final int MIN_SAMPLES = 20;
+	private static final int REFRESH_EVERY = 16;
+	private static final double PERCENTILE = 0.95;
+	private static final double MAX_TOKENS = 10;
+
+	private final OneOpsTransport delegate;
+	private final ListeningExecutorService executor;
+	private final double budgetRatio;
+	private final long minDelayNanos;
+	private final HedgingStats stats = new HedgingStats();
+	private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<String, Route>();
+
+	private double tokens;
+
+	/**
+	 * @param delegate transport actually sending the calls
+	 * @param executor runs the duplicate calls and the calls that may be hedged, may be bounded
+	 * @param budgetPercent maximum share of the calls that may be duplicated
+	 * @param minDelayMillis minimum delay before a duplicate call is sent
+	 */
+	public HedgingTransport(OneOpsTransport delegate, ExecutorService executor, int budgetPercent, long minDelayMillis) {
+		this.delegate = delegate;
+		this.executor = MoreExecutors.listeningDecorator(executor);
+		this.budgetRatio = Math.max(0, budgetPercent) / 100.0;
+		this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minDelayMillis));
+	}
+
+	@Override
+	public OneOpsResponse execute(final TransportRequest request) throws IOException {
+		if(!"GET".equals(request.getMethod())) {
+			return delegate.execute(request);
+		}
+		stats.recordCall();
+		deposit();
+
+		Route route = route(RouteTemplates.of(request.getPath()));
+		long delay = route.delayNanos;
+		if(delay <= 0 || !affordable()) {
+			return send(route, request);
+		}
+		Primary primary = new Primary(route, request);
+		try {
+			executor.execute(primary.task);
+		} catch (RejectedExecutionException e) {
+			return send(route, request);
+		}
+		try {
+			return primary.task.get(delay, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			if(primary.claim()) {
+				return send(route, request);
+			}
+			if(withdraw()) {
+				return hedge(route, request, primary.task);
+			}
+		} catch (InterruptedException e) {
+			throw interrupted();
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+		return await(primary.task);
+	}
+
+	public HedgingStats getStats() {
+		return stats;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private OneOpsResponse hedge(final Route route, final TransportRequest request, ListenableFuture<OneOpsResponse> primary) throws IOException {
+		ListenableFuture<OneOpsResponse> hedge;
+		try {
+			hedge = executor.submit(new Callable<OneOpsResponse>() {
+				@Override
+				public OneOpsResponse call() throws IOException {
+					return send(route, request);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			return await(primary);
+		}
+		stats.recordHedge();
+		SettableFuture<OneOpsResponse> first = SettableFuture.create();
+		AtomicInteger failures = new AtomicInteger();
+		Futures.addCallback(primary, firstOf(first, primary, failures, false));
+		Futures.addCallback(hedge, firstOf(first, primary, failures, true));
+		return await(first);
+	}
+
+	/**
+	 * Completes the future with the first successful response, or with the primary failure when both fail
+	 */
+	private FutureCallback<OneOpsResponse> firstOf(final SettableFuture<OneOpsResponse> first,
+			final ListenableFuture<OneOpsResponse> primary, final AtomicInteger failures, final boolean isHedge) {
+		return new FutureCallback<OneOpsResponse>() {
+			@Override
+			public void onSuccess(OneOpsResponse response) {
+				if(first.set(response) && isHedge) {
+					stats.recordHedgeWin();
+				}
+			}
+			@Override
+			public void onFailure(Throwable t) {
+				if(failures.incrementAndGet() == 2) {
+					first.setFuture(primary);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Sends the call on the current thread and records its latency
+	 */
+	private OneOpsResponse send(Route route, TransportRequest request) throws IOException {
+		long start = System.nanoTime();
+		OneOpsResponse response = delegate.execute(request);
+		route.record(System.nanoTime() - start);
+		return response;
+	}
+
+	private Route route(String template) {
+		Route route = routes.get(template);
+		if(route == null) {
+			Route created = new Route(template);
+			route = routes.putIfAbsent(template, created);
+			if(route == null) {
+				route = created;
+			}
+		}
+		return route;
+	}
+
+	private synchronized void deposit() {
+		tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+	}
+
+	private synchronized boolean affordable() {
+		return tokens >= 1;
+	}
+
+	private synchronized boolean withdraw() {
+		if(tokens < 1) {
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+
+	private static OneOpsResponse await(ListenableFuture<OneOpsResponse> call) throws IOException {
+		try {
+			return call.get();
+		} catch (InterruptedException e) {
+			throw interrupted();
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private static InterruptedIOException interrupted() {
+		Thread.currentThread().interrupt();
+		return new InterruptedIOException("Interrupted while waiting for hedged call");
+	}
+
+	private static IOException unwrap(ExecutionException e) {
+		Throwable cause = e.getCause();
+		if(cause instanceof IOException) {
+			return (IOException) cause;
+		}
+		if(cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		return new IOException(cause.getMessage(), cause);
+	}
+
+	/**
+	 * Call handed to the executor, sent by whichever of a thread of the executor or the caller claims it first
+	 */
+	private class Primary implements Callable<OneOpsResponse> {
+
+		private final Route route;
+		private final TransportRequest request;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+		private final ListenableFutureTask<OneOpsResponse> task = ListenableFutureTask.create(this);
+
+		Primary(Route route, TransportRequest request) {
+			this.route = route;
+			this.request = request;
+		}
+
+		@Override
+		public OneOpsResponse call() throws IOException {
+			return claim() ? send(route, request) : null;
+		}
+
+		boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+	}
+
+	/**
+	 * Recent latencies of a route template and the hedge delay derived from them
+	 */
+	private class Route {
+
+		private final String template;
+		private final long[] latencies = new long[WINDOW];
+		private long samples;
+		private volatile long delayNanos;
+
+		Route(String template) {
+			this.template = template;
+		}
+
+		synchronized void record(long latency) {
+			latencies[(int) (samples++ % WINDOW)] = latency;
+			if(samples >= MIN_SAMPLES && samples % REFRESH_EVERY == 0) {
+				long[] window = Arrays.copyOf(latencies, (int) Math.min(samples, WINDOW));
+				Arrays.sort(window);
+				delayNanos = Math.max(minDelayNanos, window[(int) (PERCENTILE * (window.length - 1))]);
+				stats.setDelayMillis(template, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+			}
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Transport answering from canned responses, for tests that should not reach a OneOps server.
+ *
+ * Responses are matched on method and path (query string excluded); unmatched calls get a 404.
+ * Every executed request is recorded and can be inspected with {@link #getRequests()}.
+ */
+public class InMemoryTransport implements OneOpsTransport {
+
+	private final Map<String, OneOpsResponse> responses = new ConcurrentHashMap<String, OneOpsResponse>();
+	private final List<TransportRequest> requests = new CopyOnWriteArrayList<TransportRequest>();
+	private volatile long latencyNanos;
+
+	public InMemoryTransport respond(String method, String path, int statusCode, String json) {
+		return respond(method, path, new OneOpsResponse(statusCode, "HTTP/1.1 " + statusCode,
+				ImmutableMap.<String, List<String>>of("Content-Type", ImmutableList.of("application/json")),
+				new ResponseBody(json.getBytes(Charsets.UTF_8), Charsets.UTF_8)));
+	}
+
+	public InMemoryTransport respond(String method, String path, OneOpsResponse response) {
+		responses.put(key(method, path), response);
+		return this;
+	}
+
+	/**
+	 * Simulates the server latency: every call blocks for the given duration before it is answered
+	 */
+	public InMemoryTransport latency(long duration, TimeUnit unit) {
+		this.latencyNanos = unit.toNanos(duration);
+		return this;
+	}
+
+	public List<TransportRequest> getRequests() {
+		return ImmutableList.copyOf(requests);
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		requests.add(request);
+		if(latencyNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(latencyNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while simulating latency");
+			}
+		}
+		OneOpsResponse response = responses.get(key(request.getMethod(), request.getPath()));
+		if(response == null) {
+			response = new OneOpsResponse(404, "HTTP/1.1 404 Not Found", null, new ResponseBody(null, null));
+		}
+		return response;
+	}
+
+	@Override
+	public void close() {
+	}
+
+	private static String key(String method, String path) {
+		return method + " " + path;
+	}
+}
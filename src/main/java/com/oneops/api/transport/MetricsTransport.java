@@ -0,0 +1,55 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+
+import com.oneops.api.metrics.CallMetrics;
+import com.oneops.api.metrics.MetricsRegistry;
+import com.oneops.api.metrics.RouteTemplates;
+
+/**
+ * Decorator recording the latency, payload sizes and status of every call in a {@link MetricsRegistry},
+ * keyed by method and route template.
+ *
+ * It sits below the response cache, so responses served from the cache are not recorded as calls, their hits
+ * being counted in the {@link ResponseCacheStats}; revalidated and coalesced calls are recorded.
+ */
+public class MetricsTransport implements OneOpsTransport {
+
+	private final OneOpsTransport delegate;
+	private final MetricsRegistry registry;
+
+	public MetricsTransport(OneOpsTransport delegate, MetricsRegistry registry) {
+		this.delegate = delegate;
+		this.registry = registry;
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		long start = System.nanoTime();
+		String route = RouteTemplates.of(request.getPath());
+		long requestBytes = request.getBody() == null ? 0 : request.getBody().length;
+		OneOpsResponse response;
+		try {
+			response = delegate.execute(request);
+		} catch (IOException e) {
+			registry.record(new CallMetrics(request.getMethod(), route, 0, requestBytes, 0, System.nanoTime() - start, e));
+			throw e;
+		} catch (RuntimeException e) {
+			registry.record(new CallMetrics(request.getMethod(), route, 0, requestBytes, 0, System.nanoTime() - start, e));
+			throw e;
+		}
+		long responseBytes = response.getBody() == null ? 0 : response.getBody().length();
+		registry.record(new CallMetrics(request.getMethod(), route, response.getStatusCode(), requestBytes, responseBytes,
+				System.nanoTime() - start, null));
+		return response;
+	}
+
+	public MetricsRegistry getRegistry() {
+		return registry;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+}
@@ -0,0 +1,122 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+import com.oneops.api.exception.OneOpsClientAPIException;
+
+/**
+ * Mutable request specification handed out by {@link com.oneops.api.APIClient#createRequest()}.
+ *
+ * Mirrors the subset of the RestAssured specification the resource clients rely on: headers and query
+ * parameters stick to the specification, so a single instance can be used for several calls.
+ */
+public class OneOpsRequest {
+
+	private final OneOpsTransport transport;
+	private final String baseUri;
+	private final Map<String, String> headers = new LinkedHashMap<String, String>();
+	private final ListMultimap<String, String> queryParams = ArrayListMultimap.create();
+	private byte[] body;
+	private boolean retrySafe;
+	private Map<String, Object> readerAttributes = ImmutableMap.of();
+
+	public OneOpsRequest(OneOpsTransport transport, String baseUri) {
+		this.transport = transport;
+		this.baseUri = baseUri;
+	}
+
+	public OneOpsRequest header(String name, String value) {
+		headers.put(name, value);
+		return this;
+	}
+
+	/**
+	 * Adds a query parameter; collection values are expanded into repeated parameters
+	 */
+	public OneOpsRequest queryParam(String name, Object... values) {
+		for(Object value : values) {
+			if(value instanceof Collection) {
+				for(Object item : (Collection<?>) value) {
+					queryParams.put(name, String.valueOf(item));
+				}
+			} else {
+				queryParams.put(name, String.valueOf(value));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Same as {@link #queryParam(String, Object...)}, kept for the GET/PUT parameter semantics of RestAssured
+	 */
+	public OneOpsRequest parameter(String name, Object... values) {
+		return queryParam(name, values);
+	}
+
+	public OneOpsRequest body(String body) {
+		this.body = body == null ? null : body.getBytes(Charsets.UTF_8);
+		return this;
+	}
+
+	/**
+	 * Sets an already encoded UTF-8 body, e.g. written by {@link com.oneops.api.util.JsonBody}
+	 */
+	public OneOpsRequest body(byte[] body) {
+		this.body = body;
+		return this;
+	}
+
+	/**
+	 * Marks the calls of this specification safe to send again after a failure, even when their http
+	 * method is not idempotent
+	 */
+	public OneOpsRequest retrySafe() {
+		this.retrySafe = true;
+		return this;
+	}
+
+	/**
+	 * Jackson reader attributes applied when the response bodies are decoded
+	 */
+	OneOpsRequest readerAttributes(Map<String, Object> readerAttributes) {
+		this.readerAttributes = readerAttributes;
+		return this;
+	}
+
+	public OneOpsResponse get(String path) throws OneOpsClientAPIException {
+		return send("GET", path);
+	}
+
+	public OneOpsResponse post(String path) throws OneOpsClientAPIException {
+		return send("POST", path);
+	}
+
+	public OneOpsResponse put(String path) throws OneOpsClientAPIException {
+		return send("PUT", path);
+	}
+
+	public OneOpsResponse delete(String path) throws OneOpsClientAPIException {
+		return send("DELETE", path);
+	}
+
+	private OneOpsResponse send(String method, String path) throws OneOpsClientAPIException {
+		TransportRequest request = new TransportRequest(method, baseUri, path, queryParams, headers, body, retrySafe);
+		try {
+			OneOpsResponse response = transport.execute(request);
+			if(response == null || response.getBody() == null) {
+				return response;
+			}
+			return response.withBody(response.getBody().withReaderAttributes(readerAttributes));
+		} catch (IOException e) {
+			String msg = String.format("Failed to execute %s due to %s", request, e.getMessage());
+			throw new OneOpsClientAPIException(msg, e);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.oneops.api.transport;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Status, headers and body of a completed OneOps API call
+ */
+public class OneOpsResponse {
+
+	private final int statusCode;
+	private final String statusLine;
+	private final ImmutableMap<String, List<String>> headers;
+	private final ResponseBody body;
+
+	public OneOpsResponse(int statusCode, String statusLine, Map<String, List<String>> headers, ResponseBody body) {
+		this.statusCode = statusCode;
+		this.statusLine = statusLine;
+		this.headers = headers == null ? ImmutableMap.<String, List<String>>of() : ImmutableMap.copyOf(headers);
+		this.body = body;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public String getStatusLine() {
+		return statusLine;
+	}
+
+	public ImmutableMap<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * First value of the given header, matched case-insensitively
+	 */
+	public String getHeader(String name) {
+		for(Entry<String, List<String>> entry : headers.entrySet()) {
+			if(entry.getKey() != null && entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+				return entry.getValue().get(0);
+			}
+		}
+		return null;
+	}
+
+	public ResponseBody getBody() {
+		return body;
+	}
+
+	OneOpsResponse withBody(ResponseBody body) {
+		return body == this.body ? this : new OneOpsResponse(statusCode, statusLine, headers, body);
+	}
+}
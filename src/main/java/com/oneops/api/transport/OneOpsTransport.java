@@ -0,0 +1,17 @@
+package com.oneops.api.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Wire-level SPI used by every resource client to talk to the OneOps API.
+ *
+ * Implementations must be thread-safe: a single transport is shared by all clients of an
+ * {@link com.oneops.api.OOInstance}. Non-2xx responses are returned, not thrown; an
+ * {@link IOException} means the call never produced a response.
+ */
+public interface OneOpsTransport extends Closeable {
+
+	OneOpsResponse execute(TransportRequest request) throws IOException;
+
+}
@@ -0,0 +1,164 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Decorator retrying failed calls as described by a {@link RetryPolicy}, behind a {@link CircuitBreaker}
+ * shared by every instance talking to the same endpoint.
+ *
+ * I/O failures and retryable statuses other than 429 count as endpoint failures; while the circuit is
+ * open calls fail fast with a {@link CircuitOpenException}. Every attempt settles the breaker, whatever it
+ * throws, so a probe never leaves the circuit half open. Calls that are not safe to repeat are sent
+ * once, their failure still counting for the circuit.
+ */
+public class ResilienceTransport implements OneOpsTransport {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ResilienceTransport.class);
+
+	private static final Cache<String, CircuitBreaker> BREAKERS = CacheBuilder.newBuilder()
+			.weakValues()
+			.build();
+
+	private final OneOpsTransport delegate;
+	private final CircuitBreaker breaker;
+	private final int maxAttempts;
+	private final long initialBackoffMillis;
+	private final long maxBackoffMillis;
+	private final ImmutableSet<Integer> retryableStatusCodes;
+	private final List<Pattern> safePaths;
+
+	public ResilienceTransport(OneOpsTransport delegate, final String endpoint, final RetryPolicy policy) {
+		this.delegate = delegate;
+		this.maxAttempts = Math.max(1, policy.getMaxAttempts());
+		this.initialBackoffMillis = Math.max(1, policy.getInitialBackoffMillis());
+		this.maxBackoffMillis = Math.max(initialBackoffMillis, policy.getMaxBackoffMillis());
+		this.retryableStatusCodes = policy.retryableStatusCodeSet();
+		this.safePaths = policy.safePathPatterns();
+		try {
+			breaker = BREAKERS.get(endpoint, new Callable<CircuitBreaker>() {
+				@Override
+				public CircuitBreaker call() {
+					return new CircuitBreaker(endpoint, policy.getCircuitFailureThreshold(), policy.getCircuitOpenMillis());
+				}
+			});
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		int attempts = isRetrySafe(request) ? maxAttempts : 1;
+		for(int attempt = 1; ; attempt++) {
+			if(!breaker.allowRequest()) {
+				throw new CircuitOpenException(String.format("Circuit open for %s, not sending %s", breaker.getName(), request));
+			}
+
+			OneOpsResponse response = null;
+			IOException failure = null;
+			boolean settled = false;
+			try {
+				try {
+					response = delegate.execute(request);
+				} catch (IOException e) {
+					if(e instanceof CircuitOpenException
+							|| (e instanceof InterruptedIOException && !(e instanceof SocketTimeoutException))) {
+						throw e;
+					}
+					failure = e;
+					breaker.onFailure();
+					settled = true;
+				}
+				if(response != null && !retryableStatusCodes.contains(response.getStatusCode())) {
+					breaker.onSuccess();
+					settled = true;
+					return response;
+				}
+				if(response != null && response.getStatusCode() != 429) {
+					breaker.onFailure();
+					settled = true;
+				}
+			} finally {
+				if(!settled) {
+					//interrupted, throttled or failed unexpectedly: a probe must not leave the circuit half open
+					breaker.onIgnore();
+				}
+			}
+
+			if(failure != null) {
+				if(attempt >= attempts) {
+					throw failure;
+				}
+				LOG.debug("Retrying {} after attempt {} failed with {}", request, attempt, failure.toString());
+				backoff(attempt, null);
+				continue;
+			}
+			if(attempt >= attempts) {
+				return response;
+			}
+			LOG.debug("Retrying {} after attempt {} got {}", request, attempt, response.getStatusLine());
+			backoff(attempt, response.getHeader("Retry-After"));
+		}
+	}
+
+	/**
+	 * Circuit breaker of the endpoint of this transport
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return breaker;
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	private boolean isRetrySafe(TransportRequest request) {
+		if(request.isRetrySafe()) {
+			return true;
+		}
+		for(Pattern path : safePaths) {
+			if(path.matcher(request.getPath()).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Sleeps a random time up to the exponential backoff of the attempt (full jitter), or as long as the
+	 * server asked through Retry-After, within the maximum backoff
+	 */
+	private void backoff(int attempt, String retryAfter) throws InterruptedIOException {
+		long ceiling = initialBackoffMillis << Math.min(attempt - 1, 30);
+		long delay = ThreadLocalRandom.current().nextLong(Math.min(maxBackoffMillis, Math.max(1, ceiling)) + 1);
+		if(retryAfter != null) {
+			try {
+				delay = Math.max(delay, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+			} catch (NumberFormatException e) {
+				LOG.debug("Ignoring Retry-After {}", retryAfter);
+			}
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(Math.min(delay, maxBackoffMillis));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while backing off before retrying");
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.oneops.api.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.jayway.restassured.path.json.JsonPath;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.util.JsonUtil;
+import com.oneops.api.util.ParallelArrayDecoder;
+
+/**
+ * Buffered payload of an {@link OneOpsResponse}.
+ *
+ * Gzip encoded payloads are kept compressed as received and inflated on the fly while they are read,
+ * so typed decoding streams straight from the compressed bytes into the object mapper. Every decode returns
+ * new objects, even for bodies reused across calls when the server revalidates them.
+ */
+public class ResponseBody {
+
+	private final byte[] content;
+	private final Charset charset;
+	private final boolean gzipped;
+	private final ImmutableMap<String, Object> readerAttributes;
+
+	public ResponseBody(byte[] content, Charset charset) {
+		this(content, charset, false);
+	}
+
+	public ResponseBody(byte[] content, Charset charset, boolean gzipped) {
+		this(content, charset, gzipped, ImmutableMap.<String, Object>of());
+	}
+
+	private ResponseBody(byte[] content, Charset charset, boolean gzipped, ImmutableMap<String, Object> readerAttributes) {
+		this.content = content == null ? new byte[0] : content;
+		this.charset = charset == null ? Charsets.UTF_8 : charset;
+		this.gzipped = gzipped && this.content.length > 0;
+		this.readerAttributes = readerAttributes;
+	}
+
+	/**
+	 * Creates a body whose charset is taken from the given Content-Type header, defaulting to UTF-8
+	 */
+	public static ResponseBody of(byte[] content, String contentType) {
+		Charset charset = null;
+		if(contentType != null) {
+			for(String part : contentType.split(";")) {
+				part = part.trim();
+				if(part.regionMatches(true, 0, "charset=", 0, 8)) {
+					try {
+						charset = Charset.forName(part.substring(8).replace("\"", "").trim());
+					} catch (IllegalArgumentException e) {
+						charset = null;
+					}
+				}
+			}
+		}
+		return new ResponseBody(content, charset);
+	}
+
+	/**
+	 * Same content marked as gzip encoded, unless it was already inflated by the underlying http client
+	 */
+	ResponseBody gzipped() {
+		boolean magic = content.length > 2 && content[0] == (byte) 0x1f && content[1] == (byte) 0x8b;
+		return magic ? new ResponseBody(content, charset, true, readerAttributes) : this;
+	}
+
+	/**
+	 * Same content inflated once, for bodies kept to be decoded again by later calls
+	 */
+	ResponseBody inflated() {
+		return gzipped ? new ResponseBody(asByteArray(), charset, false, readerAttributes) : this;
+	}
+
+	/**
+	 * Same content decoded by {@link #as(Class)} with the given Jackson reader attributes
+	 */
+	ResponseBody withReaderAttributes(Map<String, Object> attributes) {
+		return attributes.isEmpty() ? this : new ResponseBody(content, charset, gzipped, ImmutableMap.copyOf(attributes));
+	}
+
+	public boolean isGzipped() {
+		return gzipped;
+	}
+
+	/**
+	 * Decoded content
+	 */
+	public byte[] asByteArray() {
+		if(!gzipped) {
+			return content;
+		}
+		try {
+			return ByteStreams.toByteArray(asInputStream());
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to inflate gzip response", e);
+		}
+	}
+
+	/**
+	 * Decoded content as a stream, inflated while it is read
+	 */
+	public InputStream asInputStream() throws IOException {
+		InputStream in = new ByteArrayInputStream(content);
+		return gzipped ? new GZIPInputStream(in, 8192) : in;
+	}
+
+	public String asString() {
+		return new String(asByteArray(), charset);
+	}
+
+	public JsonPath jsonPath() {
+		return new JsonPath(asString());
+	}
+
+	public <T> T as(Class<T> type) throws OneOpsClientAPIException {
+		return decode(type, JsonUtil.reader(type, readerAttributes), type.getSimpleName());
+	}
+
+	/**
+	 * Decodes the content, mapping the elements of large arrays in parallel when a {@link ParallelArrayDecoder}
+	 * is set in the reader attributes
+	 */
+	public <T> T as(TypeReference<T> type) throws OneOpsClientAPIException {
+		return decode(type.getType(), JsonUtil.reader(type, readerAttributes), String.valueOf(type.getType()));
+	}
+
+	private <T> T decode(Type type, ObjectReader reader, String name) throws OneOpsClientAPIException {
+		T value;
+		try {
+			ParallelArrayDecoder parallel = (ParallelArrayDecoder) readerAttributes.get(ParallelArrayDecoder.ATTRIBUTE);
+			if(parallel != null && parallel.accepts(JsonUtil.mapper().getTypeFactory().constructType(type), decodedLength())) {
+				value = parallel.decode(reader, asByteArray());
+			} else {
+				value = reader.readValue(asInputStream());
+			}
+		} catch (IOException e) {
+			String msg = String.format("Failed to decode response as %s", name);
+			throw new OneOpsClientAPIException(msg, e);
+		}
+		return value;
+	}
+
+	/**
+	 * Number of bytes received on the wire
+	 */
+	public int length() {
+		return content.length;
+	}
+
+	/**
+	 * Number of bytes once decoded, read from the gzip trailer for compressed payloads
+	 */
+	public long decodedLength() {
+		if(!gzipped || content.length < 4) {
+			return content.length;
+		}
+		int n = content.length;
+		return ((content[n - 1] & 0xffL) << 24) | ((content[n - 2] & 0xffL) << 16)
+				| ((content[n - 3] & 0xffL) << 8) | (content[n - 4] & 0xffL);
+	}
+}
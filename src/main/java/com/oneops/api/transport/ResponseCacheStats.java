@@ -0,0 +1,64 @@
+package com.oneops.api.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the client side response cache of an instance
+ */
+public class ResponseCacheStats {
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	void recordHit() {
+		hits.incrementAndGet();
+	}
+
+	void recordMiss() {
+		misses.incrementAndGet();
+	}
+
+	void recordEviction() {
+		evictions.incrementAndGet();
+	}
+
+	void recordInvalidations(int count) {
+		invalidations.addAndGet(count);
+	}
+
+	/**
+	 * Number of GET calls answered from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of GET calls sent to the server, cacheable or not
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of responses dropped to stay within the size bound
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Number of responses dropped because a write was sent under their namespace
+	 */
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d hits, %d misses, %d evictions, %d invalidations", getHits(), getMisses(),
+				getEvictions(), getInvalidations());
+	}
+}
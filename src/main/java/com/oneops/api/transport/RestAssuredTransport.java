@@ -0,0 +1,165 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.config.DecoderConfig;
+import com.jayway.restassured.config.HttpClientConfig;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.response.Header;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.RequestSpecification;
+import com.oneops.api.OOInstance;
+
+/**
+ * RestAssured backed transport. This is the default transport of an {@link OOInstance}.
+ *
+ * Keeps a keep-alive connection pool bounded per route, evicts idle connections in the background and
+ * reuses a single SSL context so TLS sessions are resumed instead of renegotiated on every call.
+ */
+@SuppressWarnings("deprecation")
+public class RestAssuredTransport implements OneOpsTransport {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RestAssuredTransport.class);
+
+	private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(
+			new ThreadFactoryBuilder().setNameFormat("oneops-connection-evictor").setDaemon(true).build());
+
+	private final PoolingClientConnectionManager connectionManager;
+	private final RestAssuredConfig config;
+	private final ScheduledFuture<?> evictionTask;
+
+	public RestAssuredTransport(OOInstance instance) {
+		SchemeRegistry schemeRegistry = new SchemeRegistry();
+		schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+		schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(createSslContext(),
+				SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)));
+
+		connectionManager = new PoolingClientConnectionManager(schemeRegistry);
+		connectionManager.setDefaultMaxPerRoute(instance.getMaxConnectionsPerRoute());
+		connectionManager.setMaxTotal(Math.max(instance.getMaxConnectionsTotal(), instance.getMaxConnectionsPerRoute()));
+
+		final DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+		//gzip payloads are handed over compressed, to be inflated while they are decoded
+		config = RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders())
+				.httpClient(HttpClientConfig.httpClientConfig()
+				.reuseHttpClientInstance()
+				.httpClientFactory(new HttpClientConfig.HttpClientFactory() {
+					@Override
+					public HttpClient createHttpClient() {
+						return httpClient;
+					}
+				}));
+
+		final int idleTimeout = instance.getIdleConnectionTimeout();
+		evictionTask = EVICTOR.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				connectionManager.closeExpiredConnections();
+				connectionManager.closeIdleConnections(idleTimeout, TimeUnit.SECONDS);
+			}
+		}, idleTimeout, idleTimeout, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		RequestSpecification rs = RestAssured.given().config(config);
+		if(request.getBaseUri() != null) {
+			rs.baseUri(request.getBaseUri());
+		}
+		for(Entry<String, String> header : request.getHeaders().entrySet()) {
+			rs.header(header.getKey(), header.getValue());
+		}
+		for(Entry<String, String> param : request.getQueryParams().entries()) {
+			rs.queryParam(param.getKey(), param.getValue());
+		}
+		if(request.getBody() != null && !"GET".equals(request.getMethod())) {
+			rs.body(request.getBody());
+		}
+
+		Response response;
+		try {
+			String method = request.getMethod();
+			if("GET".equals(method)) {
+				response = rs.get(request.getPath());
+			} else if("POST".equals(method)) {
+				response = rs.post(request.getPath());
+			} else if("PUT".equals(method)) {
+				response = rs.put(request.getPath());
+			} else if("DELETE".equals(method)) {
+				response = rs.delete(request.getPath());
+			} else {
+				throw new IOException("Unsupported http method " + method);
+			}
+		} catch (RuntimeException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+
+		Map<String, List<String>> headers = Maps.newLinkedHashMap();
+		for(Header header : response.getHeaders()) {
+			List<String> values = headers.get(header.getName());
+			if(values == null) {
+				values = Lists.newArrayList();
+				headers.put(header.getName(), values);
+			}
+			values.add(header.getValue());
+		}
+		return new OneOpsResponse(response.getStatusCode(), response.getStatusLine(), headers,
+				ResponseBody.of(response.asByteArray(), response.getContentType()));
+	}
+
+	@Override
+	public void close() {
+		evictionTask.cancel(false);
+		connectionManager.shutdown();
+	}
+
+	static SSLContext createSslContext() {
+		TrustManager trustAll = new X509TrustManager() {
+			@Override
+			public void checkClientTrusted(X509Certificate[] chain, String authType) {
+			}
+			@Override
+			public void checkServerTrusted(X509Certificate[] chain, String authType) {
+			}
+			@Override
+			public X509Certificate[] getAcceptedIssuers() {
+				return new X509Certificate[0];
+			}
+		};
+		try {
+			SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(null, new TrustManager[] { trustAll }, null);
+			return sslContext;
+		} catch (GeneralSecurityException e) {
+			LOG.error("Failed to initialize SSL context", e);
+			throw new IllegalStateException(e);
+		}
+	}
+}
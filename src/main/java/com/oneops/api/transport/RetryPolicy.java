@@ -0,0 +1,108 @@
+package com.oneops.api.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+
+/**
+ * Retry and circuit breaker settings of an {@link com.oneops.api.OOInstance}.
+ *
+ * Idempotent calls (GET, PUT, DELETE) failing with an I/O error or a retryable status are sent again after
+ * an exponential backoff with full jitter. Other calls are only retried when their path matches one of
+ * the safe paths, or when the resource client marked them safe.
+ */
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RetryPolicy {
+
+	private int maxAttempts = 3;
+	private long initialBackoffMillis = 200;
+	private long maxBackoffMillis = 10000;
+	private List<Integer> retryableStatusCodes = Lists.newArrayList(429, 502, 503, 504);
+	private List<String> safePaths = new ArrayList<String>();
+	private int circuitFailureThreshold = 5;
+	private long circuitOpenMillis = 30000;
+
+	/**
+	 * Total number of attempts of a call, including the first one
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+	public void setMaxAttempts(int maxAttempts) {
+		this.maxAttempts = maxAttempts;
+	}
+	public long getInitialBackoffMillis() {
+		return initialBackoffMillis;
+	}
+	public void setInitialBackoffMillis(long initialBackoffMillis) {
+		this.initialBackoffMillis = initialBackoffMillis;
+	}
+	public long getMaxBackoffMillis() {
+		return maxBackoffMillis;
+	}
+	public void setMaxBackoffMillis(long maxBackoffMillis) {
+		this.maxBackoffMillis = maxBackoffMillis;
+	}
+	public List<Integer> getRetryableStatusCodes() {
+		return retryableStatusCodes;
+	}
+	public void setRetryableStatusCodes(List<Integer> retryableStatusCodes) {
+		this.retryableStatusCodes = retryableStatusCodes;
+	}
+	/**
+	 * Regular expressions of the paths whose non idempotent calls (e.g. POST) are safe to retry
+	 */
+	public List<String> getSafePaths() {
+		return safePaths;
+	}
+	public void setSafePaths(List<String> safePaths) {
+		this.safePaths = safePaths;
+	}
+	/**
+	 * Consecutive failures opening the circuit of an endpoint, 0 to never open it
+	 */
+	public int getCircuitFailureThreshold() {
+		return circuitFailureThreshold;
+	}
+	public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+		this.circuitFailureThreshold = circuitFailureThreshold;
+	}
+	/**
+	 * Time calls fail fast once the circuit opened, before a single probe call is let through
+	 */
+	public long getCircuitOpenMillis() {
+		return circuitOpenMillis;
+	}
+	public void setCircuitOpenMillis(long circuitOpenMillis) {
+		this.circuitOpenMillis = circuitOpenMillis;
+	}
+
+	/**
+	 * Adds a regular expression of paths whose non idempotent calls are safe to retry
+	 *
+	 * @param pathPattern
+	 * @return
+	 */
+	public RetryPolicy markSafe(String pathPattern) {
+		safePaths.add(pathPattern);
+		return this;
+	}
+
+	ImmutableSet<Integer> retryableStatusCodeSet() {
+		return retryableStatusCodes == null ? ImmutableSet.<Integer>of() : ImmutableSet.copyOf(retryableStatusCodes);
+	}
+
+	List<Pattern> safePathPatterns() {
+		List<Pattern> patterns = Lists.newArrayList();
+		if(safePaths != null) {
+			for(String path : safePaths) {
+				patterns.add(Pattern.compile(path));
+			}
+		}
+		return patterns;
+	}
+}
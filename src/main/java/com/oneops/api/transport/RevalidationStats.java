@@ -0,0 +1,48 @@
+package com.oneops.api.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the conditional GET calls of an instance
+ */
+public class RevalidationStats {
+
+	private final AtomicLong notModified = new AtomicLong();
+	private final AtomicLong modified = new AtomicLong();
+	private final AtomicLong bytesSaved = new AtomicLong();
+
+	void recordNotModified(long bytes) {
+		notModified.incrementAndGet();
+		bytesSaved.addAndGet(bytes);
+	}
+
+	void recordModified() {
+		modified.incrementAndGet();
+	}
+
+	/**
+	 * Number of conditional calls answered 304, served from the stored response
+	 */
+	public long getNotModified() {
+		return notModified.get();
+	}
+
+	/**
+	 * Number of conditional calls answered with a new representation
+	 */
+	public long getModified() {
+		return modified.get();
+	}
+
+	/**
+	 * Response bytes not transferred thanks to 304 answers
+	 */
+	public long getBytesSaved() {
+		return bytesSaved.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d not modified, %d modified, %d bytes saved", getNotModified(), getModified(), getBytesSaved());
+	}
+}
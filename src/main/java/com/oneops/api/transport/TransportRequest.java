@@ -0,0 +1,180 @@
+package com.oneops.api.transport;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * Immutable description of a single HTTP call handed to an {@link OneOpsTransport}
+ */
+public class TransportRequest {
+
+	private final String method;
+	private final String baseUri;
+	private final String path;
+	private final ImmutableListMultimap<String, String> queryParams;
+	private final ImmutableMap<String, String> headers;
+	private final byte[] body;
+	private final boolean retrySafe;
+
+	public TransportRequest(String method, String baseUri, String path, ListMultimap<String, String> queryParams,
+			Map<String, String> headers, byte[] body) {
+		this(method, baseUri, path, queryParams, headers, body, false);
+	}
+
+	/**
+	 * @param retrySafe whether a non idempotent call may be sent again when it failed
+	 */
+	public TransportRequest(String method, String baseUri, String path, ListMultimap<String, String> queryParams,
+			Map<String, String> headers, byte[] body, boolean retrySafe) {
+		this.method = method;
+		this.baseUri = baseUri;
+		this.path = path;
+		this.queryParams = ImmutableListMultimap.copyOf(queryParams);
+		this.headers = ImmutableMap.copyOf(headers);
+		this.body = body;
+		this.retrySafe = retrySafe;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public String getBaseUri() {
+		return baseUri;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public ImmutableListMultimap<String, String> getQueryParams() {
+		return queryParams;
+	}
+
+	public ImmutableMap<String, String> getHeaders() {
+		return headers;
+	}
+
+	public String getHeader(String name) {
+		for(Entry<String, String> entry : headers.entrySet()) {
+			if(entry.getKey().equalsIgnoreCase(name)) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	/**
+	 * Whether the call may be sent again after a failure: idempotent methods always, others only when
+	 * marked safe by the caller
+	 */
+	public boolean isRetrySafe() {
+		return retrySafe || isIdempotent();
+	}
+
+	/**
+	 * Whether the http method is idempotent, so repeating the call has the same effect as sending it once
+	 */
+	public boolean isIdempotent() {
+		return "GET".equals(method) || "PUT".equals(method) || "DELETE".equals(method);
+	}
+
+	/**
+	 * Copy of this request with the given header added or replaced
+	 */
+	public TransportRequest withHeader(String name, String value) {
+		Map<String, String> copy = new LinkedHashMap<String, String>();
+		for(Entry<String, String> entry : headers.entrySet()) {
+			if(!entry.getKey().equalsIgnoreCase(name)) {
+				copy.put(entry.getKey(), entry.getValue());
+			}
+		}
+		copy.put(name, value);
+		return new TransportRequest(method, baseUri, path, queryParams, copy, body, retrySafe);
+	}
+
+	/**
+	 * Copy of this request with the given body
+	 */
+	public TransportRequest withBody(byte[] body) {
+		return new TransportRequest(method, baseUri, path, queryParams, headers, body, retrySafe);
+	}
+
+	/**
+	 * Copy of this request marked safe to send again after a failure
+	 */
+	public TransportRequest withRetrySafe() {
+		return new TransportRequest(method, baseUri, path, queryParams, headers, body, true);
+	}
+
+	/**
+	 * Path plus encoded query string, relative to the base uri
+	 */
+	public String getPathAndQuery() {
+		if(queryParams.isEmpty()) {
+			return path;
+		}
+		StringBuilder sb = new StringBuilder(path);
+		char separator = path.indexOf('?') < 0 ? '?' : '&';
+		for(Entry<String, String> entry : queryParams.entries()) {
+			sb.append(separator).append(encode(entry.getKey())).append('=').append(encode(entry.getValue()));
+			separator = '&';
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Fully qualified request url
+	 */
+	public String getUrl() {
+		String pathAndQuery = getPathAndQuery();
+		if(baseUri == null || pathAndQuery.startsWith("http://") || pathAndQuery.startsWith("https://")) {
+			return pathAndQuery;
+		}
+		if(baseUri.endsWith("/") && pathAndQuery.startsWith("/")) {
+			return baseUri + pathAndQuery.substring(1);
+		}
+		if(!baseUri.endsWith("/") && !pathAndQuery.startsWith("/")) {
+			return baseUri + "/" + pathAndQuery;
+		}
+		return baseUri + pathAndQuery;
+	}
+
+	/**
+	 * Identity of the call for sharing its response: url, query and headers
+	 */
+	String key() {
+		StringBuilder key = new StringBuilder(getUrl()).append('?');
+		for(Entry<String, String> param : queryParams.entries()) {
+			key.append(param.getKey()).append('=').append(param.getValue()).append('&');
+		}
+		for(Entry<String, String> header : headers.entrySet()) {
+			key.append('\n').append(header.getKey()).append(':').append(header.getValue());
+		}
+		return key.toString();
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + getPathAndQuery();
+	}
+
+	private static String encode(String value) {
+		try {
+			return URLEncoder.encode(value, "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
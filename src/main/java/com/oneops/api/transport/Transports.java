@@ -0,0 +1,377 @@
+package com.oneops.api.transport;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.codec.binary.Base64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.OOInstance;
+import com.oneops.api.async.Executions;
+import com.oneops.api.metrics.MetricsRegistry;
+import com.oneops.api.resource.model.LazyAttributes;
+import com.oneops.api.resource.model.SharedAttributes;
+import com.oneops.api.util.ParallelArrayDecoder;
+import com.oneops.api.util.StringInterner;
+
+/**
+ * Registry of the transports shared by all resource clients of an {@link OOInstance}.
+ *
+ * Transports are created on first use and keyed weakly by instance, so the pooled connections are
+ * released once the instance is no longer referenced (or explicitly through {@link #release(OOInstance)}).
+ * The decorators of a transport are built from the settings of the instance, and built again on the next call
+ * after any of these settings changed; the pooled connections and the metrics registry are kept across rebuilds
+ * unless the connection settings themselves changed.
+ */
+public final class Transports {
+
+	private static final Logger LOG = LoggerFactory.getLogger(Transports.class);
+
+	private static final LoadingCache<OOInstance, Binding> BINDINGS = CacheBuilder.newBuilder()
+			.weakKeys()
+			.removalListener(new RemovalListener<OOInstance, Binding>() {
+				@Override
+				public void onRemoval(RemovalNotification<OOInstance, Binding> notification) {
+					notification.getValue().close();
+				}
+			})
+			.build(new CacheLoader<OOInstance, Binding>() {
+				@Override
+				public Binding load(OOInstance instance) {
+					return new Binding(instance, null);
+				}
+			});
+
+	private static final LoadingCache<String, String> AUTH_HEADERS = CacheBuilder.newBuilder()
+			.maximumSize(64)
+			.build(new CacheLoader<String, String>() {
+				@Override
+				public String load(String token) {
+					return "Basic " + new String(Base64.encodeBase64(token.getBytes()));
+				}
+			});
+
+	private Transports() {
+	}
+
+	/**
+	 * Returns the transport shared by all clients of the given instance, creating it on first use
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static OneOpsTransport forInstance(OOInstance instance) {
+		return binding(instance).transport;
+	}
+
+	private static Binding binding(OOInstance instance) {
+		Binding binding = BINDINGS.getUnchecked(instance);
+		if(binding.isCurrent(instance)) {
+			return binding;
+		}
+		synchronized (BINDINGS) {
+			binding = BINDINGS.getUnchecked(instance);
+			if(!binding.isCurrent(instance)) {
+				Binding previous = binding;
+				previous.handOver(instance);
+				BINDINGS.invalidate(instance);
+				binding = new Binding(instance, previous);
+				BINDINGS.put(instance, binding);
+			}
+			return binding;
+		}
+	}
+
+	/**
+	 * Creates a request specification with the default OneOps headers, bound to the instance transport
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static OneOpsRequest createRequest(OOInstance instance) {
+		String baseUri = instance.getEndpoint();
+		if(instance.getOrgname() != null) {
+			baseUri += instance.getOrgname();
+		}
+		Binding binding = binding(instance);
+		OneOpsRequest request = new OneOpsRequest(binding.transport, baseUri);
+		request.readerAttributes(binding.readerAttributes);
+		request.header("Authorization", AUTH_HEADERS.getUnchecked(instance.getAuthtoken()));
+		request.header("User-Agent", "OneOpsAPIClient");
+		request.header("Accept", "application/json");
+		request.header("Content-Type", "application/json");
+		return request;
+	}
+
+	/**
+	 * Returns the gzip byte counters of the given instance transport
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static CompressionStats getCompressionStats(OOInstance instance) {
+		return binding(instance).compression.getStats();
+	}
+
+	/**
+	 * Returns the counters of the GET calls saved by coalescing identical calls of the given instance
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static CoalescingStats getCoalescingStats(OOInstance instance) {
+		CoalescingTransport coalescing = binding(instance).coalescing;
+		return coalescing == null ? new CoalescingStats() : coalescing.getStats();
+	}
+
+	/**
+	 * Returns the counters of the response cache of the given instance, all zero when not enabled
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static ResponseCacheStats getResponseCacheStats(OOInstance instance) {
+		CachingTransport caching = binding(instance).caching;
+		return caching == null ? new ResponseCacheStats() : caching.getStats();
+	}
+
+	/**
+	 * Returns the counters of the conditional GET calls of the given instance, all zero when not enabled
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static RevalidationStats getRevalidationStats(OOInstance instance) {
+		ConditionalTransport conditional = binding(instance).conditional;
+		return conditional == null ? new RevalidationStats() : conditional.getStats();
+	}
+
+	/**
+	 * Drops the responses cached by the given instance, e.g. after changes made by other clients
+	 *
+	 * @param instance
+	 */
+	public static void invalidateResponseCache(OOInstance instance) {
+		CachingTransport caching = binding(instance).caching;
+		if(caching != null) {
+			caching.invalidateAll();
+		}
+	}
+
+	/**
+	 * Returns the adaptive concurrency limiter of the org of the given instance, null when not enabled
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static AimdLimiter getOrgConcurrencyLimiter(OOInstance instance) {
+		ConcurrencyLimitTransport limit = binding(instance).limit;
+		return limit == null ? null : limit.getOrgLimiter();
+	}
+
+	/**
+	 * Returns the adaptive concurrency limiter of the endpoint of the given instance, null when not enabled
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static AimdLimiter getEndpointConcurrencyLimiter(OOInstance instance) {
+		ConcurrencyLimitTransport limit = binding(instance).limit;
+		return limit == null ? null : limit.getEndpointLimiter();
+	}
+
+	/**
+	 * Returns the circuit breaker of the endpoint of the given instance, null when no retry policy is set
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static CircuitBreaker getCircuitBreaker(OOInstance instance) {
+		ResilienceTransport resilience = binding(instance).resilience;
+		return resilience == null ? null : resilience.getCircuitBreaker();
+	}
+
+	/**
+	 * Returns the counters of the hedged GET calls of the given instance
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static HedgingStats getHedgingStats(OOInstance instance) {
+		HedgingTransport hedging = binding(instance).hedging;
+		return hedging == null ? new HedgingStats() : hedging.getStats();
+	}
+
+	/**
+	 * Returns the per route call metrics of the given instance, an empty registry when metrics are disabled
+	 *
+	 * @param instance
+	 * @return
+	 */
+	public static MetricsRegistry getMetrics(OOInstance instance) {
+		MetricsTransport metrics = binding(instance).metrics;
+		return metrics == null ? new MetricsRegistry() : metrics.getRegistry();
+	}
+
+	/**
+	 * Closes the transport created for the given instance, if any. Transports supplied through
+	 * {@link OOInstance#setTransport(OneOpsTransport)} are left open.
+	 *
+	 * @param instance
+	 */
+	public static void release(OOInstance instance) {
+		BINDINGS.invalidate(instance);
+	}
+
+	/**
+	 * Settings of the instance the pooled connections of a transport are built from
+	 */
+	private static List<Object> connectionSettings(OOInstance instance) {
+		return Arrays.<Object>asList(instance.getTransport(), instance.getMaxConnectionsPerRoute(),
+				instance.getMaxConnectionsTotal(), instance.getIdleConnectionTimeout());
+	}
+
+	/**
+	 * Settings of the instance the decorators of a transport and the reader attributes are built from
+	 */
+	private static List<Object> settings(OOInstance instance) {
+		return Arrays.<Object>asList(instance.getEndpoint(), instance.getOrgname(), instance.isGzipEnabled(),
+				instance.getRequestCompressionThreshold(), instance.isConcurrencyLimitEnabled(), instance.getInitialConcurrencyLimit(),
+				instance.getMaxConcurrencyLimit(), instance.getRetryPolicy(), instance.isHedgingEnabled(),
+				instance.getHedgingBudgetPercent(), instance.getHedgingMinDelayMillis(), instance.getExecutionMode(),
+				instance.getExecutor(), instance.isRequestCoalescingEnabled(), instance.isConditionalGetEnabled(),
+				instance.getConditionalGetRoutes(), instance.getConditionalGetMaxBytes(), instance.isResponseCacheEnabled(),
+				instance.getResponseCacheTtlMillis(), instance.getResponseCacheRouteTtlMillis(), instance.getResponseCacheMaxBytes(),
+				instance.isMetricsEnabled(), instance.isJmxEnabled(), instance.isFlightRecorderEventsEnabled(),
+				instance.isLazyAttributesEnabled(), instance.isStringInterningEnabled(), instance.isAttributeSharingEnabled(),
+				instance.isParallelDecodingEnabled(), instance.getParallelDecodingThresholdBytes());
+	}
+
+	private static class Binding {
+		private final List<Object> connectionSettings;
+		private final List<Object> settings;
+		private final OneOpsTransport base;
+		private final CompressionTransport compression;
+		private final ConcurrencyLimitTransport limit;
+		private final ResilienceTransport resilience;
+		private final HedgingTransport hedging;
+		private final CoalescingTransport coalescing;
+		private final ConditionalTransport conditional;
+		private final CachingTransport caching;
+		private final MetricsTransport metrics;
+		private final OneOpsTransport transport;
+		private final ImmutableMap<String, Object> readerAttributes;
+		private final boolean owned;
+		private volatile boolean baseHandedOver;
+
+		/**
+		 * @param instance
+		 * @param previous binding replaced after a change of the settings, whose connections and metrics are kept when possible
+		 */
+		Binding(OOInstance instance, Binding previous) {
+			connectionSettings = connectionSettings(instance);
+			settings = snapshot(settings(instance));
+			owned = instance.getTransport() == null;
+			if(!owned) {
+				base = instance.getTransport();
+			} else if(previous != null && previous.baseHandedOver) {
+				base = previous.base;
+			} else {
+				base = new RestAssuredTransport(instance);
+			}
+			compression = new CompressionTransport(base, instance.isGzipEnabled(), instance.getRequestCompressionThreshold());
+			OneOpsTransport stack = compression;
+			limit = instance.isConcurrencyLimitEnabled() ? new ConcurrencyLimitTransport(stack, instance) : null;
+			stack = limit != null ? limit : stack;
+			resilience = instance.getRetryPolicy() != null
+					? new ResilienceTransport(stack, instance.getEndpoint(), instance.getRetryPolicy()) : null;
+			stack = resilience != null ? resilience : stack;
+			hedging = instance.isHedgingEnabled() ? new HedgingTransport(stack, Executions.forInstance(instance),
+					instance.getHedgingBudgetPercent(), instance.getHedgingMinDelayMillis()) : null;
+			stack = hedging != null ? hedging : stack;
+			coalescing = instance.isRequestCoalescingEnabled() ? new CoalescingTransport(stack) : null;
+			stack = coalescing != null ? coalescing : stack;
+			conditional = instance.isConditionalGetEnabled() ? new ConditionalTransport(stack, instance.getConditionalGetRoutes(),
+					instance.getConditionalGetMaxBytes()) : null;
+			stack = conditional != null ? conditional : stack;
+			MetricsRegistry registry = previous != null && previous.metrics != null ? previous.metrics.getRegistry() : new MetricsRegistry();
+			metrics = instance.isMetricsEnabled() ? new MetricsTransport(stack, registry) : null;
+			if(metrics != null && instance.isJmxEnabled()) {
+				metrics.getRegistry().registerMBean(instance.getEndpoint() + (instance.getOrgname() == null ? "" : instance.getOrgname()));
+			}
+			stack = metrics != null ? metrics : stack;
+			caching = instance.isResponseCacheEnabled() ? new CachingTransport(stack, instance.getResponseCacheTtlMillis(),
+					instance.getResponseCacheRouteTtlMillis(), instance.getResponseCacheMaxBytes()) : null;
+			stack = caching != null ? caching : stack;
+			transport = instance.isFlightRecorderEventsEnabled() ? new FlightRecorderTransport(stack) : stack;
+			ImmutableMap.Builder<String, Object> attributes = ImmutableMap.builder();
+			if(instance.isLazyAttributesEnabled()) {
+				attributes.put(LazyAttributes.LAZY, Boolean.TRUE);
+			}
+			if(instance.isStringInterningEnabled()) {
+				attributes.put(StringInterner.ATTRIBUTE, new StringInterner());
+			}
+			if(instance.isAttributeSharingEnabled()) {
+				attributes.put(SharedAttributes.ATTRIBUTE, new SharedAttributes());
+			}
+			if(instance.isParallelDecodingEnabled()) {
+				attributes.put(ParallelArrayDecoder.ATTRIBUTE, new ParallelArrayDecoder(instance.getParallelDecodingThresholdBytes()));
+			}
+			readerAttributes = attributes.build();
+		}
+
+		/**
+		 * Copies the collections of the settings, which callers may change in place
+		 */
+		private static List<Object> snapshot(List<Object> settings) {
+			List<Object> snapshot = new ArrayList<Object>(settings.size());
+			for(Object setting : settings) {
+				if(setting instanceof Map) {
+					snapshot.add(new HashMap<Object, Object>((Map<?, ?>) setting));
+				} else if(setting instanceof Set) {
+					snapshot.add(new HashSet<Object>((Set<?>) setting));
+				} else {
+					snapshot.add(setting);
+				}
+			}
+			return snapshot;
+		}
+
+		boolean isCurrent(OOInstance instance) {
+			return connectionSettings.equals(connectionSettings(instance)) && settings.equals(settings(instance));
+		}
+
+		/**
+		 * Keeps the pooled connections open for the binding replacing this one, when their settings did not change
+		 */
+		void handOver(OOInstance instance) {
+			baseHandedOver = owned && instance.getTransport() == null && connectionSettings.equals(connectionSettings(instance));
+		}
+
+		void close() {
+			if(metrics != null) {
+				metrics.getRegistry().unregisterMBean();
+			}
+			if(owned && !baseHandedOver) {
+				try {
+					base.close();
+				} catch (IOException e) {
+					LOG.warn("Failed to close transport", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.oneops.api.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSession;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Lean transport on top of the JDK {@link HttpURLConnection}, without the RestAssured/Groovy runtime.
+ *
+ * Connections are kept alive by the JDK per destination (sized with the <code>http.maxConnections</code>
+ * system property) and a single SSL socket factory is shared so TLS sessions are resumed.
+ */
+public class UrlConnectionTransport implements OneOpsTransport {
+
+	private static final HostnameVerifier ALLOW_ALL = new HostnameVerifier() {
+		@Override
+		public boolean verify(String hostname, SSLSession session) {
+			return true;
+		}
+	};
+
+	private final javax.net.ssl.SSLSocketFactory sslSocketFactory = RestAssuredTransport.createSslContext().getSocketFactory();
+	private final int connectTimeout;
+	private final int readTimeout;
+
+	public UrlConnectionTransport() {
+		this(0, 0);
+	}
+
+	/**
+	 * @param connectTimeout in milliseconds, 0 for no timeout
+	 * @param readTimeout in milliseconds, 0 for no timeout
+	 */
+	public UrlConnectionTransport(int connectTimeout, int readTimeout) {
+		this.connectTimeout = connectTimeout;
+		this.readTimeout = readTimeout;
+	}
+
+	@Override
+	public OneOpsResponse execute(TransportRequest request) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(request.getUrl()).openConnection();
+		if(connection instanceof HttpsURLConnection) {
+			((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+			((HttpsURLConnection) connection).setHostnameVerifier(ALLOW_ALL);
+		}
+		connection.setConnectTimeout(connectTimeout);
+		connection.setReadTimeout(readTimeout);
+		connection.setRequestMethod(request.getMethod());
+		connection.setInstanceFollowRedirects("GET".equals(request.getMethod()));
+		for(Entry<String, String> header : request.getHeaders().entrySet()) {
+			connection.setRequestProperty(header.getKey(), header.getValue());
+		}
+
+		if(request.getBody() != null && !"GET".equals(request.getMethod())) {
+			byte[] body = request.getBody();
+			connection.setDoOutput(true);
+			connection.setFixedLengthStreamingMode(body.length);
+			OutputStream out = connection.getOutputStream();
+			try {
+				out.write(body);
+			} finally {
+				out.close();
+			}
+		}
+
+		int statusCode = connection.getResponseCode();
+		Map<String, List<String>> headers = Maps.newLinkedHashMap();
+		for(Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+			if(header.getKey() != null) {
+				headers.put(header.getKey(), header.getValue());
+			}
+		}
+		InputStream in = statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+		return new OneOpsResponse(statusCode, connection.getHeaderField(0), headers,
+				ResponseBody.of(readFully(in), connection.getContentType()));
+	}
+
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * Drains and closes the stream so the underlying connection goes back to the keep-alive cache
+	 */
+	static byte[] readFully(InputStream in) throws IOException {
+		if(in == null) {
+			return new byte[0];
+		}
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.oneops.api.util;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.google.common.base.Charsets;
+import com.oneops.api.ResourceObject;
+
+/**
+ * Request body of a {@link ResourceObject} written straight to UTF-8 bytes through a Jackson generator,
+ * in place of the {@link org.json.JSONObject} tree built by {@link JsonUtil#createJsonObject(ResourceObject, String)}.
+ *
+ * Follows the org.json semantics: null values are left out of objects, empty property, attribute and
+ * owner maps are omitted and a key written twice keeps its last value only. Each thread reuses its output buffer (its last block, 128 KB at most) and the
+ * generator buffers are recycled by Jackson.
+ */
+public class JsonBody {
+
+	private static final ThreadLocal<ByteArrayBuilder> BUFFERS = new ThreadLocal<ByteArrayBuilder>() {
+		@Override
+		protected ByteArrayBuilder initialValue() {
+			return new ByteArrayBuilder(1024);
+		}
+	};
+
+	private final ResourceObject ro;
+	private final String root;
+	private final Map<String, Object> fields = new LinkedHashMap<String, Object>();
+
+	private JsonBody(ResourceObject ro, String root) {
+		this.ro = ro;
+		this.root = root;
+	}
+
+	/**
+	 * @param ro resource written, an empty object when null
+	 * @param root name of the field wrapping the resource, e.g. cms_ci, null to write it at the top level
+	 * @return
+	 */
+	public static JsonBody of(ResourceObject ro, String root) {
+		return new JsonBody(ro, root);
+	}
+
+	/**
+	 * Adds a top level field next to the resource; a null value removes the field
+	 *
+	 * @param name
+	 * @param value string, number, boolean, map, collection or bean
+	 * @return
+	 */
+	public JsonBody put(String name, Object value) {
+		if(value == null) {
+			fields.remove(name);
+		} else {
+			fields.put(name, value);
+		}
+		return this;
+	}
+
+	public byte[] toByteArray() {
+		ByteArrayBuilder buffer = BUFFERS.get();
+		try {
+			JsonGenerator generator = JsonUtil.mapper().getFactory().createGenerator(buffer);
+			write(generator);
+			generator.close();
+			return buffer.toByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to write json body", e);
+		} finally {
+			buffer.reset();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new String(toByteArray(), Charsets.UTF_8);
+	}
+
+	private void write(JsonGenerator generator) throws IOException {
+		generator.writeStartObject();
+		if(root == null) {
+			writeResource(generator, fields.keySet());
+		} else if(!fields.containsKey(root)) {
+			generator.writeFieldName(root);
+			generator.writeStartObject();
+			writeResource(generator, Collections.<String>emptySet());
+			generator.writeEndObject();
+		}
+		writeFields(generator, fields);
+		generator.writeEndObject();
+	}
+
+	/**
+	 * Writes the resource fields, leaving out the ones written again later: as a JSONObject would keep the last
+	 * value, the attributes and owners win over properties of the same name and the added fields over all of them
+	 */
+	private void writeResource(JsonGenerator generator, Set<String> overwritten) throws IOException {
+		if(ro == null) {
+			return;
+		}
+		boolean attributes = ro.getAttributes() != null && ro.getAttributes().size() > 0 && !overwritten.contains("ciAttributes");
+		boolean owner = ro.getOwnerProps() != null && ro.getOwnerProps().size() > 0 && !overwritten.contains("ciAttrProps");
+		if(ro.getProperties() != null) {
+			for(Entry<String, String> entry : ro.getProperties().entrySet()) {
+				String name = String.valueOf(entry.getKey());
+				if(entry.getValue() != null && !overwritten.contains(name)
+						&& !(attributes && name.equals("ciAttributes")) && !(owner && name.equals("ciAttrProps"))) {
+					generator.writeStringField(name, entry.getValue());
+				}
+			}
+		}
+		if(attributes) {
+			generator.writeFieldName("ciAttributes");
+			writeObject(generator, ro.getAttributes());
+		}
+		if(owner) {
+			generator.writeObjectFieldStart("ciAttrProps");
+			generator.writeFieldName("owner");
+			writeObject(generator, ro.getOwnerProps());
+			generator.writeEndObject();
+		}
+	}
+
+	private static void writeObject(JsonGenerator generator, Map<?, ?> map) throws IOException {
+		generator.writeStartObject();
+		writeFields(generator, map);
+		generator.writeEndObject();
+	}
+
+	private static void writeFields(JsonGenerator generator, Map<?, ?> map) throws IOException {
+		for(Entry<?, ?> entry : map.entrySet()) {
+			if(entry.getValue() != null) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(generator, entry.getValue());
+			}
+		}
+	}
+
+	private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+		if(value == null) {
+			generator.writeNull();
+		} else if(value instanceof String) {
+			generator.writeString((String) value);
+		} else if(value instanceof Map) {
+			writeObject(generator, (Map<?, ?>) value);
+		} else if(value instanceof Collection) {
+			generator.writeStartArray();
+			for(Object item : (Collection<?>) value) {
+				writeValue(generator, item);
+			}
+			generator.writeEndArray();
+		} else {
+			generator.writeObject(value);
+		}
+	}
+}
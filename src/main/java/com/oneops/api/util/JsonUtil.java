@@ -1,36 +1,134 @@
 package com.oneops.api.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.json.JSONObject;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.oneops.api.ResourceObject;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.LazyAttributes;
 
+/**
+ * JSON helpers backed by a single shared {@link ObjectMapper}.
+ *
+ * Readers and writers are cached per type, so their root (de)serializers are only resolved once.
+ */
 public class JsonUtil {
 
-	public static <T> T toObject(String jsonStr, TypeReference<T> t) {
-		ObjectMapper mapper = new ObjectMapper();
-		T object = null;
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final ConcurrentMap<JavaType, ObjectReader> READERS = new ConcurrentHashMap<JavaType, ObjectReader>();
+	private static final ConcurrentMap<JavaType, ObjectWriter> WRITERS = new ConcurrentHashMap<JavaType, ObjectWriter>();
+
+	static {
+		MAPPER.registerModule(LazyAttributes.module());
+	}
+
+	/**
+	 * Shared mapper; must not be reconfigured
+	 */
+	public static ObjectMapper mapper() {
+		return MAPPER;
+	}
+
+	public static ObjectReader reader(Class<?> type) {
+		return reader(MAPPER.getTypeFactory().constructType(type));
+	}
+
+	public static ObjectReader reader(TypeReference<?> type) {
+		return reader(MAPPER.getTypeFactory().constructType(type));
+	}
+
+	/**
+	 * Cached reader of the type, with the given Jackson attributes (e.g. {@link LazyAttributes#LAZY}) when not empty
+	 */
+	public static ObjectReader reader(Class<?> type, Map<?, ?> attributes) {
+		ObjectReader reader = reader(type);
+		return attributes.isEmpty() ? reader : reader.withAttributes(attributes);
+	}
+
+	public static ObjectReader reader(TypeReference<?> type, Map<?, ?> attributes) {
+		ObjectReader reader = reader(type);
+		return attributes.isEmpty() ? reader : reader.withAttributes(attributes);
+	}
+
+	private static ObjectReader reader(JavaType type) {
+		ObjectReader reader = READERS.get(type);
+		if(reader == null) {
+			reader = MAPPER.readerFor(type);
+			READERS.putIfAbsent(type, reader);
+		}
+		return reader;
+	}
+
+	public static ObjectWriter writer() {
+		return writer(Object.class);
+	}
+
+	public static ObjectWriter writer(Class<?> type) {
+		JavaType javaType = MAPPER.getTypeFactory().constructType(type);
+		ObjectWriter writer = WRITERS.get(javaType);
+		if(writer == null) {
+			writer = MAPPER.writerFor(javaType);
+			WRITERS.putIfAbsent(javaType, writer);
+		}
+		return writer;
+	}
+
+	public static <T> T toObject(String jsonStr, TypeReference<T> t) throws OneOpsClientAPIException {
 		try {
-			object = mapper.readValue(jsonStr, t);
-		} catch (Exception e) {
+			return reader(t).readValue(jsonStr);
+		} catch (IOException e) {
+			throw decodeFailure(t.getType(), e);
 		}
-		return object;
 	}
 
-	public static <T> T convert(Object o, TypeReference<T> t) {
-		ObjectMapper mapper = new ObjectMapper();
-		T object = null;
-		try{
-			object = mapper.convertValue(o, t);
-		} catch (Exception e) {
+	/**
+	 * Decodes the JSON read from the given stream, without buffering it
+	 */
+	public static <T> T toObject(InputStream in, TypeReference<T> t) throws OneOpsClientAPIException {
+		try {
+			return reader(t).readValue(in);
+		} catch (IOException e) {
+			throw decodeFailure(t.getType(), e);
 		}
+	}
+
+	public static <T> T toObject(InputStream in, Class<T> t) throws OneOpsClientAPIException {
+		try {
+			return reader(t).readValue(in);
+		} catch (IOException e) {
+			throw decodeFailure(t, e);
+		}
+	}
+
+	public static <T> T convert(Object o, TypeReference<T> t) throws OneOpsClientAPIException {
+		try {
+			return MAPPER.convertValue(o, t);
+		} catch (IllegalArgumentException e) {
+			throw decodeFailure(t.getType(), e);
+		}
+	}
 
-		return object;
+	private static OneOpsClientAPIException decodeFailure(Type type, Exception e) {
+		String name = type instanceof Class ? ((Class<?>) type).getSimpleName() : type.toString();
+		return new OneOpsClientAPIException(String.format("Failed to decode json as %s", name), e);
 	}
 	
+	/**
+	 * @deprecated request bodies are written by {@link JsonBody}, without building a JSONObject tree
+	 */
+	@Deprecated
 	public static JSONObject createJsonObject(ResourceObject ro, String root) {
 		JSONObject rootObject = new JSONObject();
 		JSONObject jsonObject = new JSONObject();
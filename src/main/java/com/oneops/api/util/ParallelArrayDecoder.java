@@ -0,0 +1,217 @@
+package com.oneops.api.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Decodes large JSON arrays into lists on a {@link ForkJoinPool}: the boundaries of the top level elements are
+ * found by a single byte scan, then runs of consecutive elements are mapped in parallel and concatenated in order.
+ *
+ * Arrays smaller than the threshold, or holding too few elements to be split, and all arrays on single processor
+ * pools are decoded on the calling thread.
+ */
+public class ParallelArrayDecoder {
+
+	/**
+	 * Jackson reader attribute carrying the decoder used for list responses
+	 */
+	public static final String ATTRIBUTE = "oneops.parallelArrayDecoder";
+
+	private static final int CHUNKS_PER_THREAD = 4;
+	private static final int MIN_CHUNK_ELEMENTS = 64;
+
+	private static final ForkJoinPool SHARED_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	private final ForkJoinPool pool;
+	private final long thresholdBytes;
+
+	/**
+	 * Decoder running on the pool shared by all clients, sized to the available processors
+	 *
+	 * @param thresholdBytes minimum decoded length of the arrays decoded in parallel
+	 */
+	public ParallelArrayDecoder(long thresholdBytes) {
+		this(SHARED_POOL, thresholdBytes);
+	}
+
+	public ParallelArrayDecoder(ForkJoinPool pool, long thresholdBytes) {
+		this.pool = pool;
+		this.thresholdBytes = thresholdBytes;
+	}
+
+	/**
+	 * Whether a payload of the given decoded length, decoded as the given type, is worth decoding in parallel
+	 */
+	public boolean accepts(JavaType type, long length) {
+		return length >= thresholdBytes && type.isCollectionLikeType() && type.getRawClass().isAssignableFrom(ArrayList.class);
+	}
+
+	/**
+	 * @param reader reader of a list type
+	 * @param json UTF-8 JSON array
+	 * @return decoded list, elements in the order of the array
+	 * @throws IOException
+	 */
+	public <T> T decode(ObjectReader reader, byte[] json) throws IOException {
+		int[] bounds = pool.getParallelism() > 1 ? split(json, pool.getParallelism() * CHUNKS_PER_THREAD) : null;
+		if(bounds == null) {
+			return reader.readValue(json);
+		}
+		List<Object> decoded;
+		try {
+			decoded = pool.invoke(new Chunks(reader, json, bounds, 0, bounds.length / 2));
+		} catch (DecodingException e) {
+			throw (IOException) e.getCause();
+		}
+		@SuppressWarnings("unchecked")
+		T list = (T) decoded;
+		return list;
+	}
+
+	/**
+	 * Splits the top level array into at most the given number of runs of elements
+	 *
+	 * @return start and end offsets of each run, null when the content is not a well formed array worth splitting
+	 */
+	static int[] split(byte[] json, int chunks) {
+		int i = skipWhitespace(json, 0);
+		if(i >= json.length || json[i] != '[') {
+			return null;
+		}
+		int[] separators = new int[64];
+		int elements = 0;
+		int first = skipWhitespace(json, i + 1);
+		int depth = 0;
+		for(i = first; i < json.length; i++) {
+			byte b = json[i];
+			if(b == '"') {
+				i = skipString(json, i + 1);
+			} else if(b == '{' || b == '[') {
+				depth++;
+			} else if(b == '}') {
+				depth--;
+			} else if(b == ']') {
+				if(depth-- == 0) {
+					break;
+				}
+			} else if(b == ',' && depth == 0) {
+				if(elements == separators.length) {
+					separators = Arrays.copyOf(separators, elements * 2);
+				}
+				separators[elements++] = i;
+			}
+		}
+		if(i >= json.length || depth != -1) {
+			return null;
+		}
+		int end = i;
+		elements++;
+		chunks = Math.min(chunks, elements / MIN_CHUNK_ELEMENTS);
+		if(chunks < 2) {
+			return null;
+		}
+
+		int[] bounds = new int[chunks * 2];
+		for(int c = 0; c < chunks; c++) {
+			int from = (int) ((long) elements * c / chunks);
+			int to = (int) ((long) elements * (c + 1) / chunks);
+			bounds[c * 2] = from == 0 ? first : separators[from - 1] + 1;
+			bounds[c * 2 + 1] = to == elements ? end : separators[to - 1];
+		}
+		return bounds;
+	}
+
+	/**
+	 * @return offset of the closing quote of the string starting at the given offset, the length when unterminated
+	 */
+	private static int skipString(byte[] json, int i) {
+		for(; i < json.length; i++) {
+			byte b = json[i];
+			if(b == '"') {
+				return i;
+			}
+			if(b == '\\') {
+				i++;
+			}
+		}
+		return json.length;
+	}
+
+	private static int skipWhitespace(byte[] json, int i) {
+		while(i < json.length && (json[i] == ' ' || json[i] == '\n' || json[i] == '\r' || json[i] == '\t')) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Decodes a range of runs, forking halves until a single run is left
+	 */
+	private static class Chunks extends RecursiveTask<List<Object>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ObjectReader reader;
+		private final byte[] json;
+		private final int[] bounds;
+		private final int from;
+		private final int to;
+
+		Chunks(ObjectReader reader, byte[] json, int[] bounds, int from, int to) {
+			this.reader = reader;
+			this.json = json;
+			this.bounds = bounds;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected List<Object> compute() {
+			if(to - from == 1) {
+				return decode();
+			}
+			int middle = (from + to) >>> 1;
+			Chunks right = new Chunks(reader, json, bounds, middle, to);
+			right.fork();
+			List<Object> left = new Chunks(reader, json, bounds, from, middle).compute();
+			List<Object> tail = right.join();
+			List<Object> list = new ArrayList<Object>(left.size() + tail.size());
+			list.addAll(left);
+			list.addAll(tail);
+			return list;
+		}
+
+		private List<Object> decode() {
+			int start = bounds[from * 2];
+			int length = bounds[from * 2 + 1] - start;
+			byte[] run = new byte[length + 2];
+			run[0] = '[';
+			System.arraycopy(json, start, run, 1, length);
+			run[length + 1] = ']';
+			try {
+				return reader.readValue(run);
+			} catch (IOException e) {
+				throw new DecodingException(e);
+			}
+		}
+	}
+
+	/**
+	 * Carries the decoding failure of a run out of the pool
+	 */
+	private static class DecodingException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		DecodingException(IOException cause) {
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.oneops.api.util;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Client scoped pool of the low cardinality strings of the decoded models (ciClassName, nsPath, createdBy,
+ * impl), so identical values are shared by all the CIs of a client.
+ *
+ * Values are held weakly and dropped once no model references them.
+ */
+public class StringInterner {
+
+	/**
+	 * Jackson reader attribute carrying the interner used while decoding
+	 */
+	public static final String ATTRIBUTE = "oneops.stringInterner";
+
+	private final Interner<String> interner = Interners.newWeakInterner();
+
+	public String intern(String value) {
+		return value == null ? null : interner.intern(value);
+	}
+}
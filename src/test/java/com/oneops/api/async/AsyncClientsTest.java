@@ -0,0 +1,166 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.transport.InMemoryTransport;
+import com.oneops.api.util.JsonUtil;
+
+public class AsyncClientsTest {
+
+	private InMemoryTransport transport;
+	private OOInstance instance;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		transport = new InMemoryTransport();
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(transport);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void completesWithTheResultOfTheBlockingCall() throws Exception {
+		transport.respond("GET", "/assemblies/app/transition/environments/qa", 200,
+				"{\"ciId\":42,\"ciName\":\"qa\",\"ciClassName\":\"manifest.Environment\"}");
+		AsyncTransition transition = new AsyncTransition(instance, "app", executor);
+
+		CiResource environment = transition.getEnvironment("qa").get(10, TimeUnit.SECONDS);
+		assertEquals(Long.valueOf(42), environment.getCiId());
+		assertEquals("qa", environment.getCiName());
+	}
+
+	@Test
+	public void failsWithTheExceptionOfTheBlockingCall() throws Exception {
+		AsyncTransition transition = new AsyncTransition(instance, "app", executor);
+		try {
+			transition.getEnvironment("qa").get(10, TimeUnit.SECONDS);
+			fail("Expected the 404 to fail the future");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof OneOpsClientAPIException);
+		}
+	}
+
+	@Test
+	public void everyAsyncMethodDelegatesToItsBlockingCounterpart() throws Exception {
+		transport.respond("GET", "/clouds/", 200, "[{\"ciId\":1,\"ciName\":\"dal\"}]");
+		transport.respond("GET", "/assemblies/", 200, "[{\"ciId\":2,\"ciName\":\"app\"}]");
+		List<AsyncClient> clients = new ArrayList<AsyncClient>();
+		clients.add(new AsyncAccount(instance, executor));
+		clients.add(new AsyncAssembly(instance, executor));
+		clients.add(new AsyncCloud(instance, executor));
+		clients.add(new AsyncDesign(instance, "app", executor));
+		clients.add(new AsyncMonitor(instance, "app", "qa", "web", "tomcat", executor));
+		clients.add(new AsyncOperation(instance, "app", "qa", executor));
+		clients.add(new AsyncOrganizationSetting(instance, executor));
+		clients.add(new AsyncTransition(instance, "app", executor));
+
+		int compared = 0;
+		for(AsyncClient client : clients) {
+			Object blocking = client.getClass().getMethod("getClient").invoke(client);
+			for(Method async : client.getClass().getDeclaredMethods()) {
+				if(!Modifier.isPublic(async.getModifiers()) || async.getReturnType() != ListenableFuture.class) {
+					continue;
+				}
+				Method delegate = blocking.getClass().getMethod(async.getName(), async.getParameterTypes());
+				Object[] args = arguments(async.getParameterTypes());
+				String name = client.getClass().getSimpleName() + "." + async.getName();
+				assertSameOutcome(name, call(blocking, delegate, args), await((ListenableFuture<?>) async.invoke(client, args)));
+				compared++;
+			}
+		}
+		assertTrue("Expected all wrappers to be compared, got " + compared, compared > 100);
+	}
+
+	private static void assertSameOutcome(String name, Object expected, Object actual) throws Exception {
+		if(expected instanceof Throwable || actual instanceof Throwable) {
+			assertTrue(name + " expected " + expected + " got " + actual, expected instanceof Throwable && actual instanceof Throwable);
+			if(expected instanceof LinkageError) {
+				//classes failing to initialize on this JVM fail the same way, with a different error the second time
+				assertTrue(name, actual instanceof LinkageError);
+				return;
+			}
+			assertEquals(name, expected.getClass(), actual.getClass());
+			assertEquals(name, ((Throwable) expected).getMessage(), ((Throwable) actual).getMessage());
+		} else {
+			assertEquals(name, JsonUtil.mapper().writeValueAsString(expected), JsonUtil.mapper().writeValueAsString(actual));
+		}
+	}
+
+	private static Object call(Object target, Method method, Object[] args) throws IllegalAccessException {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			return e.getCause();
+		}
+	}
+
+	private static Object await(ListenableFuture<?> future) throws Exception {
+		try {
+			return future.get(10, TimeUnit.SECONDS);
+		} catch (ExecutionException e) {
+			return e.getCause();
+		}
+	}
+
+	private static Object[] arguments(Class<?>[] types) {
+		Object[] args = new Object[types.length];
+		for(int i = 0; i < types.length; i++) {
+			Class<?> type = types[i];
+			if(type == String.class) {
+				args[i] = "x";
+			} else if(type == Long.class || type == long.class) {
+				args[i] = 1L;
+			} else if(type == Integer.class || type == int.class) {
+				args[i] = 1;
+			} else if(type == Boolean.class || type == boolean.class) {
+				args[i] = Boolean.TRUE;
+			} else if(type == List.class) {
+				args[i] = new ArrayList<Object>();
+			} else if(type == Map.class) {
+				args[i] = new HashMap<Object, Object>();
+			} else if(type == Set.class) {
+				args[i] = new HashSet<Object>();
+			} else {
+				try {
+					args[i] = type.newInstance();
+				} catch (Exception e) {
+					args[i] = null;
+				}
+			}
+		}
+		return args;
+	}
+}
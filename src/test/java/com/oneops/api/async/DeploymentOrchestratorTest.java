@@ -0,0 +1,151 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.async.DeploymentOrchestrator.Outcome;
+import com.oneops.api.async.DeploymentOrchestrator.Result;
+import com.oneops.api.async.DeploymentOrchestrator.Target;
+import com.oneops.api.async.DeploymentOrchestrator.Wave;
+import com.oneops.api.async.DeploymentOrchestrator.WaveResult;
+import com.oneops.api.transport.InMemoryTransport;
+
+public class DeploymentOrchestratorTest {
+
+	private static final String ENVIRONMENTS = "/assemblies/app/transition/environments/";
+
+	private InMemoryTransport transport;
+	private OOInstance instance;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		transport = new InMemoryTransport();
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(transport);
+		instance.setPollPolicy(new PollPolicy(10, 50, 0));
+		instance.setDeploymentPollPolicy(new PollPolicy(10, 50, 0));
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void reportsPausedDeploymentsAsFailedAndSkipsTheNextWaves() throws Exception {
+		environment("qa", 7, "complete");
+		environment("stg", 8, "paused");
+		environment("prod", 9, "complete");
+		DeploymentOrchestrator orchestrator = new DeploymentOrchestrator(instance, 2, executor);
+
+		List<WaveResult> waves = orchestrator.promote(waves(new Wave("canary", new Target("app", "qa"), new Target("app", "stg")),
+				new Wave("rest", new Target("app", "prod"))), null).get(10, TimeUnit.SECONDS);
+
+		List<Result> canary = waves.get(0).getResults();
+		assertEquals(Outcome.DEPLOYED, canary.get(0).getOutcome());
+		assertEquals(Outcome.FAILED, canary.get(1).getOutcome());
+		assertEquals("deploy", canary.get(1).getFailedStep());
+		assertEquals("paused", canary.get(1).getDeployment().getDeploymentState());
+		assertEquals(Outcome.SKIPPED, waves.get(1).getResults().get(0).getOutcome());
+	}
+
+	@Test
+	public void reportsTimedOutWatchesAsFailed() throws Exception {
+		environment("qa", 7, "active");
+		instance.setDeploymentPollPolicy(new PollPolicy(10, 50, 200));
+		DeploymentOrchestrator orchestrator = new DeploymentOrchestrator(instance, 2, executor);
+
+		List<WaveResult> waves = orchestrator.promote(waves(new Wave("canary", new Target("app", "qa"))), null)
+				.get(10, TimeUnit.SECONDS);
+
+		Result qa = waves.get(0).getResults().get(0);
+		assertEquals(Outcome.FAILED, qa.getOutcome());
+		assertEquals("watch", qa.getFailedStep());
+		assertEquals(false, waves.get(0).isDeployed());
+	}
+
+	@Test
+	public void startsTheTargetsFailingAtOnceWithoutGrowingTheStack() throws Exception {
+		List<Wave> waves = new ArrayList<Wave>();
+		for(int w = 0; w < 50; w++) {
+			List<Target> targets = new ArrayList<Target>();
+			for(int i = 0; i < 1000; i++) {
+				targets.add(new Target("", "env-" + i));
+			}
+			waves.add(new Wave("wave-" + w, targets));
+			waves.add(new Wave("empty-" + w, new ArrayList<Target>()));
+		}
+		DeploymentOrchestrator orchestrator = new DeploymentOrchestrator(instance, 1, executor);
+
+		List<WaveResult> results = orchestrator.promote(waves, DeploymentOrchestrator.ALWAYS, null).get(30, TimeUnit.SECONDS);
+
+		assertEquals(100, results.size());
+		for(int w = 0; w < results.size(); w += 2) {
+			assertEquals(1000, results.get(w).getFailures().size());
+			assertEquals("commit", results.get(w).getFailures().get(999).getFailedStep());
+		}
+	}
+
+	@Test
+	public void callsTheGateWithoutHoldingThePromotion() throws Exception {
+		environment("qa", 7, "complete");
+		environment("prod", 9, "complete");
+		DeploymentOrchestrator orchestrator = new DeploymentOrchestrator(instance, 2, executor);
+		final AtomicReference<ListenableFuture<List<WaveResult>>> promotion = new AtomicReference<ListenableFuture<List<WaveResult>>>();
+		final AtomicBoolean held = new AtomicBoolean();
+		WaveGate gate = new WaveGate() {
+			@Override
+			public boolean open(WaveResult completed) {
+				held.set(Thread.holdsLock(promotion.get()));
+				return true;
+			}
+		};
+
+		promotion.set(orchestrator.promote(waves(new Wave("canary", new Target("app", "qa")),
+				new Wave("rest", new Target("app", "prod"))), gate, null));
+		List<WaveResult> waves = promotion.get().get(10, TimeUnit.SECONDS);
+
+		assertEquals(false, held.get());
+		assertEquals(true, waves.get(1).isDeployed());
+	}
+
+	private static List<Wave> waves(Wave... waves) {
+		List<Wave> list = new ArrayList<Wave>();
+		for(Wave wave : waves) {
+			list.add(wave);
+		}
+		return list;
+	}
+
+	/**
+	 * Environment committing at once, whose deployment is in the given state from its first poll
+	 */
+	private void environment(String name, long deploymentId, String state) {
+		String environment = ENVIRONMENTS + name;
+		transport.respond("POST", environment + "/commit", 200, "{}")
+				.respond("GET", environment, 200, "{\"ciName\":\"" + name + "\",\"ciState\":\"default\",\"releaseId\":1}")
+				.respond("GET", environment + "/releases/bom", 200, "{\"releaseId\":2,\"nsPath\":\"/org/app/" + name + "/bom\"}")
+				.respond("POST", environment + "/deployments/", 200,
+						"{\"deploymentId\":" + deploymentId + ",\"deploymentState\":\"active\"}")
+				.respond("GET", environment + "/deployments/" + deploymentId + "/status", 200,
+						"{\"deploymentId\":" + deploymentId + ",\"deploymentState\":\"" + state + "\"}");
+	}
+}
@@ -0,0 +1,68 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Predicates;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.resource.model.Deployment;
+import com.oneops.api.transport.InMemoryTransport;
+
+public class DeploymentWatcherTest {
+
+	private static final String STATUS = "/assemblies/app/transition/environments/qa/deployments/7/status";
+
+	private InMemoryTransport transport;
+	private OOInstance instance;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		transport = new InMemoryTransport();
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(transport);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void stopsWatchingPausedDeploymentsByDefault() throws Exception {
+		status("paused");
+		DeploymentWatcher watcher = new DeploymentWatcher(instance, new PollPolicy(10, 50, 0), executor);
+
+		Deployment paused = watcher.watch("app", "qa", 7).get(10, TimeUnit.SECONDS);
+		assertEquals("paused", paused.getDeploymentState());
+	}
+
+	@Test
+	public void endsWatchesOnTheGivenStates() throws Exception {
+		status("active");
+		DeploymentWatcher watcher = new DeploymentWatcher(instance, new PollPolicy(10, 50, 0), executor,
+				Predicates.not(Predicates.equalTo("active")));
+
+		ListenableFuture<Deployment> watch = watcher.watch("app", "qa", 7);
+		Thread.sleep(100);
+		assertEquals(false, watch.isDone());
+		status("pending");
+		assertEquals("pending", watch.get(10, TimeUnit.SECONDS).getDeploymentState());
+	}
+
+	private void status(String state) {
+		transport.respond("GET", STATUS, 200, "{\"deploymentId\":7,\"deploymentState\":\"" + state + "\"}");
+	}
+}
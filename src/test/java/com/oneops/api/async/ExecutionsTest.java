@@ -0,0 +1,181 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oneops.api.ExecutionMode;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+
+public class ExecutionsTest {
+
+	private OOInstance instance;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		instance = new OOInstance();
+		executor = Executors.newFixedThreadPool(1);
+		instance.setExecutor(executor);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void bulkCallFromTheOnlyThreadOfTheExecutorCompletes() throws Exception {
+		Future<Map<Integer, Integer>> nested = executor.submit(new Callable<Map<Integer, Integer>>() {
+			@Override
+			public Map<Integer, Integer> call() throws OneOpsClientAPIException {
+				return Executions.invokeAll(instance, squares(20, null, null));
+			}
+		});
+
+		Map<Integer, Integer> results = nested.get(10, TimeUnit.SECONDS);
+		assertEquals(20, results.size());
+		int expected = 0;
+		for(Map.Entry<Integer, Integer> result : results.entrySet()) {
+			assertEquals(Integer.valueOf(expected), result.getKey());
+			assertEquals(Integer.valueOf(expected * expected), result.getValue());
+			expected++;
+		}
+	}
+
+	@Test
+	public void runsAtMostBulkParallelismCallsAtOnce() throws Exception {
+		executor.shutdownNow();
+		executor = Executors.newFixedThreadPool(16);
+		instance.setExecutor(executor);
+		instance.setBulkParallelism(3);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+
+		Map<Integer, Integer> results = Executions.invokeAll(instance, squares(40, running, peak));
+		assertEquals(40, results.size());
+		assertTrue("Expected at most 3 concurrent calls, got " + peak.get(), peak.get() <= 3);
+	}
+
+	@Test
+	public void boundsOnlyPlatformThreadsByDefault() {
+		assertEquals(Executions.DEFAULT_BULK_PARALLELISM, Executions.bulkParallelism(instance, executor));
+		if(Executions.isVirtualThreadsSupported()) {
+			assertEquals(Integer.MAX_VALUE, Executions.bulkParallelism(instance, Executions.forMode(ExecutionMode.VIRTUAL_THREADS)));
+		}
+		instance.setBulkParallelism(3);
+		assertEquals(3, Executions.bulkParallelism(instance, executor));
+		assertEquals(3, Executions.bulkParallelism(instance, Executions.forMode(ExecutionMode.VIRTUAL_THREADS)));
+	}
+
+	@Test
+	public void rethrowsTheFirstFailureInCallOrder() {
+		Map<String, Callable<String>> calls = new LinkedHashMap<String, Callable<String>>();
+		calls.put("ok", constant("ok"));
+		calls.put("first", failing(new OneOpsClientAPIException("first")));
+		calls.put("second", failing(new IllegalStateException("second")));
+		try {
+			Executions.invokeAll(instance, calls);
+			fail("Expected the first failure to be rethrown");
+		} catch (OneOpsClientAPIException e) {
+			assertEquals("first", e.getMessage());
+		}
+	}
+
+	@Test
+	public void stopsWaitingWhenInterrupted() throws Exception {
+		executor.shutdownNow();
+		executor = Executors.newFixedThreadPool(2);
+		instance.setExecutor(executor);
+		instance.setBulkParallelism(2);
+		final CountDownLatch blocked = new CountDownLatch(1);
+		final Map<String, Callable<String>> calls = new LinkedHashMap<String, Callable<String>>();
+		calls.put("blocking", new Callable<String>() {
+			@Override
+			public String call() throws InterruptedException {
+				blocked.countDown();
+				Thread.sleep(60000);
+				return "late";
+			}
+		});
+		calls.put("quick", constant("quick"));
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		final AtomicReference<Boolean> interrupted = new AtomicReference<Boolean>();
+		Thread caller = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					Executions.invokeAll(instance, calls);
+				} catch (OneOpsClientAPIException e) {
+					failure.set(e);
+				}
+				interrupted.set(Thread.currentThread().isInterrupted());
+			}
+		});
+		caller.start();
+		assertTrue(blocked.await(10, TimeUnit.SECONDS));
+		//the blocking call may have been taken by the caller itself, which the interrupt then ends too
+		caller.interrupt();
+		caller.join(10000);
+
+		assertTrue("Expected the caller to stop waiting", !caller.isAlive());
+		assertTrue(failure.get() instanceof OneOpsClientAPIException);
+		assertTrue(failure.get().getCause() instanceof InterruptedException);
+		assertEquals(Boolean.TRUE, interrupted.get());
+	}
+
+	private static Map<Integer, Callable<Integer>> squares(int count, final AtomicInteger running, final AtomicInteger peak) {
+		Map<Integer, Callable<Integer>> calls = new LinkedHashMap<Integer, Callable<Integer>>();
+		for(int i = 0; i < count; i++) {
+			final int value = i;
+			calls.put(i, new Callable<Integer>() {
+				@Override
+				public Integer call() throws InterruptedException {
+					if(running != null) {
+						int now = running.incrementAndGet();
+						for(int seen = peak.get(); now > seen && !peak.compareAndSet(seen, now); seen = peak.get()) {
+						}
+						Thread.sleep(5);
+						running.decrementAndGet();
+					}
+					return value * value;
+				}
+			});
+		}
+		return calls;
+	}
+
+	private static Callable<String> constant(final String value) {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				return value;
+			}
+		};
+	}
+
+	private static Callable<String> failing(final Exception failure) {
+		return new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				throw failure;
+			}
+		};
+	}
+}
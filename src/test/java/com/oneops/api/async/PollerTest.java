@@ -0,0 +1,130 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.exception.OneOpsClientAPIException;
+
+public class PollerTest {
+
+	@Test
+	public void capsTheDelaysStretchedThroughTheExpectedTimeLeft() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Poller poller = new Poller(executor, false);
+			ListenableFuture<String> polling = poller.poll("test", "target", new PollPolicy(10, 20, 0), new SlowCheck());
+			assertEquals("done", polling.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void stretchesTheDelaysTowardTheExpectedCompletion() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			PollPolicy policy = new PollPolicy(10, 200, 0);
+			policy.setJitterPercent(0);
+			ExpectedCheck check = new ExpectedCheck(500);
+			ListenableFuture<Long> polling = new Poller(executor, false).poll("test", "target", policy, check);
+
+			long completed = polling.get(5, TimeUnit.SECONDS);
+			assertTrue("first check after " + check.firstCheckMillis + " ms", check.firstCheckMillis >= 380);
+			assertTrue(check.checks + " checks", check.checks <= 5);
+			assertTrue(completed >= 500 && completed < 1000);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void expectsCompletionOnTheClientClock() {
+		long serverCreated = 946684800000L;
+		long before = System.currentTimeMillis();
+		long expected = Poller.expectedCompletion(serverCreated, serverCreated + 60000, 100000);
+		long after = System.currentTimeMillis();
+
+		assertTrue(expected >= before + 40000 && expected <= after + 40000);
+		assertTrue(Poller.expectedCompletion(serverCreated, null, 100000) >= before + 100000);
+		assertTrue(Poller.expectedCompletion(serverCreated, serverCreated + 200000, 100000) <= after);
+	}
+
+	@Test
+	public void failsThePollingWhenTheExecutorRejectsTheCheck() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		Poller poller = new Poller(executor, false);
+
+		ListenableFuture<String> polling = poller.poll("test", "target", new PollPolicy(10, 10, 0), new PollCheck<String>() {
+			@Override
+			public String check() {
+				return "done";
+			}
+		});
+		try {
+			polling.get(10, TimeUnit.SECONDS);
+			fail("Expected the rejection to fail the polling");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof OneOpsClientAPIException);
+			assertTrue(e.getCause().getCause() instanceof RejectedExecutionException);
+		}
+	}
+
+	/**
+	 * Completes on the first check once the expected time elapsed, returning the time elapsed since its creation;
+	 * a plain backoff from 10 ms to 200 ms would check it 6 times in that time
+	 */
+	private static class ExpectedCheck implements PollCheck<Long>, Poller.Expectation {
+
+		private final long started = System.currentTimeMillis();
+		private final long expectedCompletion;
+		private volatile long firstCheckMillis = -1;
+		private volatile int checks;
+
+		ExpectedCheck(long expectedMillis) {
+			this.expectedCompletion = started + expectedMillis;
+		}
+
+		@Override
+		public Long check() {
+			long now = System.currentTimeMillis();
+			if(checks++ == 0) {
+				firstCheckMillis = now - started;
+			}
+			return now >= expectedCompletion ? now - started : null;
+		}
+
+		@Override
+		public long remainingMillis() {
+			return expectedCompletion - System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Completes on its second check, while expecting to take another hour
+	 */
+	private static class SlowCheck implements PollCheck<String>, Poller.Expectation {
+
+		private int checks;
+
+		@Override
+		public String check() {
+			return ++checks == 2 ? "done" : null;
+		}
+
+		@Override
+		public long remainingMillis() {
+			return TimeUnit.HOURS.toMillis(1);
+		}
+	}
+}
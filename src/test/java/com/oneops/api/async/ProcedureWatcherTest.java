@@ -0,0 +1,148 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.Action;
+import com.oneops.api.resource.model.Procedure;
+import com.oneops.api.transport.InMemoryTransport;
+
+public class ProcedureWatcherTest {
+
+	private static final String STATUS = "/operations/procedures/7";
+
+	private InMemoryTransport transport;
+	private OOInstance instance;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		transport = new InMemoryTransport();
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(transport);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void notifiesTransitionsUntilTheProcedureCompletes() throws Exception {
+		status("active", "inprogress");
+		final List<String> transitions = new CopyOnWriteArrayList<String>();
+		ProcedureWatcher watcher = new ProcedureWatcher(instance, new PollPolicy(10, 50, 0), executor);
+
+		ListenableFuture<Procedure> watch = watcher.watch("app", "qa", 7, new ProcedureListener() {
+			@Override
+			public void onProcedureStateChange(Procedure procedure, String previousState) {
+				transitions.add("procedure " + previousState + " -> " + procedure.getProcedureState());
+			}
+
+			@Override
+			public void onActionStateChange(Procedure procedure, Action action, String previousState) {
+				transitions.add("action " + previousState + " -> " + action.getActionState());
+			}
+		});
+		Thread.sleep(100);
+		assertEquals(false, watch.isDone());
+		assertEquals(1, watcher.getWatchCount());
+		status("complete", "complete");
+
+		assertEquals("complete", watch.get(10, TimeUnit.SECONDS).getProcedureState());
+		awaitNoWatch(watcher);
+		assertEquals("[action null -> inprogress, procedure null -> active, action inprogress -> complete, "
+				+ "procedure active -> complete]", transitions.toString());
+	}
+
+	@Test
+	public void endsWatchesOnFailedAndCanceledProcedures() throws Exception {
+		ProcedureWatcher watcher = new ProcedureWatcher(instance, new PollPolicy(10, 50, 0), executor);
+
+		status("failed", "failed");
+		assertEquals("failed", watcher.watch("app", "qa", 7).get(10, TimeUnit.SECONDS).getProcedureState());
+		status("canceled", "pending");
+		assertEquals("canceled", watcher.watch("app", "qa", 7).get(10, TimeUnit.SECONDS).getProcedureState());
+	}
+
+	@Test
+	public void failsWatchesTimingOut() throws Exception {
+		status("active", "inprogress");
+		ProcedureWatcher watcher = new ProcedureWatcher(instance, new PollPolicy(10, 50, 200), executor);
+
+		ListenableFuture<Procedure> watch = watcher.watch("app", "qa", 7);
+		try {
+			watch.get(10, TimeUnit.SECONDS);
+			fail("Expected the watch to time out");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof OneOpsClientAPIException);
+			assertTrue(e.getCause().getMessage(), e.getCause().getMessage().startsWith("Timed out after 200 ms"));
+		}
+		awaitNoWatch(watcher);
+	}
+
+	@Test
+	public void stopsPollingCanceledWatches() throws Exception {
+		status("active", "inprogress");
+		ProcedureWatcher watcher = new ProcedureWatcher(instance, new PollPolicy(10, 10, 0), executor);
+
+		ListenableFuture<Procedure> watch = watcher.watch("app", "qa", 7);
+		ListenableFuture<Procedure> other = watcher.watch("app", "qa", 7);
+		Thread.sleep(100);
+		assertTrue(watch.cancel(false));
+		watcher.close();
+		assertTrue(other.isCancelled());
+		assertEquals(0, watcher.getWatchCount());
+
+		Thread.sleep(50);
+		int polls = transport.getRequests().size();
+		Thread.sleep(100);
+		assertEquals(polls, transport.getRequests().size());
+	}
+
+	@Test
+	public void pollsOnTheExecutorOfTheInstance() throws Exception {
+		status("complete", "complete");
+		instance.setProcedurePollPolicy(new PollPolicy(10, 50, 0));
+		ProcedureWatcher watcher = new ProcedureWatcher(instance);
+
+		assertEquals("complete", watcher.watch("app", "qa", 7).get(10, TimeUnit.SECONDS).getProcedureState());
+		watcher.close();
+		assertEquals(false, Executions.forInstance(instance).isShutdown());
+	}
+
+	/**
+	 * Watches are forgotten by a listener of their future, which may run after get returned
+	 */
+	private static void awaitNoWatch(ProcedureWatcher watcher) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while(watcher.getWatchCount() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(0, watcher.getWatchCount());
+	}
+
+	private void status(String state, String actionState) {
+		transport.respond("GET", STATUS, 200, "{\"procedureId\":7,\"procedureState\":\"" + state + "\","
+				+ "\"actions\":[{\"actionId\":70,\"procedureId\":7,\"actionState\":\"" + actionState + "\"}]}");
+	}
+}
@@ -0,0 +1,31 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+
+	@Test
+	public void keepsTickingAfterATaskThrowsAnError() throws InterruptedException {
+		TimerWheel wheel = new TimerWheel(5, TimeUnit.MILLISECONDS, 16);
+		final CountDownLatch ran = new CountDownLatch(1);
+		wheel.schedule(new Runnable() {
+			@Override
+			public void run() {
+				throw new AssertionError("failing timer task");
+			}
+		}, 0, TimeUnit.MILLISECONDS);
+		wheel.schedule(new Runnable() {
+			@Override
+			public void run() {
+				ran.countDown();
+			}
+		}, 50, TimeUnit.MILLISECONDS);
+
+		assertTrue(ran.await(10, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,110 @@
+package com.oneops.api.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.FileWriteMode;
+import com.google.common.io.Files;
+import com.oneops.api.OOInstance;
+
+public class TimingStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void estimatesTheMedianOfTheLastSamplesOfTheSameKey() throws Exception {
+		TimingStore store = new TimingStore(null, 3);
+		for(long duration : new long[] { 1000, 90000, 5000, 7000, 6000 }) {
+			store.record(TimingStore.DEPLOYMENT, "app/prod", 4, 20, duration);
+		}
+		assertEquals(6000, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 4, 20));
+		assertEquals(-1, store.estimateMillis(TimingStore.DEPLOYMENT, "app/qa", 4, 20));
+		assertEquals(-1, store.estimateMillis(TimingStore.PROCEDURE, "app/prod", 4, 20));
+	}
+
+	@Test
+	public void fallsBackToTheSameExecOrderThenToTheSameEnvironment() throws Exception {
+		TimingStore store = new TimingStore(null, TimingStore.DEFAULT_SAMPLES);
+		store.record(TimingStore.DEPLOYMENT, "app/prod", 4, 9, 10000);
+		store.record(TimingStore.DEPLOYMENT, "app/prod", 2, 9, 1000);
+		store.record(TimingStore.DEPLOYMENT, "app/prod", 1, 9, 1500);
+		store.record(TimingStore.DEPLOYMENT, "app/qa", 3, 9, 500);
+
+		assertEquals(10000, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 4, 9));
+		assertEquals(20000, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 4, 19));
+		assertEquals(10000, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 4, -1));
+		assertEquals(3000, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 3, 19));
+		assertEquals(500, store.estimateMillis(TimingStore.DEPLOYMENT, "app/qa", 5, 9));
+	}
+
+	@Test
+	public void keepsTheHistoryAcrossOpens() throws Exception {
+		File file = folder.newFile("timings.tsv");
+		TimingStore store = new TimingStore(file, TimingStore.DEFAULT_SAMPLES);
+		store.record(TimingStore.PROCEDURE, "app/prod", 1, 3, 4000);
+		store.record(TimingStore.PROCEDURE, "app\tprod", 1, 3, 8000);
+		store.close();
+		store.record(TimingStore.PROCEDURE, "app/prod", 1, 3, 99000);
+		append(file, "procedure\tapp/prod\tone\t3\t1\t0\ntruncated\n");
+
+		TimingStore reopened = new TimingStore(file, TimingStore.DEFAULT_SAMPLES);
+		assertEquals(4000, reopened.estimateMillis(TimingStore.PROCEDURE, "app/prod", 1, 3));
+		assertEquals(8000, reopened.estimateMillis(TimingStore.PROCEDURE, "app prod", 1, 3));
+		reopened.close();
+	}
+
+	@Test
+	public void compactsTheFileOnOpenToTheKeptSamples() throws Exception {
+		File file = folder.newFile("timings.tsv");
+		StringBuilder lines = new StringBuilder();
+		for(int i = 1; i <= 2000; i++) {
+			lines.append("deployment\tapp/prod\t4\t20\t").append(i).append("\t0\n");
+		}
+		lines.append("deployment\tapp/qa\t4\t20\t50\t0\n");
+		append(file, lines.toString());
+
+		TimingStore store = new TimingStore(file, 4);
+		List<String> compacted = Files.readLines(file, Charsets.UTF_8);
+		assertEquals(5, compacted.size());
+		assertEquals(1999, store.estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 4, 20));
+
+		store.record(TimingStore.DEPLOYMENT, "app/qa", 4, 20, 70);
+		store.close();
+		assertEquals(6, Files.readLines(file, Charsets.UTF_8).size());
+		assertEquals(70, new TimingStore(file, 4).estimateMillis(TimingStore.DEPLOYMENT, "app/qa", 4, 20));
+	}
+
+	@Test
+	public void leavesTheSharedStoreOpenWhenAClientClosesIt() throws Exception {
+		File file = new File(folder.getRoot(), "shared.tsv");
+		OOInstance first = new OOInstance();
+		OOInstance second = new OOInstance();
+		assertNull(TimingStore.forInstance(first));
+		first.setTimingStoreFile(file.getPath());
+		second.setTimingStoreFile(file.getPath());
+
+		TimingStore store = TimingStore.forInstance(first);
+		assertNotNull(store);
+		assertSame(store, TimingStore.forInstance(second));
+		store.close();
+		TimingStore.forInstance(second).record(TimingStore.DEPLOYMENT, "app/prod", 1, 1, 3000);
+
+		assertEquals(3000, new TimingStore(file, 4).estimateMillis(TimingStore.DEPLOYMENT, "app/prod", 1, 1));
+	}
+
+	private static void append(File file, String content) throws IOException {
+		Files.asCharSink(file, Charsets.UTF_8, FileWriteMode.APPEND).write(content);
+	}
+}
@@ -0,0 +1,49 @@
+package com.oneops.api.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void percentilesStayWithinTheBucketPrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for(int millis = 1; millis <= 1000; millis++) {
+			histogram.record(millis, TimeUnit.MILLISECONDS);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertWithin(500, histogram.getPercentileMillis(50));
+		assertWithin(950, histogram.getPercentileMillis(95));
+		assertWithin(990, histogram.getPercentileMillis(99));
+		assertEquals(1000, histogram.getPercentileMillis(100), 0.001);
+		assertEquals(1000, histogram.getMaxMillis(), 0.001);
+		assertEquals(500.5, histogram.getMeanMillis(), 0.001);
+	}
+
+	@Test
+	public void bucketsCoverTheirValues() {
+		for(long micros : new long[] { 0, 1, 15, 16, 17, 1000, 123456, 987654321L }) {
+			int index = LatencyHistogram.index(micros);
+			assertTrue(micros + " above its bucket", micros <= LatencyHistogram.upperBound(index));
+			assertTrue(micros + " below its bucket", index == 0 || micros > LatencyHistogram.upperBound(index - 1));
+		}
+	}
+
+	@Test
+	public void resetForgetsEverything() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(5, TimeUnit.MILLISECONDS);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getPercentileMillis(99), 0);
+		assertEquals(0, histogram.getMaxMillis(), 0);
+	}
+
+	private static void assertWithin(double expected, double actual) {
+		assertTrue("Expected about " + expected + ", got " + actual, Math.abs(actual - expected) <= expected * 0.07);
+	}
+}
@@ -0,0 +1,24 @@
+package com.oneops.api.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RouteTemplatesTest {
+
+	@Test
+	public void replacesIdentifiersByTheirCollectionPlaceholder() {
+		assertEquals("/assemblies/{a}/transition/environments/{e}/deployments/{id}/status",
+				RouteTemplates.of("/assemblies/my-app/transition/environments/qa/deployments/42/status"));
+		assertEquals("/clouds/{cloud}/services/{service}", RouteTemplates.of("/clouds/dal/services/azure"));
+		assertEquals("/clouds/", RouteTemplates.of("/clouds/"));
+		assertEquals("/", RouteTemplates.of(null));
+	}
+
+	@Test
+	public void excludesTheQueryString() {
+		assertEquals("/clouds/{cloud}/services/new", RouteTemplates.of("/clouds/dal/services/new?mgmtCiId=42"));
+		assertEquals("/clouds/{cloud}/services/new", RouteTemplates.of("/clouds/dal/services/new?mgmtCiId=43"));
+		assertEquals("/assemblies/", RouteTemplates.of("/assemblies/?q=app"));
+	}
+}
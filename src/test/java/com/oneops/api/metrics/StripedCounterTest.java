@@ -0,0 +1,40 @@
+package com.oneops.api.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class StripedCounterTest {
+
+	@Test
+	public void sumsTheIncrementsOfAllThreads() throws Exception {
+		final StripedCounter counter = new StripedCounter();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		final CountDownLatch done = new CountDownLatch(8);
+		try {
+			for(int t = 0; t < 8; t++) {
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						for(int i = 0; i < 10000; i++) {
+							counter.increment();
+						}
+						counter.add(5);
+						done.countDown();
+					}
+				});
+			}
+			done.await(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(8 * 10005, counter.sum());
+		counter.reset();
+		assertEquals(0, counter.sum());
+	}
+}
@@ -0,0 +1,62 @@
+package com.oneops.api.resource.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.util.JsonUtil;
+
+public class LazyAttributesTest {
+
+	private static final String CI = "{\"ciId\":7,\"ciName\":\"tomcat\",\"ciAttributes\":{\"description\":\"app server\","
+			+ "\"location\":\"/dal\",\"port\":\"8080\"}}";
+
+	@Test
+	public void decodesWhenTheCallerHoldsTheMonitorOfTheAttributes() throws Exception {
+		CiAttributes attributes = lazy().getCiAttributes();
+		assertFalse(attributes.isDecoded());
+
+		synchronized (attributes) {
+			assertEquals("app server", attributes.getDescription());
+			assertEquals("8080", attributes.getAdditionalProperties().get("port"));
+		}
+		assertTrue(attributes.isDecoded());
+	}
+
+	@Test
+	public void concurrentFirstAccessesSeeTheDecodedValues() throws Exception {
+		final CiAttributes attributes = lazy().getCiAttributes();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> locations = new ArrayList<Future<String>>();
+			for(int i = 0; i < 8; i++) {
+				locations.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() {
+						return attributes.getLocation();
+					}
+				}));
+			}
+			for(Future<String> location : locations) {
+				assertEquals("/dal", location.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static CiResource lazy() throws Exception {
+		return JsonUtil.reader(CiResource.class, ImmutableMap.of(LazyAttributes.LAZY, Boolean.TRUE)).readValue(CI);
+	}
+}
@@ -0,0 +1,147 @@
+package com.oneops.api.resource.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.OOInstance;
+import com.oneops.api.resource.Cloud;
+import com.oneops.api.transport.InMemoryTransport;
+import com.oneops.api.transport.Transports;
+import com.oneops.api.util.JsonUtil;
+import com.oneops.api.util.StringInterner;
+
+public class ModelRoundTripTest {
+
+	private static final Map<String, Object> INTERNED = ImmutableMap.<String, Object>of(StringInterner.ATTRIBUTE, new StringInterner());
+
+	private OOInstance instance;
+
+	@After
+	public void tearDown() {
+		if(instance != null) {
+			Transports.release(instance);
+		}
+	}
+
+	@Test
+	public void tellsAbsentAndNullIdsFromZero() throws Exception {
+		CiResource zero = read(CiResource.class, "{\"ciId\":0,\"nsId\":0,\"created\":0}");
+		CiResource nulls = read(CiResource.class, "{\"ciId\":null,\"nsId\":null,\"created\":null}");
+		CiResource absent = read(CiResource.class, "{}");
+
+		assertEquals(Long.valueOf(0), zero.getCiId());
+		assertEquals(Long.valueOf(0), zero.getNsId());
+		assertEquals(Long.valueOf(0), zero.getCreated());
+		assertNull(nulls.getCiId());
+		assertNull(nulls.getNsId());
+		assertNull(absent.getCiId());
+		assertNull(absent.getCreated());
+
+		assertEquals("{\"ciId\":0,\"created\":0,\"nsId\":0}", write(zero).toString());
+		assertEquals("{}", write(nulls).toString());
+		assertEquals("{}", write(absent).toString());
+	}
+
+	@Test
+	public void roundTripsTheNumericFieldsOfEveryModel() throws Exception {
+		Deployment deployment = read(Deployment.class, "{\"deploymentId\":9007199254740993,\"maxExecOrder\":0,\"flags\":null}");
+		assertEquals(Long.valueOf(9007199254740993L), deployment.getDeploymentId());
+		assertEquals(Integer.valueOf(0), deployment.getMaxExecOrder());
+		assertNull(deployment.getFlags());
+		assertNull(deployment.getReleaseId());
+		assertEquals("{\"deploymentId\":9007199254740993,\"maxExecOrder\":0}", write(deployment).toString());
+
+		Release release = read(Release.class, "{\"releaseId\":2,\"revision\":0}");
+		assertEquals(Integer.valueOf(0), release.getRevision());
+		assertNull(release.getNsId());
+
+		RfcCi rfc = read(RfcCi.class, "{\"rfcId\":-1,\"execOrder\":0}");
+		assertEquals(Long.valueOf(-1), rfc.getRfcId());
+		assertEquals(Long.valueOf(0), rfc.getExecOrder());
+		assertNull(rfc.getCiId());
+
+		Procedure procedure = read(Procedure.class, "{\"procedureId\":0,\"maxExecOrder\":null}");
+		assertEquals(Long.valueOf(0), procedure.getProcedureId());
+		assertNull(procedure.getMaxExecOrder());
+
+		Action action = read(Action.class, "{\"procedureId\":5,\"execOrder\":1}");
+		assertEquals(Long.valueOf(5), action.getProcedureId());
+		assertEquals(Long.valueOf(1), action.getExecOrder());
+		assertNull(action.getCiId());
+	}
+
+	@Test
+	public void settersClearAndSetIds() throws Exception {
+		CiResource ci = read(CiResource.class, "{\"ciId\":7,\"nsId\":3}");
+		ci.setCiId(null);
+		ci.setNsId(0L);
+		assertNull(ci.getCiId());
+		assertEquals(Long.valueOf(0), ci.getNsId());
+		assertEquals("{\"nsId\":0}", write(ci).toString());
+
+		Deployment deployment = new Deployment();
+		assertNull(deployment.getDeploymentId());
+		deployment.setMaxExecOrder(3);
+		assertEquals(Integer.valueOf(3), deployment.getMaxExecOrder());
+	}
+
+	@Test
+	public void sharesInternedStringsAndKeepsSettersPerModel() throws Exception {
+		String json = "{\"ciClassName\":\"manifest.Tomcat\",\"nsPath\":\"/org/app/qa/manifest\",\"createdBy\":\"admin\"}";
+		CiResource first = JsonUtil.reader(CiResource.class, INTERNED).readValue(json);
+		CiResource second = JsonUtil.reader(CiResource.class, INTERNED).readValue(json);
+		assertSame(first.getCiClassName(), second.getCiClassName());
+		assertSame(first.getNsPath(), second.getNsPath());
+		assertSame(first.getCreatedBy(), second.getCreatedBy());
+
+		first.setNsPath("/org/app/prod/manifest");
+		first.setCreatedBy(null);
+		assertEquals("/org/app/prod/manifest", first.getNsPath());
+		assertNull(first.getCreatedBy());
+		assertEquals("/org/app/qa/manifest", second.getNsPath());
+		assertEquals("admin", second.getCreatedBy());
+
+		CiResource plain = read(CiResource.class, json);
+		assertNotSame(second.getNsPath(), plain.getNsPath());
+		assertEquals(second.getNsPath(), plain.getNsPath());
+	}
+
+	@Test
+	public void internsOnlyWhenEnabledOnTheInstance() throws Exception {
+		InMemoryTransport server = new InMemoryTransport().respond("GET", "/clouds/", 200,
+				"[{\"ciId\":1,\"nsPath\":\"/org/_clouds\"},{\"ciId\":2,\"nsPath\":\"/org/_clouds\"}]");
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(server);
+		assertFalse(instance.isStringInterningEnabled());
+
+		List<CiResource> clouds = new Cloud(instance).listClouds();
+		assertNotSame(clouds.get(0).getNsPath(), clouds.get(1).getNsPath());
+
+		instance.setStringInterningEnabled(true);
+		clouds = new Cloud(instance).listClouds();
+		assertSame(clouds.get(0).getNsPath(), clouds.get(1).getNsPath());
+		assertEquals(Long.valueOf(2), clouds.get(1).getCiId());
+	}
+
+	private static <T> T read(Class<T> type, String json) throws Exception {
+		return JsonUtil.reader(type).readValue(json);
+	}
+
+	private static JsonNode write(Object model) throws Exception {
+		return JsonUtil.mapper().readTree(JsonUtil.writer().writeValueAsString(model));
+	}
+}
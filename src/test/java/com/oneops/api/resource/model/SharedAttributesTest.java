@@ -0,0 +1,86 @@
+package com.oneops.api.resource.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+public class SharedAttributesTest {
+
+	@Test
+	public void entryViewWritesCopyTheMapWithoutChangingTheSharedOne() {
+		SharedAttributes pool = new SharedAttributes();
+		Map<String, Object> first = pool.share(tomcat("8080"));
+		Map<String, Object> second = pool.share(tomcat("8080"));
+		assertTrue(second instanceof SharedAttributeMap);
+
+		for(Entry<String, Object> entry : second.entrySet()) {
+			if(entry.getKey().equals("port")) {
+				assertEquals("8080", entry.setValue("9090"));
+			}
+		}
+		assertEquals("9090", second.get("port"));
+		assertFalse(((SharedAttributeMap) second).isShared());
+		assertEquals("8080", first.get("port"));
+	}
+
+	@Test
+	public void viewRemovalsCopyTheMapWithoutChangingTheSharedOne() {
+		SharedAttributes pool = new SharedAttributes();
+		Map<String, Object> first = pool.share(tomcat("8080"));
+		Map<String, Object> second = pool.share(tomcat("8080"));
+		Map<String, Object> third = pool.share(tomcat("8443"));
+
+		Iterator<Entry<String, Object>> entries = second.entrySet().iterator();
+		while(entries.hasNext()) {
+			if(entries.next().getKey().equals("port")) {
+				entries.remove();
+			}
+		}
+		assertFalse(second.containsKey("port"));
+		assertEquals(4, second.size());
+
+		assertTrue(third.keySet().remove("version"));
+		assertTrue(third.values().remove("8443"));
+		assertEquals(3, third.size());
+
+		assertEquals(5, first.size());
+		assertEquals("8080", first.get("port"));
+	}
+
+	@Test
+	public void reElectsTheSharedMapWhenTheFirstOneIsAnOutlier() {
+		SharedAttributes pool = new SharedAttributes();
+		Map<String, Object> outlier = new HashMap<String, Object>();
+		outlier.put("install_dir", "/opt");
+		outlier.put("java", "6");
+		outlier.put("port", "1");
+		outlier.put("user", "root");
+		outlier.put("version", "6.0");
+		pool.share(outlier);
+
+		pool.share(tomcat("8080"));
+		pool.share(tomcat("8080"));
+		for(int i = 0; i < 10; i++) {
+			Map<String, Object> shared = pool.share(tomcat("8080"));
+			assertTrue(shared instanceof SharedAttributeMap);
+			assertEquals(tomcat("8080"), shared);
+		}
+	}
+
+	private static Map<String, Object> tomcat(String port) {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+		attributes.put("install_dir", "/app");
+		attributes.put("java", "8");
+		attributes.put("port", port);
+		attributes.put("user", "app");
+		attributes.put("version", "8.5");
+		return attributes;
+	}
+}
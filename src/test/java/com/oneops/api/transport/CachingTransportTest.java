@@ -0,0 +1,108 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+
+public class CachingTransportTest {
+
+	private InMemoryTransport server;
+	private CachingTransport transport;
+
+	@Before
+	public void setUp() {
+		server = new InMemoryTransport()
+				.respond("GET", "/assemblies/", 200, "[{\"ciName\":\"app\"}]")
+				.respond("GET", "/assemblies/app/design/platforms", 200, "[{\"ciName\":\"tomcat\"}]")
+				.respond("GET", "/assemblies/app2/design/platforms", 200, "[{\"ciName\":\"nginx\"}]")
+				.respond("GET", "/clouds/", 200, "[{\"ciName\":\"dal\"}]")
+				.respond("POST", "/assemblies/app/design/platforms", 200, "{\"ciName\":\"apache\"}");
+		transport = new CachingTransport(server, 60000, null, 1024 * 1024);
+	}
+
+	@Test
+	public void namespaceIsTheFirstTwoSegments() {
+		assertEquals("/assemblies/app", CachingTransport.namespace("/assemblies/app/design/platforms/tomcat"));
+		assertEquals("/assemblies/app", CachingTransport.namespace("/assemblies/app"));
+		assertEquals("/assemblies", CachingTransport.namespace("/assemblies"));
+		assertEquals("/clouds/", CachingTransport.namespace("/clouds/"));
+	}
+
+	@Test
+	public void isWithinMatchesWholeSegmentsOnly() {
+		assertTrue(CachingTransport.isWithin("/assemblies/app", "/assemblies/app"));
+		assertTrue(CachingTransport.isWithin("/assemblies/app/design", "/assemblies/app"));
+		assertTrue(CachingTransport.isWithin("/assemblies/app", "/assemblies/"));
+		assertFalse(CachingTransport.isWithin("/assemblies/app2/design", "/assemblies/app"));
+		assertFalse(CachingTransport.isWithin("/assemblies", "/assemblies/app"));
+	}
+
+	@Test
+	public void writesInvalidateTheirNamespaceAndParentCollectionsOnly() throws Exception {
+		get("/assemblies/");
+		get("/assemblies/app/design/platforms");
+		get("/assemblies/app2/design/platforms");
+		get("/clouds/");
+		assertEquals(4, server.getRequests().size());
+		get("/assemblies/app/design/platforms");
+		assertEquals(4, server.getRequests().size());
+
+		transport.execute(request("POST", "/assemblies/app/design/platforms"));
+		assertEquals(5, server.getRequests().size());
+
+		get("/assemblies/app2/design/platforms");
+		get("/clouds/");
+		assertEquals(5, server.getRequests().size());
+		get("/assemblies/app/design/platforms");
+		get("/assemblies/");
+		assertEquals(7, server.getRequests().size());
+	}
+
+	@Test
+	public void doesNotCacheReadsOverlappingAWrite() throws Exception {
+		server.latency(300, TimeUnit.MILLISECONDS);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<OneOpsResponse> read = executor.submit(new Callable<OneOpsResponse>() {
+				@Override
+				public OneOpsResponse call() throws Exception {
+					return transport.execute(request("GET", "/clouds/"));
+				}
+			});
+			Thread.sleep(100);
+			transport.execute(request("POST", "/assemblies/app/design/platforms"));
+			assertEquals(200, read.get(10, TimeUnit.SECONDS).getStatusCode());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		server.latency(0, TimeUnit.MILLISECONDS);
+		get("/clouds/");
+		assertEquals(3, server.getRequests().size());
+		get("/clouds/");
+		assertEquals(3, server.getRequests().size());
+	}
+
+	private void get(String path) throws Exception {
+		OneOpsResponse response = transport.execute(request("GET", path));
+		assertEquals(200, response.getStatusCode());
+	}
+
+	private static TransportRequest request(String method, String path) {
+		return new TransportRequest(method, "http://localhost", path, ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), "POST".equals(method) ? "{}".getBytes(Charsets.UTF_8) : null);
+	}
+}
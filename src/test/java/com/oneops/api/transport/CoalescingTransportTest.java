@@ -0,0 +1,196 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+
+public class CoalescingTransportTest {
+
+	private GatedTransport server;
+	private CoalescingTransport transport;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		server = new GatedTransport();
+		transport = new CoalescingTransport(server);
+		executor = Executors.newFixedThreadPool(8);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void followersShareTheResponseOfTheCallInFlight() throws Exception {
+		server.hold("GET /clouds/");
+		List<Future<OneOpsResponse>> calls = new ArrayList<Future<OneOpsResponse>>();
+		for(int i = 0; i < 4; i++) {
+			calls.add(submit("GET", "/clouds/"));
+		}
+		awaitSaved(3);
+		server.release("GET /clouds/");
+
+		OneOpsResponse first = calls.get(0).get(10, TimeUnit.SECONDS);
+		for(Future<OneOpsResponse> call : calls) {
+			assertSame(first, call.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(1, server.requests.size());
+		assertEquals(3, transport.getStats().getSavedCalls("/clouds/"));
+
+		transport.execute(request("GET", "/clouds/"));
+		assertEquals(2, server.requests.size());
+	}
+
+	@Test
+	public void followersGetTheFailureOfTheCallInFlight() throws Exception {
+		server.hold("GET /clouds/");
+		server.failing = true;
+		List<Future<OneOpsResponse>> calls = new ArrayList<Future<OneOpsResponse>>();
+		for(int i = 0; i < 3; i++) {
+			calls.add(submit("GET", "/clouds/"));
+		}
+		awaitSaved(2);
+		server.release("GET /clouds/");
+
+		for(Future<OneOpsResponse> call : calls) {
+			try {
+				call.get(10, TimeUnit.SECONDS);
+				fail("Expected the failure of the call in flight");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof IOException);
+				assertEquals("connection reset", e.getCause().getMessage());
+			}
+		}
+		assertEquals(1, server.requests.size());
+	}
+
+	@Test
+	public void writesStopOnlyOverlappingCallsFromBeingJoined() throws Exception {
+		server.hold("GET /assemblies/app/design/platforms");
+		server.hold("GET /clouds/");
+		Future<OneOpsResponse> platforms = submit("GET", "/assemblies/app/design/platforms");
+		Future<OneOpsResponse> clouds = submit("GET", "/clouds/");
+		awaitRequests(2);
+
+		transport.execute(request("POST", "/assemblies/app/design/platforms"));
+
+		Future<OneOpsResponse> platformsAfterWrite = submit("GET", "/assemblies/app/design/platforms");
+		Future<OneOpsResponse> cloudsAfterWrite = submit("GET", "/clouds/");
+		awaitRequests(4);
+		awaitSaved(1);
+		server.release("GET /assemblies/app/design/platforms");
+		server.release("GET /clouds/");
+
+		assertEquals(200, platforms.get(10, TimeUnit.SECONDS).getStatusCode());
+		assertEquals(200, platformsAfterWrite.get(10, TimeUnit.SECONDS).getStatusCode());
+		assertSame(clouds.get(10, TimeUnit.SECONDS), cloudsAfterWrite.get(10, TimeUnit.SECONDS));
+		assertEquals(0, transport.getStats().getSavedCalls("/assemblies/app/design/platforms"));
+		assertEquals(1, transport.getStats().getSavedCalls("/clouds/"));
+	}
+
+	@Test
+	public void doesNotCoalesceWrites() throws Exception {
+		server.hold("POST /assemblies/");
+		Future<OneOpsResponse> first = submit("POST", "/assemblies/");
+		Future<OneOpsResponse> second = submit("POST", "/assemblies/");
+		awaitRequests(2);
+		server.release("POST /assemblies/");
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+		assertEquals(0, transport.getStats().getSavedCalls());
+	}
+
+	private Future<OneOpsResponse> submit(final String method, final String path) {
+		return executor.submit(new Callable<OneOpsResponse>() {
+			@Override
+			public OneOpsResponse call() throws IOException {
+				return transport.execute(request(method, path));
+			}
+		});
+	}
+
+	private void awaitSaved(long saved) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while(transport.getStats().getSavedCalls() < saved && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(saved, transport.getStats().getSavedCalls());
+	}
+
+	private void awaitRequests(int requests) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10000;
+		while(server.requests.size() < requests && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(requests, server.requests.size());
+	}
+
+	private static TransportRequest request(String method, String path) {
+		return new TransportRequest(method, "http://localhost", path, ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), "GET".equals(method) ? null : "{}".getBytes(Charsets.UTF_8));
+	}
+
+	/**
+	 * Answers every call with a new response, holding the calls of a method to a path until they are released
+	 */
+	private static class GatedTransport implements OneOpsTransport {
+
+		private final List<TransportRequest> requests = new CopyOnWriteArrayList<TransportRequest>();
+		private final Map<String, CountDownLatch> gates = new ConcurrentHashMap<String, CountDownLatch>();
+		private volatile boolean failing;
+
+		void hold(String call) {
+			gates.put(call, new CountDownLatch(1));
+		}
+
+		void release(String call) {
+			gates.remove(call).countDown();
+		}
+
+		@Override
+		public OneOpsResponse execute(TransportRequest request) throws IOException {
+			requests.add(request);
+			CountDownLatch gate = gates.get(request.getMethod() + " " + request.getPath());
+			if(gate != null) {
+				try {
+					gate.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if(failing) {
+				throw new IOException("connection reset");
+			}
+			return new OneOpsResponse(200, "HTTP/1.1 200", null, new ResponseBody("{}".getBytes(Charsets.UTF_8), Charsets.UTF_8));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
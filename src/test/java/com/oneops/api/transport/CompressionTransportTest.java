@@ -0,0 +1,136 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+
+public class CompressionTransportTest {
+
+	private static final byte[] BODY = "{\"cms_dj_ci\":{\"ciName\":\"tomcat\"}}".getBytes(Charsets.UTF_8);
+
+	@Test
+	public void replaysUncompressedAndDisablesCompressionOn415() throws IOException {
+		RecordingTransport server = new RecordingTransport(false, 415);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+
+		assertEquals(200, transport.execute(post()).getStatusCode());
+		assertEquals(2, server.requests.size());
+		assertEquals("gzip", server.requests.get(0).getHeader("Content-Encoding"));
+		assertNull(server.requests.get(1).getHeader("Content-Encoding"));
+
+		transport.execute(post());
+		assertEquals(3, server.requests.size());
+		assertNull(server.requests.get(2).getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void replaysUncompressedAndDisablesCompressionOnFirst400() throws IOException {
+		RecordingTransport server = new RecordingTransport(false, 400);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+
+		assertEquals(200, transport.execute(put()).getStatusCode());
+		assertEquals(2, server.requests.size());
+		assertNull(server.requests.get(1).getHeader("Content-Encoding"));
+
+		transport.execute(put());
+		assertEquals(3, server.requests.size());
+		assertNull(server.requests.get(2).getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void keepsCompressionWhenTheUncompressedReplayIsRejectedToo() throws IOException {
+		RecordingTransport server = new RecordingTransport(true, 400);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+
+		assertEquals(400, transport.execute(put()).getStatusCode());
+		assertEquals(2, server.requests.size());
+
+		transport.execute(put());
+		assertEquals("gzip", server.requests.get(2).getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void doesNotReplay400OnceCompressedBodiesWereAccepted() throws IOException {
+		RecordingTransport server = new RecordingTransport(false, 200);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+		transport.execute(post());
+
+		server.compressedStatus = 400;
+		assertEquals(400, transport.execute(post()).getStatusCode());
+		assertEquals(2, server.requests.size());
+		assertEquals("gzip", server.requests.get(1).getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void doesNotReplayPostsRejectedWith400() throws IOException {
+		RecordingTransport server = new RecordingTransport(false, 400);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+
+		assertEquals(400, transport.execute(post()).getStatusCode());
+		assertEquals(1, server.requests.size());
+		assertEquals("gzip", server.requests.get(0).getHeader("Content-Encoding"));
+
+		assertEquals(200, transport.execute(post()).getStatusCode());
+		assertEquals(2, server.requests.size());
+		assertNull(server.requests.get(1).getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void replaysRetrySafePostsRejectedWith400() throws IOException {
+		RecordingTransport server = new RecordingTransport(false, 400);
+		CompressionTransport transport = new CompressionTransport(server, false, 0);
+
+		assertEquals(200, transport.execute(new TransportRequest("POST", "http://localhost",
+				"/org/assemblies/", ArrayListMultimap.<String, String>create(), Collections.<String, String>emptyMap(), BODY, true)).getStatusCode());
+		assertEquals(2, server.requests.size());
+		assertNull(server.requests.get(1).getHeader("Content-Encoding"));
+	}
+
+	private static TransportRequest post() {
+		return request("POST");
+	}
+
+	private static TransportRequest put() {
+		return request("PUT");
+	}
+
+	private static TransportRequest request(String method) {
+		return new TransportRequest(method, "http://localhost", "/org/assemblies/", ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), BODY);
+	}
+
+	/**
+	 * Answers compressed requests with a given status, and uncompressed ones with 200 or 400
+	 */
+	private static class RecordingTransport implements OneOpsTransport {
+
+		private final List<TransportRequest> requests = new ArrayList<TransportRequest>();
+		private final boolean rejectUncompressed;
+		private int compressedStatus;
+
+		RecordingTransport(boolean rejectUncompressed, int compressedStatus) {
+			this.rejectUncompressed = rejectUncompressed;
+			this.compressedStatus = compressedStatus;
+		}
+
+		@Override
+		public OneOpsResponse execute(TransportRequest request) {
+			requests.add(request);
+			int status = request.getHeader("Content-Encoding") != null ? compressedStatus : rejectUncompressed ? 400 : 200;
+			return new OneOpsResponse(status, "HTTP/1.1 " + status, null, new ResponseBody("{}".getBytes(Charsets.UTF_8), Charsets.UTF_8));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
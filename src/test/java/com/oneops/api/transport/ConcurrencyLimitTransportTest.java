@@ -0,0 +1,49 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.oneops.api.OOInstance;
+
+public class ConcurrencyLimitTransportTest {
+
+	@Test
+	public void slowRoutesDoNotCutTheLimitOfFastOnes() throws Exception {
+		AimdLimiter limiter = new AimdLimiter("test", 8, 1, 64);
+		limiter.onSuccess("/clouds", limiter.acquire());
+		long start = limiter.acquire();
+		Thread.sleep(50);
+		limiter.onSuccess("/assemblies/{a}/transition/environments/{e}/bom", start);
+		assertTrue(limiter.getLimit() >= 8);
+		assertTrue(limiter.getBaselineMillis("/assemblies/{a}/transition/environments/{e}/bom") >= 50);
+		assertTrue(limiter.getBaselineMillis("/clouds") < 50);
+
+		start = limiter.acquire();
+		Thread.sleep(50);
+		limiter.onSuccess("/clouds", start);
+		assertEquals(7, limiter.getLimit());
+	}
+
+	@Test
+	public void orgLimitersAreSharedByTheInstancesOfAnOrg() {
+		OOInstance first = instance("shared-org");
+		ConcurrencyLimitTransport one = new ConcurrencyLimitTransport(new InMemoryTransport(), first);
+		ConcurrencyLimitTransport two = new ConcurrencyLimitTransport(new InMemoryTransport(), instance("shared-org"));
+		ConcurrencyLimitTransport other = new ConcurrencyLimitTransport(new InMemoryTransport(), instance("other-org"));
+
+		assertSame(one.getOrgLimiter(), two.getOrgLimiter());
+		assertNotSame(one.getOrgLimiter(), other.getOrgLimiter());
+		assertSame(one.getEndpointLimiter(), other.getEndpointLimiter());
+	}
+
+	private static OOInstance instance(String org) {
+		OOInstance instance = new OOInstance();
+		instance.setEndpoint("http://limits.test:9090/");
+		instance.setOrgname(org);
+		return instance;
+	}
+}
@@ -0,0 +1,123 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.metrics.RouteTemplates;
+
+public class ConditionalTransportTest {
+
+	private static final String ZONES = "[{\"ciName\":\"zone-1\"},{\"ciName\":\"zone-2\"}]";
+	private static final TypeReference<List<Map<String, Object>>> LIST = new TypeReference<List<Map<String, Object>>>() {};
+
+	@Test
+	public void decodesRevalidatedBodiesAgainForEveryCaller() throws Exception {
+		ValidatingTransport server = new ValidatingTransport(false);
+		ConditionalTransport transport = new ConditionalTransport(server, null, 1024 * 1024);
+
+		List<Map<String, Object>> first = transport.execute(get("/clouds/dal/zones")).getBody().as(LIST);
+		first.clear();
+		OneOpsResponse revalidated = transport.execute(get("/clouds/dal/zones"));
+		List<Map<String, Object>> second = revalidated.getBody().as(LIST);
+		List<Map<String, Object>> third = revalidated.getBody().as(LIST);
+
+		assertEquals("\"v1\"", server.requests.get(1).getHeader("If-None-Match"));
+		assertEquals(1, transport.getStats().getNotModified());
+		assertEquals(2, second.size());
+		assertEquals("zone-1", second.get(0).get("ciName"));
+		assertNotSame(second, third);
+	}
+
+	@Test
+	public void keepsGzippedBodiesInflatedAndCountsTheirWireBytes() throws Exception {
+		ValidatingTransport server = new ValidatingTransport(true);
+		ConditionalTransport transport = new ConditionalTransport(server, null, 1024 * 1024);
+
+		OneOpsResponse stored = transport.execute(get("/clouds/dal/zones"));
+		OneOpsResponse revalidated = transport.execute(get("/clouds/dal/zones"));
+		assertEquals(false, revalidated.getBody().isGzipped());
+		assertEquals(ZONES, revalidated.getBody().asString());
+		assertEquals(gzip(ZONES).length, transport.getStats().getBytesSaved());
+		assertEquals(stored.getBody().asString(), revalidated.getBody().asString());
+	}
+
+	@Test
+	public void doesNotRevalidateTheCloudServicesDiff() throws Exception {
+		assertEquals("/clouds/{cloud}/services/diff", RouteTemplates.of("/clouds/dal/services/diff"));
+		ValidatingTransport server = new ValidatingTransport(false);
+		ConditionalTransport transport = new ConditionalTransport(server, null, 1024 * 1024);
+
+		transport.execute(get("/clouds/dal/services/diff"));
+		transport.execute(get("/clouds/dal/services/diff"));
+		assertNull(server.requests.get(1).getHeader("If-None-Match"));
+		assertEquals(0, transport.getStats().getNotModified());
+	}
+
+	@Test
+	public void doesNotRevalidateTheNewCloudServiceTemplate() throws Exception {
+		ValidatingTransport server = new ValidatingTransport(false);
+		ConditionalTransport transport = new ConditionalTransport(server, null, 1024 * 1024);
+
+		transport.execute(get("/clouds/dal/services/new?mgmtCiId=42"));
+		transport.execute(get("/clouds/dal/services/new?mgmtCiId=42"));
+		assertNull(server.requests.get(1).getHeader("If-None-Match"));
+	}
+
+	private static TransportRequest get(String path) {
+		return new TransportRequest("GET", "http://localhost", path, ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), null);
+	}
+
+	private static byte[] gzip(String json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		gzip.write(json.getBytes(Charsets.UTF_8));
+		gzip.close();
+		return out.toByteArray();
+	}
+
+	/**
+	 * Answers with an ETag, and 304 to calls sending it back
+	 */
+	private static class ValidatingTransport implements OneOpsTransport {
+
+		private final List<TransportRequest> requests = new ArrayList<TransportRequest>();
+		private final boolean gzipped;
+
+		ValidatingTransport(boolean gzipped) {
+			this.gzipped = gzipped;
+		}
+
+		@Override
+		public OneOpsResponse execute(TransportRequest request) throws IOException {
+			requests.add(request);
+			Map<String, List<String>> headers = ImmutableMap.<String, List<String>>of("ETag", ImmutableList.of("\"v1\""));
+			if("\"v1\"".equals(request.getHeader("If-None-Match"))) {
+				return new OneOpsResponse(304, "HTTP/1.1 304", headers, new ResponseBody(null, null));
+			}
+			ResponseBody body = gzipped ? new ResponseBody(gzip(ZONES), Charsets.UTF_8, true)
+					: new ResponseBody(ZONES.getBytes(Charsets.UTF_8), Charsets.UTF_8);
+			return new OneOpsResponse(200, "HTTP/1.1 200", headers, body);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+import com.oneops.api.metrics.RouteTemplates;
+
+public class HedgingTransportTest {
+
+	private static final String FAST = "/clouds/";
+	private static final String SLOW = "/assemblies/app";
+
+	private ExecutorService executor;
+	private SlowTransport server;
+	private HedgingTransport transport;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+		server = new SlowTransport();
+		transport = new HedgingTransport(server, executor, 100, 1);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void sendsCallsThatCannotBeHedgedOnTheCallingThread() throws IOException {
+		for(int i = 0; i < 20; i++) {
+			transport.execute(get(FAST));
+		}
+		for(String thread : server.threads) {
+			assertEquals(Thread.currentThread().getName(), thread);
+		}
+	}
+
+	@Test
+	public void derivesTheHedgeDelayOfEachRouteFromItsOwnLatencies() throws IOException {
+		warmUp();
+		HedgingStats stats = transport.getStats();
+		assertTrue(stats.getDelayMillis(RouteTemplates.of(SLOW)) >= 20);
+		assertTrue("Expected the fast route not to wait for the slow one, got " + stats,
+				stats.getDelayMillis(RouteTemplates.of(FAST)) < 20);
+	}
+
+	@Test
+	public void hedgesSlowCallsOfAFastRoute() throws IOException {
+		warmUp();
+		server.stallNext.set(1);
+		long start = System.nanoTime();
+		assertEquals(200, transport.execute(get(FAST)).getStatusCode());
+
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+		assertEquals(1, transport.getStats().getHedges());
+		assertEquals(1, transport.getStats().getHedgeWins());
+		server.release.countDown();
+	}
+
+	@Test
+	public void sendsTheCallItselfWhenNoThreadOfTheExecutorIsFree() throws Exception {
+		warmUp();
+		final CountDownLatch busy = new CountDownLatch(1);
+		for(int i = 0; i < 4; i++) {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						busy.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			});
+		}
+		server.threads.clear();
+		try {
+			assertEquals(200, transport.execute(get(FAST)).getStatusCode());
+			assertEquals(Collections.singletonList(Thread.currentThread().getName()), server.threads);
+			assertEquals(0, transport.getStats().getHedges());
+		} finally {
+			busy.countDown();
+		}
+	}
+
+	private void warmUp() throws IOException {
+		for(int i = 0; i < 32; i++) {
+			transport.execute(get(FAST));
+			transport.execute(get(SLOW));
+		}
+	}
+
+	private static TransportRequest get(String path) {
+		return new TransportRequest("GET", "http://localhost", path, ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), null);
+	}
+
+	/**
+	 * Answers the slow route in 25 ms and the fast one at once, unless told to stall the next fast calls
+	 */
+	private static class SlowTransport implements OneOpsTransport {
+
+		private final List<String> threads = new CopyOnWriteArrayList<String>();
+		private final AtomicInteger stallNext = new AtomicInteger();
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public OneOpsResponse execute(TransportRequest request) throws IOException {
+			threads.add(Thread.currentThread().getName());
+			try {
+				if(SLOW.equals(request.getPath())) {
+					Thread.sleep(25);
+				} else if(stallNext.getAndDecrement() > 0) {
+					release.await(10, TimeUnit.SECONDS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			return new OneOpsResponse(200, "HTTP/1.1 200", null, new ResponseBody("{}".getBytes(Charsets.UTF_8), Charsets.UTF_8));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
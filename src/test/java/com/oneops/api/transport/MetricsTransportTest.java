@@ -0,0 +1,104 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.oneops.api.OOInstance;
+import com.oneops.api.metrics.CallMetrics;
+import com.oneops.api.metrics.MetricsListener;
+import com.oneops.api.metrics.MetricsRegistry;
+import com.oneops.api.metrics.RouteMetrics;
+
+public class MetricsTransportTest {
+
+	@Test
+	public void recordsCallsPerMethodAndRoute() throws Exception {
+		InMemoryTransport server = new InMemoryTransport()
+				.respond("GET", "/clouds/dal/zones", 200, "[{\"ciName\":\"zone-1\"}]")
+				.respond("GET", "/clouds/dal/services/new", 200, "{}");
+		MetricsRegistry registry = new MetricsRegistry();
+		final List<CallMetrics> calls = new CopyOnWriteArrayList<CallMetrics>();
+		registry.addListener(new MetricsListener() {
+			@Override
+			public void onCall(CallMetrics call) {
+				calls.add(call);
+			}
+		});
+		MetricsTransport transport = new MetricsTransport(server, registry);
+
+		transport.execute(get("/clouds/dal/zones"));
+		transport.execute(get("/clouds/phx/zones"));
+		transport.execute(get("/clouds/dal/services/new?mgmtCiId=42"));
+
+		RouteMetrics zones = registry.getRouteMetrics("GET /clouds/{cloud}/zones");
+		assertEquals(2, zones.getCalls());
+		assertEquals(1, zones.getErrors());
+		assertEquals(Long.valueOf(1), zones.getStatusCodes().get(200));
+		assertEquals(Long.valueOf(1), zones.getStatusCodes().get(404));
+		assertEquals("[{\"ciName\":\"zone-1\"}]".length(), zones.getResponseBytes());
+		assertEquals(1, registry.getRouteMetrics("GET /clouds/{cloud}/services/new").getCalls());
+		assertEquals(3, registry.getTotalCalls());
+		assertEquals(3, calls.size());
+	}
+
+	@Test
+	public void recordsCallsFailingWithoutResponse() {
+		MetricsRegistry registry = new MetricsRegistry();
+		MetricsTransport transport = new MetricsTransport(new OneOpsTransport() {
+			@Override
+			public OneOpsResponse execute(TransportRequest request) throws IOException {
+				throw new IOException("connection refused");
+			}
+
+			@Override
+			public void close() {
+			}
+		}, registry);
+
+		try {
+			transport.execute(get("/clouds/"));
+			fail("Expected the failure of the call");
+		} catch (IOException e) {
+			assertEquals("connection refused", e.getMessage());
+		}
+		RouteMetrics clouds = registry.getRouteMetrics("GET /clouds/");
+		assertEquals(1, clouds.getFailures());
+		assertEquals(1, clouds.getErrors());
+		assertEquals(1, clouds.getLatency().getCount());
+	}
+
+	@Test
+	public void doesNotRecordResponsesServedFromTheCache() throws Exception {
+		InMemoryTransport server = new InMemoryTransport().respond("GET", "/clouds/", 200, "[]");
+		OOInstance instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(server);
+		instance.setResponseCacheEnabled(true);
+		try {
+			for(int i = 0; i < 3; i++) {
+				Transports.createRequest(instance).get("/clouds/");
+			}
+			RouteMetrics clouds = Transports.getMetrics(instance).getRouteMetrics("GET /clouds/");
+			assertEquals(1, clouds.getCalls());
+			assertEquals(2, Transports.getResponseCacheStats(instance).getHits());
+			assertEquals(1, clouds.getLatency().getCount());
+		} finally {
+			Transports.release(instance);
+		}
+	}
+
+	private static TransportRequest get(String path) {
+		return new TransportRequest("GET", "http://localhost", path, ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), null);
+	}
+}
@@ -0,0 +1,121 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ArrayListMultimap;
+import com.oneops.api.transport.CircuitBreaker.State;
+
+public class ResilienceTransportTest {
+
+	@Test
+	public void probeThrowingRuntimeExceptionOpensTheCircuitAgain() throws Exception {
+		ScriptedTransport server = new ScriptedTransport();
+		ResilienceTransport transport = open("http://probe-runtime.test/", server);
+
+		server.next = new IllegalStateException("broken probe");
+		try {
+			transport.execute(get());
+			fail("Expected the probe failure to be rethrown");
+		} catch (IllegalStateException e) {
+			assertEquals(State.OPEN, transport.getCircuitBreaker().getState());
+		}
+		assertProbedAgainAfterOpenTime(transport, server);
+	}
+
+	@Test
+	public void interruptedProbeOpensTheCircuitAgain() throws Exception {
+		ScriptedTransport server = new ScriptedTransport();
+		ResilienceTransport transport = open("http://probe-interrupted.test/", server);
+
+		server.next = new InterruptedIOException("interrupted probe");
+		try {
+			transport.execute(get());
+			fail("Expected the interruption to be rethrown");
+		} catch (InterruptedIOException e) {
+			assertEquals(State.OPEN, transport.getCircuitBreaker().getState());
+		}
+		assertProbedAgainAfterOpenTime(transport, server);
+	}
+
+	@Test
+	public void throttledProbeOpensTheCircuitAgain() throws Exception {
+		ScriptedTransport server = new ScriptedTransport();
+		ResilienceTransport transport = open("http://probe-throttled.test/", server);
+
+		server.status = 429;
+		assertEquals(429, transport.execute(get()).getStatusCode());
+		assertEquals(State.OPEN, transport.getCircuitBreaker().getState());
+		assertProbedAgainAfterOpenTime(transport, server);
+	}
+
+	/**
+	 * Opens the circuit of a new endpoint with one failure, and waits for the open time to elapse
+	 */
+	private static ResilienceTransport open(String endpoint, ScriptedTransport server) throws Exception {
+		RetryPolicy policy = new RetryPolicy();
+		policy.setMaxAttempts(1);
+		policy.setRetryableStatusCodes(Arrays.asList(429, 503));
+		policy.setCircuitFailureThreshold(1);
+		policy.setCircuitOpenMillis(20);
+		ResilienceTransport transport = new ResilienceTransport(server, endpoint, policy);
+
+		server.status = 503;
+		transport.execute(get());
+		assertEquals(State.OPEN, transport.getCircuitBreaker().getState());
+		Thread.sleep(30);
+		return transport;
+	}
+
+	private static void assertProbedAgainAfterOpenTime(ResilienceTransport transport, ScriptedTransport server) throws Exception {
+		try {
+			transport.execute(get());
+			fail("Expected the circuit to stay open until the open time elapsed");
+		} catch (CircuitOpenException e) {
+			//expected
+		}
+		Thread.sleep(30);
+		server.status = 200;
+		assertEquals(200, transport.execute(get()).getStatusCode());
+		assertEquals(State.CLOSED, transport.getCircuitBreaker().getState());
+	}
+
+	private static TransportRequest get() {
+		return new TransportRequest("GET", "http://localhost", "/org/clouds/", ArrayListMultimap.<String, String>create(),
+				Collections.<String, String>emptyMap(), null);
+	}
+
+	/**
+	 * Throws the next exception set once, answers with the current status otherwise
+	 */
+	private static class ScriptedTransport implements OneOpsTransport {
+
+		private Exception next;
+		private int status = 200;
+
+		@Override
+		public OneOpsResponse execute(TransportRequest request) throws IOException {
+			Exception thrown = next;
+			next = null;
+			if(thrown instanceof IOException) {
+				throw (IOException) thrown;
+			}
+			if(thrown != null) {
+				throw (RuntimeException) thrown;
+			}
+			return new OneOpsResponse(status, "HTTP/1.1 " + status, null, new ResponseBody("{}".getBytes(Charsets.UTF_8), Charsets.UTF_8));
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.OOInstance;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Cloud;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.util.JsonUtil;
+
+public class ResponseBodyTest {
+
+	private static final String CLOUDS = "[{\"ciId\":11,\"ciName\":\"dal\",\"ciAttributes\":{\"location\":\"/dal\"}},"
+			+ "{\"ciId\":12,\"ciName\":\"sjc\",\"ciState\":\"default\",\"ciAttributes\":{\"location\":\"/sjc\"}}]";
+	private static final ImmutableMap<String, List<String>> JSON_HEADERS =
+			ImmutableMap.<String, List<String>>of("Content-Type", ImmutableList.of("application/json"));
+
+	private OOInstance instance;
+
+	@After
+	public void tearDown() {
+		if(instance != null) {
+			Transports.release(instance);
+		}
+	}
+
+	@Test
+	public void decodesListsFromTheStreamAsFromTheString() throws Exception {
+		ResponseBody body = new ResponseBody(CLOUDS.getBytes(Charsets.UTF_8), Charsets.UTF_8);
+
+		List<CiResource> streamed = body.as(new TypeReference<List<CiResource>>(){});
+		List<CiResource> buffered = JsonUtil.toObject(body.asString(), new TypeReference<List<CiResource>>(){});
+
+		assertClouds(streamed);
+		assertEquals(JsonUtil.writer().writeValueAsString(buffered), JsonUtil.writer().writeValueAsString(streamed));
+	}
+
+	@Test
+	public void decodesGzippedListsWhileInflating() throws Exception {
+		ResponseBody body = new ResponseBody(gzip(CLOUDS), Charsets.UTF_8, true);
+		assertTrue(body.isGzipped());
+		assertEquals(CLOUDS.length(), body.decodedLength());
+
+		assertClouds(body.as(new TypeReference<List<CiResource>>(){}));
+		assertEquals(CLOUDS, body.asString());
+	}
+
+	@Test
+	public void decodesGzippedListsLargerThanTheInflateBuffer() throws Exception {
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < 2000; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"ciId\":").append(i).append(",\"ciName\":\"platform-").append(i).append("\"}");
+		}
+		String large = json.append("]").toString();
+		ResponseBody body = new ResponseBody(gzip(large), Charsets.UTF_8, true);
+
+		List<CiResource> platforms = body.as(new TypeReference<List<CiResource>>(){});
+
+		assertEquals(2000, platforms.size());
+		assertEquals("platform-1999", platforms.get(1999).getCiName());
+		assertEquals(Long.valueOf(1999), platforms.get(1999).getCiId());
+	}
+
+	@Test
+	public void reportsMalformedListsAsClientExceptions() throws Exception {
+		ResponseBody body = new ResponseBody(gzip("[{\"ciName\":\"dal\"},"), Charsets.UTF_8, true);
+		try {
+			body.as(new TypeReference<List<CiResource>>(){});
+			fail("Expected a truncated list to be rejected");
+		} catch (OneOpsClientAPIException e) {
+			assertTrue(e.getMessage().startsWith("Failed to decode response as java.util.List"));
+		}
+	}
+
+	@Test
+	public void listEndpointsDecodeGzippedResponses() throws Exception {
+		InMemoryTransport server = new InMemoryTransport().respond("GET", "/clouds/",
+				new OneOpsResponse(200, "HTTP/1.1 200", JSON_HEADERS, new ResponseBody(gzip(CLOUDS), Charsets.UTF_8, true)));
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(server);
+
+		assertClouds(new Cloud(instance).listClouds());
+		assertEquals(1, server.getRequests().size());
+	}
+
+	private static void assertClouds(List<CiResource> clouds) {
+		assertEquals(2, clouds.size());
+		assertEquals(Long.valueOf(11), clouds.get(0).getCiId());
+		assertEquals("dal", clouds.get(0).getCiName());
+		assertEquals("/dal", clouds.get(0).getCiAttributes().getLocation());
+		assertEquals("default", clouds.get(1).getCiState());
+		assertEquals("/sjc", clouds.get(1).getCiAttributes().getLocation());
+	}
+
+	private static byte[] gzip(String json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		gzip.write(json.getBytes(Charsets.UTF_8));
+		gzip.close();
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,90 @@
+package com.oneops.api.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oneops.api.OOInstance;
+import com.oneops.api.metrics.MetricsRegistry;
+
+public class TransportsTest {
+
+	private InMemoryTransport server;
+	private OOInstance instance;
+
+	@Before
+	public void setUp() {
+		server = new InMemoryTransport().respond("GET", "/clouds/", 200, "[{\"ciName\":\"dal\"}]");
+		instance = new OOInstance();
+		instance.setAuthtoken("token");
+		instance.setOrgname("org");
+		instance.setEndpoint("http://localhost:9090/");
+		instance.setTransport(server);
+	}
+
+	@After
+	public void tearDown() {
+		Transports.release(instance);
+	}
+
+	@Test
+	public void appliesSettingsChangedAfterFirstUse() throws Exception {
+		get();
+		get();
+		assertEquals(2, server.getRequests().size());
+		assertNull(Transports.getCircuitBreaker(instance));
+
+		instance.setResponseCacheEnabled(true);
+		instance.setRetryPolicy(new RetryPolicy());
+		get();
+		get();
+		assertEquals(3, server.getRequests().size());
+		assertEquals(1, Transports.getResponseCacheStats(instance).getHits());
+		assertNotNull(Transports.getCircuitBreaker(instance));
+
+		instance.setResponseCacheEnabled(false);
+		get();
+		assertEquals(4, server.getRequests().size());
+	}
+
+	@Test
+	public void appliesChangesMadeInPlaceToCollectionSettings() throws Exception {
+		instance.setResponseCacheEnabled(true);
+		get();
+		get();
+		assertEquals(1, server.getRequests().size());
+
+		instance.getResponseCacheRouteTtlMillis().put("/clouds/", 0L);
+		get();
+		get();
+		assertEquals(3, server.getRequests().size());
+	}
+
+	@Test
+	public void keepsTheMetricsRegistryAcrossRebuilds() throws Exception {
+		get();
+		MetricsRegistry metrics = Transports.getMetrics(instance);
+		instance.setRequestCoalescingEnabled(false);
+		get();
+		assertSame(metrics, Transports.getMetrics(instance));
+	}
+
+	@Test
+	public void rebuildsWhenAnotherTransportIsSupplied() throws Exception {
+		get();
+		InMemoryTransport other = new InMemoryTransport().respond("GET", "/clouds/", 200, "[]");
+		instance.setTransport(other);
+		get();
+		assertEquals(1, server.getRequests().size());
+		assertEquals(1, other.getRequests().size());
+	}
+
+	private void get() throws Exception {
+		assertEquals(200, Transports.createRequest(instance).get("/clouds/").getStatusCode());
+	}
+}
@@ -0,0 +1,80 @@
+package com.oneops.api.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.oneops.api.ExecutionMode;
+import com.oneops.api.OOInstance;
+import com.oneops.api.async.Executions;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.Transition;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.transport.InMemoryTransport;
+
+/**
+ * Compares platform thread pools with virtual threads on a fan-out over all platform components of an
+ * environment, against an in-memory server answering every call after a fixed latency.
+ *
+ * Run on a JVM with virtual threads (21+) to measure them; older JVMs fall back to platform threads. Each pool
+ * runs as many calls at once as it has threads, virtual threads run all of them at once.
+ * Arguments: [platforms] [latency millis] [rounds]
+ */
+public class ExecutionModeBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int platforms = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		long latency = args.length > 1 ? Long.parseLong(args[1]) : 50;
+		int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+
+		InMemoryTransport transport = new InMemoryTransport().latency(latency, TimeUnit.MILLISECONDS);
+		String environmentUri = "/assemblies/bench/transition/environments/prod/platforms/";
+		StringBuilder list = new StringBuilder("[");
+		for(int i = 0; i < platforms; i++) {
+			list.append(i == 0 ? "" : ",").append("{\"ciId\":").append(i).append(",\"ciName\":\"p").append(i).append("\"}");
+			transport.respond("GET", environmentUri + "p" + i + "/components/", 200,
+					"[{\"ciId\":" + i + ",\"ciName\":\"tomcat\",\"ciClassName\":\"bom.main.2.Tomcat\"}]");
+		}
+		transport.respond("GET", environmentUri, 200, list.append("]").toString());
+
+		System.out.println(String.format("%d platforms, %dms latency, virtual threads supported: %s",
+				platforms, latency, Executions.isVirtualThreadsSupported()));
+		for(int threads : new int[] { 16, 64, 256 }) {
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			OOInstance instance = instance(transport);
+			instance.setExecutor(pool);
+			instance.setBulkParallelism(threads);
+			run("platform pool of " + threads, instance, rounds, platforms);
+			pool.shutdown();
+		}
+		OOInstance instance = instance(transport);
+		instance.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+		run("virtual threads", instance, rounds, platforms);
+	}
+
+	private static OOInstance instance(InMemoryTransport transport) {
+		OOInstance instance = new OOInstance();
+		instance.setAuthtoken("benchmark");
+		instance.setOrgname("bench-org");
+		instance.setEndpoint("http://localhost/");
+		instance.setTransport(transport);
+		return instance;
+	}
+
+	private static void run(String name, OOInstance instance, int rounds, int platforms) throws OneOpsClientAPIException {
+		Transition transition = new Transition(instance, "bench");
+		long best = Long.MAX_VALUE;
+		for(int i = 0; i < rounds; i++) {
+			long start = System.nanoTime();
+			Map<String, List<CiResource>> components = transition.listAllPlatformComponents("prod");
+			long elapsed = System.nanoTime() - start;
+			if(components.size() != platforms) {
+				throw new IllegalStateException("Expected " + platforms + " platforms, got " + components.size());
+			}
+			best = Math.min(best, elapsed);
+		}
+		System.out.println(String.format("%-24s best of %d: %6d ms", name, rounds, TimeUnit.NANOSECONDS.toMillis(best)));
+	}
+}
@@ -0,0 +1,107 @@
+package com.oneops.api.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oneops.api.ResourceObject;
+
+/**
+ * Checks the bodies written by {@link JsonBody} against the JSONObject trees they replace
+ */
+@SuppressWarnings("deprecation")
+public class JsonBodyTest {
+
+	private static final ObjectMapper STRICT = new ObjectMapper().enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+
+	@Test
+	public void writesDesignComponentsAsJsonObject() throws Exception {
+		ResourceObject ro = resource(map("ciName", "tomcat", "comments", "app \"server\"\n", "ciClassName", "catalog.Tomcat"),
+				map("description", "app server", "port", "8080", "path", "/opt/tömcat"),
+				map("description", "design", "port", "design"));
+
+		assertSame(JsonUtil.createJsonObject(ro, "cms_dj_ci"), JsonBody.of(ro, "cms_dj_ci"));
+		assertSame(JsonUtil.createJsonObject(ro, null), JsonBody.of(ro, null));
+	}
+
+	@Test
+	public void writesDeploymentsAndVariablesAsJsonObject() throws Exception {
+		ResourceObject deployment = resource(map("nsPath", "/org/app/qa/bom", "releaseId", "2", "comments", "deploy"), null, null);
+		assertSame(JsonUtil.createJsonObject(deployment, "cms_deployment"), JsonBody.of(deployment, "cms_deployment"));
+
+		ResourceObject variable = resource(null, map("secure", "false", "value", "42"), map("value", "manifest"));
+		assertSame(JsonUtil.createJsonObject(variable, "cms_dj_ci"), JsonBody.of(variable, "cms_dj_ci"));
+	}
+
+	@Test
+	public void leavesOutNullValuesAndEmptyMaps() throws Exception {
+		ResourceObject ro = resource(map("ciName", "tomcat", "comments", null),
+				map("description", null, "port", "8080"), new LinkedHashMap<String, String>());
+
+		assertSame(JsonUtil.createJsonObject(ro, "cms_dj_ci"), JsonBody.of(ro, "cms_dj_ci"));
+		assertSame(JsonUtil.createJsonObject(new ResourceObject(), "cms_dj_ci"), JsonBody.of(new ResourceObject(), "cms_dj_ci"));
+		assertSame(JsonUtil.createJsonObject(null, "cms_ci"), JsonBody.of(null, "cms_ci"));
+		assertSame(JsonUtil.createJsonObject(null, null), JsonBody.of(null, null));
+		assertEquals("{\"cms_ci\":{}}", JsonBody.of(null, "cms_ci").put("comments", "x").put("comments", null).toString());
+	}
+
+	@Test
+	public void attributesAndOwnersOverwritePropertiesOfTheSameName() throws Exception {
+		ResourceObject ro = resource(map("ciName", "tomcat", "ciAttributes", "from properties", "ciAttrProps", "from properties"),
+				map("port", "8080"), map("port", "design"));
+
+		assertSame(JsonUtil.createJsonObject(ro, "cms_dj_ci"), JsonBody.of(ro, "cms_dj_ci"));
+		assertEquals("8080", STRICT.readTree(JsonBody.of(ro, null).toByteArray()).path("ciAttributes").path("port").asText());
+
+		ResourceObject withoutAttributes = resource(map("ciName", "tomcat", "ciAttributes", "from properties"), null, null);
+		assertSame(JsonUtil.createJsonObject(withoutAttributes, null), JsonBody.of(withoutAttributes, null));
+	}
+
+	@Test
+	public void addedFieldsOverwriteTheResource() throws Exception {
+		ResourceObject ro = resource(map("ciName", "tomcat", "comments", "from properties"), map("port", "8080"), null);
+
+		JSONObject nested = JsonUtil.createJsonObject(ro, "cms_dj_ci");
+		nested.put("template_name", "tomcat");
+		nested.put("sibling_depends_on", Arrays.asList(11L, 12L));
+		assertSame(nested, JsonBody.of(ro, "cms_dj_ci").put("template_name", "tomcat")
+				.put("sibling_depends_on", Arrays.asList(11L, 12L)));
+
+		JSONObject replaced = JsonUtil.createJsonObject(ro, "cms_dj_ci");
+		replaced.put("cms_dj_ci", "replaced");
+		assertSame(replaced, JsonBody.of(ro, "cms_dj_ci").put("cms_dj_ci", "replaced"));
+
+		JSONObject flat = JsonUtil.createJsonObject(ro, null);
+		flat.put("comments", "added");
+		flat.put("ciAttributes", map("port", "9090"));
+		assertSame(flat, JsonBody.of(ro, null).put("comments", "added").put("ciAttributes", map("port", "9090")));
+	}
+
+	private static void assertSame(JSONObject expected, JsonBody actual) throws Exception {
+		assertEquals(STRICT.readTree(expected.toString()), STRICT.readTree(actual.toByteArray()));
+		assertEquals(STRICT.readTree(expected.toString()), STRICT.readTree(actual.toString()));
+	}
+
+	private static ResourceObject resource(Map<String, String> properties, Map<String, String> attributes, Map<String, String> owners) {
+		ResourceObject ro = new ResourceObject();
+		ro.setProperties(properties);
+		ro.setAttributes(attributes);
+		ro.setOwnerProps(owners);
+		return ro;
+	}
+
+	private static Map<String, String> map(String... entries) {
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for(int i = 0; i < entries.length; i += 2) {
+			map.put(entries[i], entries[i + 1]);
+		}
+		return map;
+	}
+}
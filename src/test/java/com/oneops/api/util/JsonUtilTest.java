@@ -0,0 +1,96 @@
+package com.oneops.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.LazyAttributes;
+import com.oneops.api.resource.model.Team;
+import com.oneops.api.resource.model.User;
+
+public class JsonUtilTest {
+
+	@Test
+	public void reportsMalformedJsonWithTheTargetType() {
+		try {
+			JsonUtil.toObject("[{\"ciName\":", new TypeReference<List<CiResource>>() {});
+			fail("Expected malformed json to be reported");
+		} catch (OneOpsClientAPIException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("CiResource"));
+			assertTrue(e.getCause() instanceof JsonProcessingException);
+		}
+		try {
+			JsonUtil.toObject(new ByteArrayInputStream("{\"ciId\":".getBytes(Charsets.UTF_8)), CiResource.class);
+			fail("Expected malformed json to be reported");
+		} catch (OneOpsClientAPIException e) {
+			assertEquals("Failed to decode json as CiResource", e.getMessage());
+		}
+	}
+
+	@Test
+	public void reportsValuesThatCannotBeConverted() {
+		try {
+			JsonUtil.convert(ImmutableMap.of("ciId", "not a number"), new TypeReference<CiResource>() {});
+			fail("Expected the conversion failure to be reported");
+		} catch (OneOpsClientAPIException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("CiResource"));
+			assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+	}
+
+	@Test
+	public void ignoresUnknownTeamAndUserProperties() throws Exception {
+		List<Team> teams = JsonUtil.toObject("[{\"id\":\"7\",\"name\":\"ops\",\"restricted\":true}]", new TypeReference<List<Team>>() {});
+		assertEquals("ops", teams.get(0).getName());
+		User user = JsonUtil.toObject(new ByteArrayInputStream("{\"id\":\"3\",\"username\":\"jdoe\",\"eula_accepted_at\":null}"
+				.getBytes(Charsets.UTF_8)), User.class);
+		assertEquals("jdoe", user.getUsername());
+	}
+
+	@Test
+	public void reportsUnknownPropertiesOfStrictTypes() {
+		try {
+			JsonUtil.toObject("{\"retryPolicy\":{\"maxAttempts\":3,\"unknown\":1}}", new TypeReference<Map<String, RetryHolder>>() {});
+			fail("Expected the unknown property to be reported");
+		} catch (OneOpsClientAPIException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("RetryHolder"));
+		}
+	}
+
+	@Test
+	public void cachesReadersAndWritersPerType() {
+		assertSame(JsonUtil.reader(CiResource.class), JsonUtil.reader(CiResource.class));
+		assertSame(JsonUtil.reader(new TypeReference<List<CiResource>>() {}), JsonUtil.reader(new TypeReference<List<CiResource>>() {}));
+		assertNotSame(JsonUtil.reader(CiResource.class), JsonUtil.reader(new TypeReference<List<CiResource>>() {}));
+		assertSame(JsonUtil.writer(CiResource.class), JsonUtil.writer(CiResource.class));
+		assertSame(JsonUtil.reader(CiResource.class), JsonUtil.reader(CiResource.class, ImmutableMap.of()));
+		assertNotSame(JsonUtil.reader(CiResource.class),
+				JsonUtil.reader(CiResource.class, ImmutableMap.of(LazyAttributes.LAZY, Boolean.TRUE)));
+	}
+
+	public static class RetryHolder {
+
+		private int maxAttempts;
+
+		public int getMaxAttempts() {
+			return maxAttempts;
+		}
+		public void setMaxAttempts(int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+		}
+	}
+}
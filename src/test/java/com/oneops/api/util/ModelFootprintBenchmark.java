@@ -0,0 +1,58 @@
+package com.oneops.api.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.LazyAttributes;
+import com.oneops.api.resource.model.SharedAttributes;
+
+/**
+ * Measures the heap retained per decoded CI, with the plain model, with the strings of the client interned,
+ * with the attribute maps shared as well and with the attributes kept raw instead.
+ *
+ * Retained heap is the used heap difference around the decode, after full collections, so run it with a
+ * fixed heap (e.g. -Xms2g -Xmx2g) for stable figures.
+ * Arguments: [instances]
+ */
+public class ModelFootprintBenchmark {
+
+	private static final TypeReference<List<CiResource>> INSTANCES = new TypeReference<List<CiResource>>(){};
+
+	public static void main(String[] args) throws Exception {
+		int instances = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		byte[] json = ResponseDecodingBenchmark.instancesJson(instances).getBytes(Charsets.UTF_8);
+		System.out.println(String.format("%d instances, %.1f MB json", instances, json.length / 1048576.0));
+
+		for(int round = 0; round < 2; round++) {
+			measure("plain", json, instances, ImmutableMap.<String, Object>of());
+			measure("interned", json, instances, ImmutableMap.<String, Object>of(StringInterner.ATTRIBUTE, new StringInterner()));
+			measure("interned, lazy", json, instances, ImmutableMap.<String, Object>of(StringInterner.ATTRIBUTE, new StringInterner(),
+					LazyAttributes.LAZY, Boolean.TRUE));
+			measure("interned, shared", json, instances, ImmutableMap.<String, Object>of(StringInterner.ATTRIBUTE, new StringInterner(),
+					SharedAttributes.ATTRIBUTE, new SharedAttributes()));
+		}
+	}
+
+	private static void measure(String name, byte[] json, int instances, Map<String, Object> attributes) throws IOException {
+		long before = usedHeap();
+		List<CiResource> decoded = JsonUtil.reader(INSTANCES, attributes).readValue(json);
+		long retained = usedHeap() - before;
+		if(decoded.size() != instances) {
+			throw new IllegalStateException("Expected " + instances + " instances, got " + decoded.size());
+		}
+		System.out.println(String.format("%-16s %6d bytes per CI", name, retained / instances));
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for(int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,122 @@
+package com.oneops.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.base.Charsets;
+
+public class ParallelArrayDecoderTest {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+	private static final TypeReference<List<Map<String, Object>>> LIST = new TypeReference<List<Map<String, Object>>>() {};
+
+	/**
+	 * Smallest number of elements split in two runs
+	 */
+	private static final int SPLIT_THRESHOLD = 128;
+
+	@AfterClass
+	public static void shutdown() {
+		POOL.shutdown();
+	}
+
+	@Test
+	public void doesNotSplitEmptyOrSingleElementArrays() throws Exception {
+		assertNull(ParallelArrayDecoder.split(utf8("[]"), 16));
+		assertNull(ParallelArrayDecoder.split(utf8(" [ ] "), 16));
+		assertNull(ParallelArrayDecoder.split(utf8("[{\"ciId\":1}]"), 16));
+		assertDecodedLikeSequential("[]");
+		assertDecodedLikeSequential("[{\"ciId\":1}]");
+	}
+
+	@Test
+	public void doesNotSplitMalformedArrays() {
+		assertNull(ParallelArrayDecoder.split(utf8("{\"ciId\":1}"), 16));
+		assertNull(ParallelArrayDecoder.split(utf8(array(SPLIT_THRESHOLD).replaceAll("]$", "")), 16));
+	}
+
+	@Test
+	public void splitsOnlyFromTheThreshold() throws Exception {
+		assertNull(ParallelArrayDecoder.split(utf8(array(SPLIT_THRESHOLD - 1)), 16));
+		int[] bounds = ParallelArrayDecoder.split(utf8(array(SPLIT_THRESHOLD)), 16);
+		assertNotNull(bounds);
+		assertEquals(4, bounds.length);
+
+		assertDecodedLikeSequential(array(SPLIT_THRESHOLD - 1));
+		assertDecodedLikeSequential(array(SPLIT_THRESHOLD));
+		assertDecodedLikeSequential(array(SPLIT_THRESHOLD + 1));
+		assertDecodedLikeSequential(array(5000));
+	}
+
+	@Test
+	public void runsStartAndEndOnElementBoundaries() {
+		String json = array(1000);
+		int[] bounds = ParallelArrayDecoder.split(utf8(json), 8);
+		assertEquals(16, bounds.length);
+		for(int i = 0; i < bounds.length; i += 2) {
+			assertEquals('{', json.charAt(bounds[i]));
+			assertEquals('}', json.charAt(bounds[i + 1] - 1));
+		}
+	}
+
+	@Test
+	public void ignoresSeparatorsInStringsAndNestedValues() throws Exception {
+		StringBuilder json = new StringBuilder("[\n");
+		for(int i = 0; i < 600; i++) {
+			if(i > 0) {
+				json.append(",\n");
+			}
+			json.append("{\"ciId\":").append(i)
+					.append(",\"comments\":\"quote \\\" ], { \\\\\",")
+					.append("\"tags\":[[\"a,b\",\"]\"],{\"x\":[1,2,{\"y\":\"}\"}]}],")
+					.append("\"ciAttributes\":{\"path\":\"C:\\\\dir\\\\\",\"nested\":{\"list\":[\"[\",\"{\"]}}}");
+		}
+		json.append("\n]");
+		assertNotNull(ParallelArrayDecoder.split(utf8(json.toString()), 16));
+		assertDecodedLikeSequential(json.toString());
+	}
+
+	@Test
+	public void acceptsListTypesFromTheThresholdBytes() {
+		ParallelArrayDecoder decoder = new ParallelArrayDecoder(POOL, 1024);
+		JavaType list = JsonUtil.mapper().getTypeFactory().constructType(LIST);
+		assertFalse(decoder.accepts(list, 1023));
+		assertTrue(decoder.accepts(list, 1024));
+		assertFalse(decoder.accepts(JsonUtil.mapper().getTypeFactory().constructType(Map.class), 4096));
+	}
+
+	private static void assertDecodedLikeSequential(String json) throws Exception {
+		ObjectReader reader = JsonUtil.reader(LIST);
+		List<Map<String, Object>> sequential = reader.readValue(utf8(json));
+		List<Map<String, Object>> parallel = new ParallelArrayDecoder(POOL, 0).decode(reader, utf8(json));
+		assertEquals(sequential, parallel);
+	}
+
+	private static String array(int elements) {
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < elements; i++) {
+			if(i > 0) {
+				json.append(',');
+			}
+			json.append("{\"ciId\":").append(i).append(",\"ciName\":\"ci-").append(i).append("\"}");
+		}
+		return json.append(']').toString();
+	}
+
+	private static byte[] utf8(String json) {
+		return json.getBytes(Charsets.UTF_8);
+	}
+}
@@ -0,0 +1,59 @@
+package com.oneops.api.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.transport.ResponseBody;
+
+/**
+ * Compares decoding a large instance list on the calling thread with decoding its elements in parallel
+ * through {@link ParallelArrayDecoder}.
+ *
+ * Both decodes are checked to return the same instances in the same order before measuring.
+ * Arguments: [instances] [rounds]
+ */
+public class ParallelDecodingBenchmark {
+
+	private static final TypeReference<List<CiResource>> INSTANCES = new TypeReference<List<CiResource>>(){};
+
+	public static void main(String[] args) throws Exception {
+		int instances = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		byte[] json = ResponseDecodingBenchmark.instancesJson(instances).getBytes(Charsets.UTF_8);
+		ResponseBody body = new ResponseBody(json, Charsets.UTF_8);
+		System.out.println(String.format("%d instances, %.1f MB json, %d processors", instances,
+				json.length / 1048576.0, Runtime.getRuntime().availableProcessors()));
+
+		ParallelArrayDecoder decoder = new ParallelArrayDecoder(0);
+		List<CiResource> sequential = body.as(INSTANCES);
+		List<CiResource> parallel = decoder.decode(JsonUtil.reader(INSTANCES), json);
+		for(int i = 0; i < instances; i++) {
+			if(!sequential.get(i).getCiId().equals(parallel.get(i).getCiId())) {
+				throw new IllegalStateException("Instance " + i + " differs");
+			}
+		}
+
+		for(int round = 0; round < 2; round++) {
+			long start = System.nanoTime();
+			for(int i = 0; i < rounds; i++) {
+				body.as(INSTANCES);
+			}
+			report("sequential", rounds, System.nanoTime() - start);
+
+			start = System.nanoTime();
+			for(int i = 0; i < rounds; i++) {
+				decoder.decode(JsonUtil.reader(INSTANCES, ImmutableMap.<String, Object>of()), json);
+			}
+			report("parallel", rounds, System.nanoTime() - start);
+		}
+	}
+
+	private static void report(String name, int rounds, long nanos) {
+		System.out.println(String.format("%-12s %6d ms per decode", name, TimeUnit.NANOSECONDS.toMillis(nanos / rounds)));
+	}
+}
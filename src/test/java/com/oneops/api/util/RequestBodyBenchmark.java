@@ -0,0 +1,88 @@
+package com.oneops.api.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Maps;
+import com.oneops.api.ResourceObject;
+
+/**
+ * Compares writing request bodies through an org.json tree and its String with streaming them to bytes
+ * through {@link JsonBody}, for a typical component update and for an attachment carrying a large YAML content.
+ *
+ * Both outputs are checked to decode to the same JSON before measuring.
+ * Arguments: [iterations] [attachment KB]
+ */
+public class RequestBodyBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		int attachmentKb = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+
+		ResourceObject component = new ResourceObject();
+		Map<String, String> properties = Maps.newHashMap();
+		properties.put("ciName", "tomcat");
+		properties.put("ciClassName", "catalog.oneops.1.Tomcat");
+		component.setProperties(properties);
+		Map<String, String> attributes = Maps.newHashMap();
+		for(int i = 0; i < 40; i++) {
+			attributes.put("attribute_" + i, "value of attribute " + i + " with \"quotes\" and a / slash");
+		}
+		component.setAttributes(attributes);
+		Map<String, String> owner = Maps.newHashMap();
+		owner.put("attribute_1", "design");
+		component.setOwnerProps(owner);
+
+		ResourceObject attachment = new ResourceObject();
+		Map<String, String> content = Maps.newHashMap();
+		StringBuilder yaml = new StringBuilder();
+		for(int i = 0; yaml.length() < attachmentKb * 1024; i++) {
+			yaml.append("service_").append(i).append(":\n  image: registry.example.com/app:1.").append(i)
+				.append("\n  env:\n    - \"JAVA_OPTS=-Xmx2g\"\n\tports: [8080]\n");
+		}
+		content.put("content", yaml.toString());
+		content.put("path", "/opt/app/compose.yml");
+		attachment.setAttributes(content);
+
+		run("component", component, iterations);
+		run("attachment " + attachmentKb + " KB", attachment, Math.max(10, iterations / 100));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void run(String name, ResourceObject ro, int iterations) throws Exception {
+		byte[] tree = JsonUtil.createJsonObject(ro, "cms_dj_ci").toString().getBytes(Charsets.UTF_8);
+		byte[] streamed = JsonBody.of(ro, "cms_dj_ci").toByteArray();
+		if(!JsonUtil.mapper().readTree(tree).equals(JsonUtil.mapper().readTree(streamed))) {
+			throw new IllegalStateException("Bodies differ for " + name);
+		}
+
+		for(int round = 0; round < 3; round++) {
+			long allocated = allocatedBytes();
+			long start = System.nanoTime();
+			long bytes = 0;
+			for(int i = 0; i < iterations; i++) {
+				bytes += JsonUtil.createJsonObject(ro, "cms_dj_ci").toString().getBytes(Charsets.UTF_8).length;
+			}
+			report(name, "org.json tree", iterations, System.nanoTime() - start, allocatedBytes() - allocated, bytes);
+
+			allocated = allocatedBytes();
+			start = System.nanoTime();
+			bytes = 0;
+			for(int i = 0; i < iterations; i++) {
+				bytes += JsonBody.of(ro, "cms_dj_ci").toByteArray().length;
+			}
+			report(name, "streamed", iterations, System.nanoTime() - start, allocatedBytes() - allocated, bytes);
+		}
+	}
+
+	private static void report(String name, String writer, int iterations, long nanos, long allocated, long bytes) {
+		System.out.println(String.format("%-18s %-14s %8.2f us/op, %9.1f KB allocated/op, %8d bytes/op", name, writer,
+				nanos / 1000.0 / iterations, allocated / 1024.0 / iterations, bytes / iterations));
+	}
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
@@ -0,0 +1,136 @@
+package com.oneops.api.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.oneops.api.exception.OneOpsClientAPIException;
+import com.oneops.api.resource.model.CiResource;
+import com.oneops.api.resource.model.LazyAttributes;
+import com.oneops.api.transport.ResponseBody;
+
+/**
+ * Compares decoding a large instance list through an intermediate String with decoding it straight from
+ * the response stream, plain and gzip encoded as received on the wire, and with attributes kept raw until accessed.
+ *
+ * Allocation is measured per decode on the benchmark thread, including the decoded model.
+ * Arguments: [instances] [rounds]
+ */
+public class ResponseDecodingBenchmark {
+
+	private static final TypeReference<List<CiResource>> INSTANCES = new TypeReference<List<CiResource>>(){};
+
+	public static void main(String[] args) throws Exception {
+		int instances = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		byte[] json = instancesJson(instances).getBytes(Charsets.UTF_8);
+		final ResponseBody plain = new ResponseBody(json, Charsets.UTF_8);
+		final ResponseBody gzipped = new ResponseBody(gzip(json), Charsets.UTF_8, true);
+		System.out.println(String.format("%d instances, %.1f MB json, %.1f MB gzipped", instances,
+				json.length / 1048576.0, gzipped.length() / 1048576.0));
+
+		run("string then parse", rounds, instances, new Decoder() {
+			@Override
+			public List<CiResource> decode() throws OneOpsClientAPIException {
+				return JsonUtil.toObject(plain.asString(), INSTANCES);
+			}
+		});
+		run("streaming", rounds, instances, new Decoder() {
+			@Override
+			public List<CiResource> decode() throws OneOpsClientAPIException {
+				return plain.as(INSTANCES);
+			}
+		});
+		run("streaming from gzip", rounds, instances, new Decoder() {
+			@Override
+			public List<CiResource> decode() throws OneOpsClientAPIException {
+				return gzipped.as(INSTANCES);
+			}
+		});
+		final ObjectReader lazy = JsonUtil.reader(INSTANCES, ImmutableMap.of(LazyAttributes.LAZY, Boolean.TRUE));
+		List<CiResource> decoded = run("lazy attributes", rounds, instances, new Decoder() {
+			@Override
+			public List<CiResource> decode() throws IOException {
+				return lazy.readValue(plain.asInputStream());
+			}
+		});
+		if(!"M".equals(decoded.get(0).getCiAttributes().getAdditionalProperties().get("size"))) {
+			throw new IllegalStateException("Lazy attributes not decoded on access");
+		}
+	}
+
+	private interface Decoder {
+		List<CiResource> decode() throws IOException, OneOpsClientAPIException;
+	}
+
+	private static List<CiResource> run(String name, int rounds, int instances, Decoder decoder)
+			throws IOException, OneOpsClientAPIException {
+		long best = Long.MAX_VALUE;
+		long allocated = 0;
+		List<CiResource> decoded = null;
+		for(int i = 0; i < rounds; i++) {
+			long allocatedBefore = allocatedBytes();
+			long start = System.nanoTime();
+			decoded = decoder.decode();
+			long elapsed = System.nanoTime() - start;
+			allocated = allocatedBytes() - allocatedBefore;
+			if(decoded.size() != instances) {
+				throw new IllegalStateException("Expected " + instances + " instances, got " + decoded.size());
+			}
+			best = Math.min(best, elapsed);
+		}
+		System.out.println(String.format("%-20s best of %d: %5d ms, %6.1f MB allocated per decode", name, rounds,
+				TimeUnit.NANOSECONDS.toMillis(best), allocated / 1048576.0));
+		return decoded;
+	}
+
+	private static long allocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * JSON list of compute instances shaped like the ones returned for a component
+	 */
+	static String instancesJson(int instances) {
+		StringBuilder json = new StringBuilder("[");
+		for(int i = 0; i < instances; i++) {
+			json.append(i == 0 ? "" : ",")
+				.append("{\"ciId\":").append(100000 + i)
+				.append(",\"ciName\":\"compute-").append(i).append("\"")
+				.append(",\"ciClassName\":\"bom.oneops.1.Compute\"")
+				.append(",\"impl\":\"oo::chef-12.11.18\"")
+				.append(",\"nsPath\":\"/org/assembly/prod/bom/tomcat/1\"")
+				.append(",\"ciGoid\":\"").append(90000 + i).append("-1234-").append(i).append("\"")
+				.append(",\"comments\":\"\",\"ciState\":\"default\",\"lastAppliedRfcId\":").append(5000 + i)
+				.append(",\"createdBy\":\"deployer\",\"updatedBy\":null,\"created\":1490000000000,\"updated\":1490000000000")
+				.append(",\"nsId\":4242,\"ciAttributes\":{")
+				.append("\"size\":\"M\",\"ostype\":\"centos-7.2\",\"instance_name\":\"compute-").append(i).append("\"")
+				.append(",\"private_ip\":\"10.").append(i / 65536 % 256).append('.').append(i / 256 % 256).append('.').append(i % 256).append("\"")
+				.append(",\"public_ip\":\"\",\"hypervisor\":\"kvm\",\"availability_zone\":\"az").append(i % 3).append("\"")
+				.append(",\"metadata\":\"{\\\"owner\\\":\\\"team@example.com\\\",\\\"organization\\\":\\\"org\\\"}\"")
+				.append(",\"instance_state\":\"active\",\"task_state\":\"\",\"vm_state\":\"active\",\"cores\":\"4\",\"ram\":\"8192\"")
+				.append(",\"server_image_name\":\"centos-7.2-x86_64\",\"dns_record\":\"10.0.0.1\",\"hostname\":\"compute-").append(i).append(".prod.example.com\"")
+				.append(",\"instance_id\":\"").append(Integer.toHexString(0x10000000 + i * 7919)).append("-aaaa-bbbb-cccc-000000000000\"")
+				.append(",\"require_public_ip\":\"false\",\"repo_list\":\"[]\",\"tags\":\"{}\",\"ports\":\"{}\"}")
+				.append(",\"attrProps\":{}}");
+		}
+		return json.append("]").toString();
+	}
+
+	private static byte[] gzip(byte[] content) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		gzip.write(content);
+		gzip.close();
+		return out.toByteArray();
+	}
+}
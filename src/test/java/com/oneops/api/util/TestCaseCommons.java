@@ -13,12 +13,16 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import com.google.common.base.Predicates;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.jayway.restassured.path.json.JsonPath;
 import com.oneops.api.OOInstance;
+import com.oneops.api.async.DeploymentWatcher;
+import com.oneops.api.async.Executions;
+import com.oneops.api.async.Poller;
 import com.oneops.api.exception.OneOpsClientAPIException;
 import com.oneops.api.resource.Account;
 import com.oneops.api.resource.Assembly;
@@ -197,9 +201,10 @@ public class TestCaseCommons {
 		String nsPath = deploymentStatus.getNsPath();
 		
 		System.out.println("path " + nsPath + " deployment state: " + deploymentState);
-		while("active".equals(deploymentState)) {
-			Uninterruptibles.sleepUninterruptibly(20, TimeUnit.SECONDS);
-			deploymentStatus = transition.getDeploymentStatus(env, deploymentId);
+		if("active".equals(deploymentState)) {
+			DeploymentWatcher watcher = new DeploymentWatcher(instance, instance.getDeploymentPollPolicy(),
+					Executions.forInstance(instance), Predicates.not(Predicates.equalTo("active")));
+			deploymentStatus = Poller.await(watcher.watch(assembly, env, deploymentId), "watchDeployment", env);
 			deploymentState = deploymentStatus.getDeploymentState();
 			
 			if("failed".equals(deploymentState)) {